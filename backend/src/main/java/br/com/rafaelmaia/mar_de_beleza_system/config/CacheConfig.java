@@ -0,0 +1,36 @@
+package br.com.rafaelmaia.mar_de_beleza_system.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Cache em memória dos cadastros que quase não mudam (catálogo de serviços e equipe).
+// As remoções só acontecem após o commit, para uma leitura concorrente não guardar o valor antigo.
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SALON_SERVICES = "salonServices";
+    public static final String SALON_SERVICE_BY_ID = "salonServiceById";
+    public static final String USERS = "users";
+    public static final String USER_BY_ID = "userById";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.maximum-size:1000}") long maximumSize,
+                                     @Value("${app.cache.expire-after-write-minutes:60}") long expireAfterWriteMinutes) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(SALON_SERVICES, SALON_SERVICE_BY_ID, USERS, USER_BY_ID);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()); // Necessário para as métricas de hit/miss no Actuator
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
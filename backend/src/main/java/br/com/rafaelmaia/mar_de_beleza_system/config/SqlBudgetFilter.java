@@ -0,0 +1,81 @@
+package br.com.rafaelmaia.mar_de_beleza_system.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Orçamento de comandos SQL por requisição: mede quantos comandos e quanto tempo de banco cada endpoint gasta
+// (app.sql.statements / app.sql.time) e avisa quando passa do limite, com o SQL mais repetido (pista de N+1).
+// Os totais ficam também em atributos da requisição, usados pelas asserções dos testes de controller.
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    // Esconde o logger (commons-logging) herdado do GenericFilterBean
+    private static final Logger logger = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    public static final String STATEMENTS_ATTRIBUTE = SqlBudgetFilter.class.getName() + ".statements";
+    public static final String NANOS_ATTRIBUTE = SqlBudgetFilter.class.getName() + ".nanos";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+
+    public SqlBudgetFilter(MeterRegistry meterRegistry, int maxStatements) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestContext context = SqlRequestContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestContext.end();
+            request.setAttribute(STATEMENTS_ATTRIBUTE, context.statements());
+            request.setAttribute(NANOS_ATTRIBUTE, context.nanos());
+            record(request, context);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestContext context) {
+        // Mesmo padrão de URI do http.server.requests, para cruzar as duas métricas
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("app.sql.statements")
+                .description("Comandos SQL executados por requisição")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(context.statements());
+        Timer.builder("app.sql.time")
+                .description("Tempo total no banco por requisição")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(context.nanos(), TimeUnit.NANOSECONDS);
+
+        if (context.statements() > maxStatements) {
+            Counter.builder("app.sql.budget.exceeded")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            Map.Entry<String, Integer> mostRepeated = context.mostRepeated();
+            logger.warn("{} {} executou {} comandos SQL (orçamento: {}) em {} ms. Mais repetido ({}x): {}",
+                    method, uri, context.statements(), maxStatements, context.nanos() / 1_000_000,
+                    mostRepeated.getValue(), mostRepeated.getKey());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.rafaelmaia.mar_de_beleza_system.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Ouve cada execução JDBC (um lote conta como uma ida ao banco): soma na requisição corrente e loga as lentas.
+// As consultas lentas saem com o "formato" dos binds (tipos e quantidade, ex: IN com 37 Longs), nunca com os valores.
+class SqlExecutionListener implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlExecutionListener.class);
+    private static final String START = "sql.start";
+
+    private final long slowQueryNanos;
+
+    SqlExecutionListener(Duration slowQueryThreshold) {
+        this.slowQueryNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START, Long.class);
+        long elapsed = start != null ? System.nanoTime() - start : Duration.ofMillis(execInfo.getElapsedTime()).toNanos();
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null) {
+            context.record(sql, elapsed);
+        }
+
+        if (elapsed >= slowQueryNanos) {
+            logger.warn("Consulta lenta ({} ms{}): {} | binds: {}", elapsed / 1_000_000,
+                    execInfo.isBatch() ? ", lote de " + execInfo.getBatchSize() : "", sql, bindShape(queryInfoList));
+        }
+    }
+
+    private static String bindShape(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty() || queryInfoList.get(0).getParametersList().isEmpty()) {
+            return "nenhum";
+        }
+        List<List<ParameterSetOperation>> parameterSets = queryInfoList.get(0).getParametersList();
+        String shape = parameterSets.get(0).stream()
+                .filter(operation -> operation.getArgs() != null && operation.getArgs().length > 1)
+                .map(SqlExecutionListener::typeOf)
+                .collect(Collectors.joining(", ", "(", ")"));
+        return parameterSets.size() > 1 ? shape + " x " + parameterSets.size() : shape;
+    }
+
+    // setLong -> Long, setNull -> null, setObject -> classe do valor
+    private static String typeOf(ParameterSetOperation operation) {
+        String method = operation.getMethod().getName();
+        if (method.equals("setObject")) {
+            Object value = operation.getArgs()[1];
+            return value != null ? value.getClass().getSimpleName() : "null";
+        }
+        return method.equals("setNull") ? "null" : method.substring(3);
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.rafaelmaia.mar_de_beleza_system.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Monitoramento dos comandos SQL: o DataSource (Hikari) é envolvido por um proxy que mede cada execução, e o
+// filtro soma tudo por requisição. O proxy fica por fora do pool, então o tempo medido é o do banco, sem a espera
+// por conexão (essa já aparece em hikaricp.connections.acquire). Desligável com app.sql.monitor.enabled=false.
+@Configuration
+@ConditionalOnProperty(name = "app.sql.monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    // static: BeanPostProcessor precisa existir antes dos demais beans, inclusive do DataSource
+    @Bean
+    public static BeanPostProcessor sqlMonitoringDataSourcePostProcessor(
+            @Value("${app.sql.monitor.slow-query-ms:200}") long slowQueryMillis) {
+        SqlExecutionListener listener = new SqlExecutionListener(Duration.ofMillis(slowQueryMillis));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource).listener(listener).build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Antes de todos os filtros (inclusive o da segurança), para contar também as consultas da autenticação
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(MeterRegistry meterRegistry,
+                                                                  @Value("${app.sql.monitor.max-statements:15}") int maxStatements) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(new SqlBudgetFilter(meterRegistry, maxStatements));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
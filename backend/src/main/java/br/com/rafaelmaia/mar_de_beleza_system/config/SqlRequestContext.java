@@ -0,0 +1,47 @@
+package br.com.rafaelmaia.mar_de_beleza_system.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Comandos SQL executados pela requisição corrente (na thread dela) e o tempo total gasto no banco.
+// Guarda também quantas vezes cada SQL se repetiu: num N+1 o mesmo SELECT aparece dezenas de vezes.
+final class SqlRequestContext {
+
+    private static final ThreadLocal<SqlRequestContext> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+    private final Map<String, Integer> repetitions = new HashMap<>();
+
+    static SqlRequestContext begin() {
+        SqlRequestContext context = new SqlRequestContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    static SqlRequestContext current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void record(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        repetitions.merge(sql, 1, Integer::sum);
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long nanos() {
+        return nanos;
+    }
+
+    Map.Entry<String, Integer> mostRepeated() {
+        return repetitions.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+}
@@ -1,20 +1,28 @@
 package br.com.rafaelmaia.mar_de_beleza_system.controllers;
 
 import br.com.rafaelmaia.mar_de_beleza_system.controllers.docs.AppointmentControllerDocs;
+import br.com.rafaelmaia.mar_de_beleza_system.controllers.support.ETags;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentBatchRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentBatchResultDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ResponseView;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.StatusUpdateRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.ExportFormat;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -43,10 +51,18 @@ public class AppointmentController implements AppointmentControllerDocs {
         return ResponseEntity.created(uri).body(newAppointmentDTO);
     }
 
+    // Vários agendamentos em uma requisição (série recorrente, importação): resultado por item
+    @PostMapping("/batch")
+    @Override
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<AppointmentBatchResultDTO> createBatch(@RequestBody @Valid AppointmentBatchRequestDTO request) {
+        return ResponseEntity.ok(appointmentService.createBatch(request.appointments()));
+    }
+
     @GetMapping
     @Override
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Page<AppointmentResponseDTO>> findAll(
+    public ResponseEntity<?> findAll(
             // Parâmetros para o filtro de intervalo de datas (pag. de Gerenciamento)
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
@@ -59,23 +75,73 @@ public class AppointmentController implements AppointmentControllerDocs {
             @RequestParam(required = false) Long clientId,
             @RequestParam(required = false) String status,
 
+            // Formato da resposta: 'summary' (IDs e nomes) ou 'full' (padrão)
+            @RequestParam(defaultValue = "full") ResponseView view,
+
+            // Paginação por cursor: 'pagination=keyset' na primeira página e 'cursor' (nextCursor) nas seguintes
+            @RequestParam(required = false) String pagination,
+            @RequestParam(required = false) String cursor,
+
             Pageable pageable) {
 
+        boolean summary = view == ResponseView.SUMMARY;
+
+        // Modo cursor: sem OFFSET e sem COUNT, ordenado por (appointmentDate, id)
+        if (cursor != null || "keyset".equalsIgnoreCase(pagination)) {
+            LocalDate from = date != null ? date : startDate;
+            LocalDate to = date != null ? date : endDate;
+            Sort.Order order = pageable.getSort().getOrderFor("appointmentDate");
+            Sort.Direction direction = order != null ? order.getDirection() : Sort.Direction.ASC;
+            int size = Math.max(1, pageable.getPageSize());
+
+            return ResponseEntity.ok(summary
+                    ? appointmentService.findAppointmentSummariesByCursor(from, to, professionalId, clientId, status, cursor, size, direction)
+                    : appointmentService.findAppointmentsByCursor(from, to, professionalId, clientId, status, cursor, size, direction));
+        }
+
         // --- LÓGICA DE DECISÃO ---
         // Se o parâmetro 'date' foi enviado (pelo Dashboard), usamos a busca simples por dia.
         if (date != null) {
-            return ResponseEntity.ok(appointmentService.findAppointmentsByDate(date, pageable));
+            return ResponseEntity.ok(summary
+                    ? appointmentService.findAppointmentSummariesByDate(date, pageable)
+                    : appointmentService.findAppointmentsByDate(date, pageable));
         }
 
         // Senão, usamos a busca avançada com todos os filtros (pela pág. de Gerenciamento).
-        return ResponseEntity.ok(appointmentService.findAllAppointments(startDate, endDate, professionalId, clientId, status, pageable));
+        return ResponseEntity.ok(summary
+                ? appointmentService.findAllAppointmentSummaries(startDate, endDate, professionalId, clientId, status, pageable)
+                : appointmentService.findAllAppointments(startDate, endDate, professionalId, clientId, status, pageable));
+    }
+
+    // Exportação completa (sem paginação): linhas escritas na resposta conforme saem do banco
+    @GetMapping("/export")
+    @Override
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long professionalId,
+            @RequestParam(required = false) Long clientId,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "csv") ExportFormat format) {
+
+        // Executado fora da thread da requisição; a transação de leitura é aberta pelo serviço
+        StreamingResponseBody body = output ->
+                appointmentService.exportAppointments(startDate, endDate, professionalId, clientId, status, format, output);
+
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName("agendamentos")).build().toString())
+                .body(body);
     }
 
     @GetMapping("/{id}")
     @Override
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<AppointmentResponseDTO> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(appointmentService.findAppointmentById(id));
+        AppointmentResponseDTO appointment = appointmentService.findAppointmentById(id);
+        return ETags.ok(appointment, ETags.of(appointment));
     }
 
     @RequestMapping(value = "/{id}", method = {RequestMethod.PUT, RequestMethod.PATCH})
@@ -0,0 +1,68 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers;
+
+import br.com.rafaelmaia.mar_de_beleza_system.controllers.docs.AppointmentSeriesControllerDocs;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSeriesRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSeriesResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentSeriesService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/appointment-series")
+@RequiredArgsConstructor
+@Tag(name = "Appointment Series", description = "Endpoints for Managing Recurring Appointments")
+public class AppointmentSeriesController implements AppointmentSeriesControllerDocs {
+
+    private final AppointmentSeriesService seriesService;
+
+    @GetMapping("/{id}")
+    @Override
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<AppointmentSeriesResponseDTO> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(seriesService.findSeriesById(id));
+    }
+
+    @PostMapping
+    @Override
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<AppointmentSeriesResponseDTO> create(@RequestBody @Valid AppointmentSeriesRequestDTO request) {
+        AppointmentSeriesResponseDTO newSeries = seriesService.createSeries(request);
+
+        URI uri = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(newSeries.id())
+                .toUri();
+
+        return ResponseEntity.created(uri).body(newSeries);
+    }
+
+    // "Esta e as próximas": 'from' é o dia da primeira ocorrência afetada
+    @PutMapping("/{id}")
+    @Override
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<AppointmentSeriesResponseDTO> updateFrom(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestBody @Valid AppointmentSeriesRequestDTO request) {
+        return ResponseEntity.ok(seriesService.updateFrom(id, from, request));
+    }
+
+    @DeleteMapping("/{id}")
+    @Override
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> cancelFrom(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        seriesService.cancelFrom(id, from);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers;
+
+import br.com.rafaelmaia.mar_de_beleza_system.controllers.docs.AvailabilityControllerDocs;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AvailabilityResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AvailabilityService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/availability")
+@RequiredArgsConstructor
+@Tag(name = "Availability", description = "Endpoints for Searching Free Appointment Slots")
+public class AvailabilityController implements AvailabilityControllerDocs {
+
+    private final AvailabilityService availabilityService;
+
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    @Override
+    public ResponseEntity<AvailabilityResponseDTO> findAvailability(
+            @RequestParam Long serviceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) Long professionalId) {
+        return ResponseEntity.ok(availabilityService.findAvailability(serviceId, date, days, professionalId));
+    }
+}
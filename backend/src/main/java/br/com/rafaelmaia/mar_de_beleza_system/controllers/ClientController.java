@@ -1,6 +1,8 @@
 package br.com.rafaelmaia.mar_de_beleza_system.controllers;
 
 import br.com.rafaelmaia.mar_de_beleza_system.controllers.docs.ClientControllerDocs;
+import br.com.rafaelmaia.mar_de_beleza_system.controllers.support.ETags;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientImportResultDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientResponseDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.services.ClientService;
@@ -9,11 +11,14 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 
 @RestController
@@ -28,16 +33,16 @@ public class ClientController implements ClientControllerDocs {
     @Override
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ClientResponseDTO> findById(@PathVariable Long id) {
-
-        return ResponseEntity.ok().body(service.findClientById(id));
+        ClientResponseDTO client = service.findClientById(id);
+        return ETags.ok(client, ETags.of(client));
     }
 
     @GetMapping
     @Override
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Page<ClientResponseDTO>> findAll(Pageable pageable) {
-
-        return ResponseEntity.ok().body(service.findAllClients(pageable));
+        Page<ClientResponseDTO> clients = service.findAllClients(pageable);
+        return ETags.ok(clients, ETags.ofClients(clients));
     }
 
     @PostMapping
@@ -69,4 +74,12 @@ public class ClientController implements ClientControllerDocs {
         service.deleteClient(id);
         return ResponseEntity.noContent().build();
     }
+
+    // Corpo lido direto da requisição: o arquivo não é carregado inteiro em memória nem passa por multipart
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    @Override
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ClientImportResultDTO> importClients(InputStream csv) throws IOException {
+        return ResponseEntity.ok(service.importClients(csv));
+    }
 }
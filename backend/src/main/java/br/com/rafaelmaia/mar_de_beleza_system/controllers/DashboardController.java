@@ -0,0 +1,46 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers;
+
+import br.com.rafaelmaia.mar_de_beleza_system.controllers.docs.DashboardControllerDocs;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.DashboardSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Dashboard", description = "Endpoints for Dashboard Indicators")
+public class DashboardController implements DashboardControllerDocs {
+
+    private final RollupService rollupService;
+
+    @GetMapping("/summary")
+    @PreAuthorize("isAuthenticated()")
+    @Override
+    public ResponseEntity<DashboardSummaryDTO> summary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long professionalId) {
+        return ResponseEntity.ok(rollupService.getDashboard(startDate, endDate, professionalId));
+    }
+
+    @PostMapping("/rollups/rebuild")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    @Override
+    public ResponseEntity<Void> rebuildRollups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (startDate == null && endDate == null) {
+            rollupService.rebuildAll();
+        } else {
+            rollupService.rebuild(startDate, endDate);
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
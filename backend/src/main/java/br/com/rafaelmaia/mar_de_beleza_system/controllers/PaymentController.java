@@ -4,17 +4,24 @@ import br.com.rafaelmaia.mar_de_beleza_system.controllers.docs.PaymentController
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ResponseView;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenuePeriod;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenueReportDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.services.PaymentService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.ExportFormat;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -39,15 +46,68 @@ public class PaymentController implements PaymentControllerDocs {
     @GetMapping
     @PreAuthorize("isAuthenticated()")
     @Override
-    public ResponseEntity<Page<PaymentResponseDTO>> findAll(
+    public ResponseEntity<?> findAll(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) Long professionalId,
             @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(defaultValue = "full") ResponseView view,
+            @RequestParam(required = false) String pagination,
+            @RequestParam(required = false) String cursor,
             Pageable pageable) {
+        boolean summary = view == ResponseView.SUMMARY;
+
+        // Modo cursor: sem OFFSET e sem COUNT, ordenado por (paymentDate, id)
+        if (cursor != null || "keyset".equalsIgnoreCase(pagination)) {
+            Sort.Order order = pageable.getSort().getOrderFor("paymentDate");
+            Sort.Direction direction = order != null ? order.getDirection() : Sort.Direction.ASC;
+            int size = Math.max(1, pageable.getPageSize());
+
+            return ResponseEntity.ok(summary
+                    ? paymentService.findPaymentSummariesByCursor(startDate, endDate, professionalId, status, cursor, size, direction)
+                    : paymentService.findPaymentsByCursor(startDate, endDate, professionalId, status, cursor, size, direction));
+        }
+
+        if (summary) {
+            return ResponseEntity.ok(paymentService.findAllPaymentSummaries(startDate, endDate, professionalId, status, pageable));
+        }
         return ResponseEntity.ok(paymentService.findAllPayments(startDate, endDate, professionalId,status, pageable));
     }
 
+    @GetMapping("/report")
+    @PreAuthorize("isAuthenticated()")
+    @Override
+    public ResponseEntity<RevenueReportDTO> revenueReport(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long professionalId,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(defaultValue = "DAY") RevenuePeriod groupBy) {
+        return ResponseEntity.ok(paymentService.generateRevenueReport(startDate, endDate, professionalId, status, groupBy));
+    }
+
+    // Exportação completa para a contabilidade: linhas escritas na resposta conforme saem do banco
+    @GetMapping("/export")
+    @PreAuthorize("isAuthenticated()")
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long professionalId,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(defaultValue = "csv") ExportFormat format) {
+
+        // Executado fora da thread da requisição; a transação de leitura é aberta pelo serviço
+        StreamingResponseBody body = output ->
+                paymentService.exportPayments(startDate, endDate, professionalId, status, format, output);
+
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName("pagamentos")).build().toString())
+                .body(body);
+    }
+
     @PostMapping
     @PreAuthorize("isAuthenticated()")
     @Override
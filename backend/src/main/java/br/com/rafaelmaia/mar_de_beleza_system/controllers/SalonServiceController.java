@@ -1,6 +1,7 @@
 package br.com.rafaelmaia.mar_de_beleza_system.controllers;
 
 import br.com.rafaelmaia.mar_de_beleza_system.controllers.docs.SalonServiceControllerDocs;
+import br.com.rafaelmaia.mar_de_beleza_system.controllers.support.ETags;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.SalonServiceRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.SalonServiceResponseDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.services.SalonServiceService;
@@ -26,13 +27,16 @@ public class SalonServiceController implements SalonServiceControllerDocs {
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()") // Qualquer um logado pode ver um serviço
     public ResponseEntity<SalonServiceResponseDTO> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(service.findServiceById(id));
+        SalonServiceResponseDTO dto = service.findServiceById(id);
+        return ETags.ok(dto, ETags.of(dto));
     }
 
     @GetMapping
     @PreAuthorize("isAuthenticated()") // Qualquer um logado pode ver a lista
     public ResponseEntity<List<SalonServiceResponseDTO>> findAll() {
-        return ResponseEntity.ok(service.findAllServices());
+        // Catálogo vem do cache: repetir a tela devolve 304 sem serializar a lista
+        List<SalonServiceResponseDTO> services = service.findAllServices();
+        return ETags.ok(services, ETags.ofServices(services));
     }
 
     @PostMapping
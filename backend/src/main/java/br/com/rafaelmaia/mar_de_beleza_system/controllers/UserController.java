@@ -1,6 +1,7 @@
 package br.com.rafaelmaia.mar_de_beleza_system.controllers;
 
 import br.com.rafaelmaia.mar_de_beleza_system.controllers.docs.UserControllerDocs;
+import br.com.rafaelmaia.mar_de_beleza_system.controllers.support.ETags;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.PasswordChangeRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.UserRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.UserResponseDTO;
@@ -30,7 +31,8 @@ public class UserController implements UserControllerDocs {
     @Override
     public ResponseEntity<List<UserResponseDTO>> findAll(
             @RequestParam(required = false) Boolean canBeScheduled) {
-        return ResponseEntity.ok(userService.findAllUsers(canBeScheduled));
+        List<UserResponseDTO> users = userService.findAllUsers(canBeScheduled);
+        return ETags.ok(users, ETags.ofUsers(users));
     }
 
     // ADMINS ou o próprio usuário podem ver seus detalhes
@@ -38,7 +40,8 @@ public class UserController implements UserControllerDocs {
     @PreAuthorize("hasAuthority('ROLE_ADMIN') or #id == authentication.principal.id")
     @Override
     public ResponseEntity<UserResponseDTO> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(userService.findUserById(id));
+        UserResponseDTO user = userService.findUserById(id);
+        return ETags.ok(user, ETags.of(user));
     }
 
     // Apenas ADMINS podem criar novos usuários
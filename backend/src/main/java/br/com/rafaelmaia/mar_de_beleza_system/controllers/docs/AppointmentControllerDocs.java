@@ -1,20 +1,25 @@
 package br.com.rafaelmaia.mar_de_beleza_system.controllers.docs;
 
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentBatchRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentBatchResultDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ResponseView;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.StatusUpdateRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 
@@ -36,6 +41,24 @@ public interface AppointmentControllerDocs {
     )
     ResponseEntity<AppointmentResponseDTO> create(@RequestBody @Valid AppointmentRequestDTO request);
 
+    @Operation(summary = "Adds Appointments in batch",
+            description = "Creates up to 200 appointments in a single transaction (e.g. a recurring series or an import). " +
+                    "Conflicts, including conflicts between items of the same batch, are reported per item; " +
+                    "the remaining items are created.",
+            tags = {"Appointment"},
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200",
+                            content = @Content(schema = @Schema(implementation = AppointmentBatchResultDTO.class))
+                    ),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+                    @ApiResponse(description = "Conflict (schedule locked)", responseCode = "409", content = @Content)
+            }
+    )
+    ResponseEntity<AppointmentBatchResultDTO> createBatch(@RequestBody @Valid AppointmentBatchRequestDTO request);
+
     @Operation(summary = "Buscar agendamentos (com ou sem filtros)",
             description = "Retorna uma lista de agendamentos.\n" +
                     "Caso nenhum filtro seja informado, todos os agendamentos cadastrados serão retornados.\n" +
@@ -45,7 +68,11 @@ public interface AppointmentControllerDocs {
                     "- professionalId: identificador do profissional\n" +
                     "- clientId: identificador do cliente\n" +
                     "\n" +
-                    "Os filtros são opcionais e podem ser combinados entre si.",
+                    "Os filtros são opcionais e podem ser combinados entre si.\n" +
+                    "Use view=summary para receber uma lista plana (IDs e nomes) em vez dos objetos completos (view=full, padrão). " +
+                    "Qualquer outro valor de view é rejeitado com 400.\n" +
+                    "Use pagination=keyset para paginação por cursor, ordenada por (appointmentDate, id): a resposta não traz o total " +
+                    "e informa um nextCursor, que deve ser enviado no parâmetro cursor para buscar a próxima página.",
             tags = {"Appointment"},
             responses = {
                     @ApiResponse(
@@ -54,7 +81,7 @@ public interface AppointmentControllerDocs {
                             content = {
                                     @Content(
                                             mediaType = "application/json",
-                                            array = @ArraySchema(schema = @Schema(implementation = AppointmentResponseDTO.class))
+                                            array = @ArraySchema(schema = @Schema(oneOf = {AppointmentResponseDTO.class, AppointmentSummaryDTO.class}))
                                     )
                             }),
                     @ApiResponse(description = "No Content", responseCode = "204", content = @Content),
@@ -64,7 +91,21 @@ public interface AppointmentControllerDocs {
                     @ApiResponse(description = "Internal Server Error", responseCode = "500", content = @Content)
             }
     )
-    ResponseEntity<Page<AppointmentResponseDTO>> findAll(LocalDate startDate, LocalDate endDate, LocalDate date, Long professionalId, Long clientId, String status, Pageable pageable);
+    ResponseEntity<?> findAll(LocalDate startDate, LocalDate endDate, LocalDate date, Long professionalId, Long clientId, String status, ResponseView view,
+                              String pagination, String cursor, Pageable pageable);
+
+    @Operation(summary = "Export Appointments",
+            description = "Streams every appointment matching the list filters as CSV (default) or NDJSON (format=ndjson), " +
+                    "ordered by appointment date. Any other format is rejected with 400. " +
+                    "Rows are written as they are read from the database, so there is no page size limit.",
+            tags = {"Appointment"},
+            responses = {
+                    @ApiResponse(description = "Success", responseCode = "200", content = @Content),
+                    @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
+                    @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content)
+            }
+    )
+    ResponseEntity<StreamingResponseBody> export(LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status, ExportFormat format);
 
     @Operation(summary = "Find a Appointment",
             description = "Find a specific Appointment by their ID",
@@ -75,6 +116,7 @@ public interface AppointmentControllerDocs {
                             responseCode = "200",
                             content = @Content(schema = @Schema(implementation = AppointmentResponseDTO.class))),
                     @ApiResponse(description = "No Content", responseCode = "204", content = @Content),
+                    @ApiResponse(description = "Not Modified (If-None-Match)", responseCode = "304", content = @Content),
                     @ApiResponse(description = "Bad Request", responseCode = "400", content = @Content),
                     @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
                     @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
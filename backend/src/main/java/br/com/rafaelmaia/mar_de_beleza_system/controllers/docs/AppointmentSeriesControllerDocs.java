@@ -0,0 +1,59 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers.docs;
+
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSeriesRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSeriesResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.time.LocalDate;
+
+public interface AppointmentSeriesControllerDocs {
+
+    @Operation(summary = "Find a recurring Appointment Series by ID", tags = {"Appointment Series"}, responses = {
+            @ApiResponse(description = "Success", responseCode = "200", content = @Content(schema = @Schema(implementation = AppointmentSeriesResponseDTO.class))),
+            @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+            @ApiResponse(description = "Not Found", responseCode = "404", content = @Content)
+    })
+    ResponseEntity<AppointmentSeriesResponseDTO> findById(@PathVariable Long id);
+
+    @Operation(summary = "Adds a recurring Appointment Series",
+            description = "Stores the recurrence rule once and creates its occurrences up to the rolling horizon; " +
+                    "later occurrences are created by a scheduled job. Occurrences that conflict with the " +
+                    "professional's schedule are skipped and listed in the response.",
+            tags = {"Appointment Series"}, responses = {
+            @ApiResponse(description = "Created", responseCode = "201", content = @Content(schema = @Schema(implementation = AppointmentSeriesResponseDTO.class))),
+            @ApiResponse(description = "Bad Request (Validation Error)", responseCode = "400", content = @Content),
+            @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+            @ApiResponse(description = "Not Found (Client, Service or Professional)", responseCode = "404", content = @Content),
+            @ApiResponse(description = "Conflict (Business Rule)", responseCode = "409", content = @Content)
+    })
+    ResponseEntity<AppointmentSeriesResponseDTO> create(@RequestBody @Valid AppointmentSeriesRequestDTO request);
+
+    @Operation(summary = "Updates this and future occurrences of a Series",
+            description = "Occurrences from 'from' onwards that are not done or paid are replaced by the new rule. " +
+                    "When 'from' is after the first occurrence, the series is split and the response describes the new series.",
+            tags = {"Appointment Series"}, responses = {
+            @ApiResponse(description = "Success", responseCode = "200", content = @Content(schema = @Schema(implementation = AppointmentSeriesResponseDTO.class))),
+            @ApiResponse(description = "Bad Request (Validation Error)", responseCode = "400", content = @Content),
+            @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+            @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+            @ApiResponse(description = "Conflict (Business Rule or concurrent change)", responseCode = "409", content = @Content)
+    })
+    ResponseEntity<AppointmentSeriesResponseDTO> updateFrom(@PathVariable Long id, LocalDate from, @RequestBody @Valid AppointmentSeriesRequestDTO request);
+
+    @Operation(summary = "Ends a Series from a given day",
+            description = "Removes occurrences from 'from' onwards that are not done or paid and stops generating new ones.",
+            tags = {"Appointment Series"}, responses = {
+            @ApiResponse(description = "No Content", responseCode = "204", content = @Content),
+            @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+            @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
+            @ApiResponse(description = "Conflict (Business Rule)", responseCode = "409", content = @Content)
+    })
+    ResponseEntity<Void> cancelFrom(@PathVariable Long id, LocalDate from);
+}
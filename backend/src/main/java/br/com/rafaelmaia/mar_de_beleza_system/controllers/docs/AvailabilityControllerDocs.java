@@ -0,0 +1,30 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers.docs;
+
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AvailabilityResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDate;
+
+public interface AvailabilityControllerDocs {
+
+    @Operation(summary = "Find free slots for a service",
+            description = "Lists every free slot with the service duration for each schedulable professional whose specialties " +
+                    "include the service type. Searches from 'date' (default today) for 'days' days (default 1), " +
+                    "optionally restricted to one professional.",
+            tags = {"Availability"}, responses = {
+            @ApiResponse(description = "Success", responseCode = "200"),
+            @ApiResponse(description = "Bad Request", responseCode = "400"),
+            @ApiResponse(description = "Unauthorized", responseCode = "401"),
+            @ApiResponse(description = "Not Found", responseCode = "404"),
+            @ApiResponse(description = "Conflict", responseCode = "409")
+    })
+    ResponseEntity<AvailabilityResponseDTO> findAvailability(
+            @RequestParam Long serviceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) Long professionalId);
+}
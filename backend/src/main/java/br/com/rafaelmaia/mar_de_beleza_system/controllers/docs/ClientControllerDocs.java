@@ -1,5 +1,6 @@
 package br.com.rafaelmaia.mar_de_beleza_system.controllers.docs;
 
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientImportResultDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,12 +15,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 public interface ClientControllerDocs {
 
     @Operation(summary = "Find a Client by ID", tags = {"Client"}, responses = {
             @ApiResponse(description = "Success", responseCode = "200", content = @Content(schema = @Schema(implementation = ClientResponseDTO.class))),
+            @ApiResponse(description = "Not Modified (If-None-Match)", responseCode = "304", content = @Content),
             @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
             @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content)
     })
@@ -27,6 +31,7 @@ public interface ClientControllerDocs {
 
     @Operation(summary = "Find all Clients", tags = {"Client"}, responses = {
             @ApiResponse(description = "Success", responseCode = "200", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ClientResponseDTO.class)))),
+            @ApiResponse(description = "Not Modified (If-None-Match)", responseCode = "304", content = @Content),
             @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content)
     })
     ResponseEntity<Page<ClientResponseDTO>> findAll(Pageable pageable);
@@ -53,4 +58,15 @@ public interface ClientControllerDocs {
             @ApiResponse(description = "Not Found", responseCode = "404", content = @Content)
     })
     ResponseEntity<Void> delete(@PathVariable Long id);
+
+    @Operation(summary = "Imports Clients from a CSV file",
+            description = "Bulk import with header columns name, phone, phoneIsWhatsapp, birthDate and gender (comma or semicolon separated). " +
+                    "Lines with invalid data or a phone already registered (in the system or earlier in the file) are rejected and reported; the others are imported. ADMIN only.",
+            tags = {"Client"}, responses = {
+            @ApiResponse(description = "Success", responseCode = "200", content = @Content(schema = @Schema(implementation = ClientImportResultDTO.class))),
+            @ApiResponse(description = "Conflict (empty file or missing required columns)", responseCode = "409", content = @Content),
+            @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content),
+            @ApiResponse(description = "Forbidden", responseCode = "403", content = @Content)
+    })
+    ResponseEntity<ClientImportResultDTO> importClients(InputStream csv) throws IOException;
 }
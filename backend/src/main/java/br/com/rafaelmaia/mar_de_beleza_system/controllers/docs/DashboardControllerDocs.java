@@ -0,0 +1,38 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers.docs;
+
+import br.com.rafaelmaia.mar_de_beleza_system.dto.DashboardSummaryDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDate;
+
+public interface DashboardControllerDocs {
+
+    @Operation(summary = "Dashboard summary",
+            description = "Revenue and occupancy totals per day and per service type, read from the daily rollup table. " +
+                    "Defaults to the current month when no period is informed.",
+            tags = {"Dashboard"}, responses = {
+            @ApiResponse(description = "Success", responseCode = "200"),
+            @ApiResponse(description = "Unauthorized", responseCode = "401")
+    })
+    ResponseEntity<DashboardSummaryDTO> summary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long professionalId);
+
+    @Operation(summary = "Rebuild daily rollups",
+            description = "Recomputes the daily rollups of the period from appointments and payments (backfill and drift repair). " +
+                    "Rebuilds the whole history when no period is informed. Only accessible by ADMIN users.",
+            tags = {"Dashboard"}, responses = {
+            @ApiResponse(description = "No Content", responseCode = "204"),
+            @ApiResponse(description = "Bad Request", responseCode = "400"),
+            @ApiResponse(description = "Unauthorized", responseCode = "401"),
+            @ApiResponse(description = "Forbidden", responseCode = "403")
+    })
+    ResponseEntity<Void> rebuildRollups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate);
+}
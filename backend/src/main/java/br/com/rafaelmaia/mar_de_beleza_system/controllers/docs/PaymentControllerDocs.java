@@ -3,16 +3,20 @@ package br.com.rafaelmaia.mar_de_beleza_system.controllers.docs;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ResponseView;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenuePeriod;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenueReportDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 
@@ -25,17 +29,57 @@ public interface PaymentControllerDocs {
     })
     ResponseEntity<PaymentResponseDTO> findById(@PathVariable Long id);
 
-    @Operation(summary = "Find all payments with filters and pagination", tags = {"Payment"}, responses = {
+    @Operation(summary = "Find all payments with filters and pagination",
+            description = "Use view=summary to receive a flat list with IDs and display names instead of the full nested appointment (view=full, the default). " +
+                    "Any other view is rejected with 400.\n" +
+                    "Use pagination=keyset for cursor pagination ordered by (paymentDate, id): the response has no total count " +
+                    "and brings a nextCursor to be sent back as cursor to fetch the next page.",
+            tags = {"Payment"}, responses = {
             @ApiResponse(description = "Success", responseCode = "200"),
+            @ApiResponse(description = "Bad Request", responseCode = "400"),
             @ApiResponse(description = "Unauthorized", responseCode = "401")
     })
-    ResponseEntity<Page<PaymentResponseDTO>> findAll(
+    ResponseEntity<?> findAll(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) Long professionalId,
             @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(defaultValue = "full") ResponseView view,
+            @RequestParam(required = false) String pagination,
+            @RequestParam(required = false) String cursor,
             Pageable pageable);
 
+    @Operation(summary = "Revenue report",
+            description = "Returns revenue totals aggregated in the database, grouped by period (DAY, WEEK or MONTH), by payment method and by professional. " +
+                    "Accepts the same filters as the payment list; when status is omitted only PAID payments are counted.",
+            tags = {"Payment"}, responses = {
+            @ApiResponse(description = "Success", responseCode = "200"),
+            @ApiResponse(description = "Bad Request", responseCode = "400"),
+            @ApiResponse(description = "Unauthorized", responseCode = "401")
+    })
+    ResponseEntity<RevenueReportDTO> revenueReport(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long professionalId,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(defaultValue = "DAY") RevenuePeriod groupBy);
+
+    @Operation(summary = "Export payments",
+            description = "Streams every payment matching the list filters as CSV (default) or NDJSON (format=ndjson), " +
+                    "ordered by payment date. Any other format is rejected with 400. " +
+                    "Rows are written as they are read from the database, so there is no page size limit.",
+            tags = {"Payment"}, responses = {
+            @ApiResponse(description = "Success", responseCode = "200"),
+            @ApiResponse(description = "Bad Request", responseCode = "400"),
+            @ApiResponse(description = "Unauthorized", responseCode = "401")
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long professionalId,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(defaultValue = "csv") ExportFormat format);
+
     @Operation(summary = "Create a new payment", tags = {"Payment"}, responses = {
             @ApiResponse(description = "Created", responseCode = "201"),
             @ApiResponse(description = "Bad Request", responseCode = "400"),
@@ -18,6 +18,7 @@ public interface SalonServiceControllerDocs {
 
     @Operation(summary = "Find a Salon Service by ID", tags = {"Salon Service"}, responses = {
             @ApiResponse(description = "Success", responseCode = "200", content = @Content(schema = @Schema(implementation = SalonServiceResponseDTO.class))),
+            @ApiResponse(description = "Not Modified (If-None-Match)", responseCode = "304", content = @Content),
             @ApiResponse(description = "Not Found", responseCode = "404", content = @Content),
             @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content)
     })
@@ -25,6 +26,7 @@ public interface SalonServiceControllerDocs {
 
     @Operation(summary = "Find all Salon Services", tags = {"Salon Service"}, responses = {
             @ApiResponse(description = "Success", responseCode = "200", content = @Content(array = @ArraySchema(schema = @Schema(implementation = SalonServiceResponseDTO.class)))),
+            @ApiResponse(description = "Not Modified (If-None-Match)", responseCode = "304", content = @Content),
             @ApiResponse(description = "Unauthorized", responseCode = "401", content = @Content)
     })
     ResponseEntity<List<SalonServiceResponseDTO>> findAll();
@@ -16,6 +16,7 @@ public interface UserControllerDocs {
 
     @Operation(summary = "Find all system users", tags = {"User Management"}, responses = {
             @ApiResponse(description = "Success", responseCode = "200"),
+            @ApiResponse(description = "Not Modified (If-None-Match)", responseCode = "304"),
             @ApiResponse(description = "Unauthorized", responseCode = "401"),
             @ApiResponse(description = "Forbidden", responseCode = "403")
     })
@@ -23,6 +24,7 @@ public interface UserControllerDocs {
 
     @Operation(summary = "Find a user by ID", tags = {"User Management"}, responses = {
             @ApiResponse(description = "Success", responseCode = "200"),
+            @ApiResponse(description = "Not Modified (If-None-Match)", responseCode = "304"),
             @ApiResponse(description = "Not Found", responseCode = "404"),
             @ApiResponse(description = "Unauthorized", responseCode = "401"),
             @ApiResponse(description = "Forbidden", responseCode = "403")
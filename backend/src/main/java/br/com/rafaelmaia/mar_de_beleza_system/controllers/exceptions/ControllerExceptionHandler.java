@@ -6,6 +6,7 @@ import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.ObjectNotFound
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -61,4 +62,29 @@ public class ControllerExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
+
+    // Restrição do banco violada mesmo após a validação do serviço (ex: duas requisições cadastrando o mesmo
+    // telefone ao mesmo tempo); o nome é qualificado porque a exceção do serviço tem o mesmo nome simples
+    @ExceptionHandler(org.springframework.dao.DataIntegrityViolationException.class)
+    public ResponseEntity<StandardError> databaseConstraintViolation(
+            org.springframework.dao.DataIntegrityViolationException ex, HttpServletRequest request) {
+        StandardError error = new StandardError(
+                LocalDateTime.now(), HttpStatus.CONFLICT.value(),
+                "O registro conflita com outro já cadastrado (ex: telefone ou e-mail repetido).",
+                request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    // Outra requisição gravou o mesmo registro antes (versão diferente da lida)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<StandardError> optimisticLock(
+            ObjectOptimisticLockingFailureException ex, HttpServletRequest request) {
+        StandardError error = new StandardError(
+                LocalDateTime.now(), HttpStatus.CONFLICT.value(),
+                "O registro foi alterado por outra operação. Recarregue os dados e tente novamente.",
+                request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
 }
@@ -0,0 +1,108 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers.support;
+
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ContactResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.SalonServiceResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.UserResponseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+// ETags fortes montados a partir de (id, @Version) de cada entidade da resposta, sem serializar o corpo
+public final class ETags {
+
+    private ETags() {
+    }
+
+    // Com ETag na resposta, o Spring compara o If-None-Match e devolve 304 sem escrever o JSON
+    public static <T> ResponseEntity<T> ok(T body, String etag) {
+        return ResponseEntity.ok()
+                // no-cache: o navegador guarda a resposta, mas sempre revalida com o ETag antes de usar
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .body(body);
+    }
+
+    public static String of(SalonServiceResponseDTO service) {
+        return hash(append(new StringBuilder(), service));
+    }
+
+    public static String of(UserResponseDTO user) {
+        return hash(append(new StringBuilder(), user));
+    }
+
+    public static String of(ClientResponseDTO client) {
+        return hash(append(new StringBuilder(), client));
+    }
+
+    public static String of(AppointmentResponseDTO appointment) {
+        StringBuilder stamp = new StringBuilder();
+        stamp.append("a").append(appointment.id()).append('.').append(appointment.version());
+        append(stamp, appointment.client());
+        append(stamp, appointment.service());
+        append(stamp, appointment.professional());
+        return hash(stamp);
+    }
+
+    public static String ofServices(List<SalonServiceResponseDTO> services) {
+        StringBuilder stamp = new StringBuilder("[");
+        services.forEach(service -> append(stamp, service));
+        return hash(stamp);
+    }
+
+    public static String ofUsers(List<UserResponseDTO> users) {
+        StringBuilder stamp = new StringBuilder("[");
+        users.forEach(user -> append(stamp, user));
+        return hash(stamp);
+    }
+
+    // Os metadados da página também vão para o JSON: uma exclusão em outra página muda o total
+    public static String ofClients(Page<ClientResponseDTO> clients) {
+        StringBuilder stamp = new StringBuilder("p")
+                .append(clients.getNumber()).append('.')
+                .append(clients.getSize()).append('.')
+                .append(clients.getTotalElements()).append('[');
+        clients.forEach(client -> append(stamp, client));
+        return hash(stamp);
+    }
+
+    private static StringBuilder append(StringBuilder stamp, SalonServiceResponseDTO service) {
+        return stamp.append("|s").append(service.id()).append('.').append(service.version());
+    }
+
+    private static StringBuilder append(StringBuilder stamp, UserResponseDTO user) {
+        stamp.append("|u").append(user.id()).append('.').append(user.version());
+        return append(stamp, user.contact());
+    }
+
+    private static StringBuilder append(StringBuilder stamp, ClientResponseDTO client) {
+        stamp.append("|c").append(client.id()).append('.').append(client.version());
+        return append(stamp, client.contact());
+    }
+
+    // O contato tem versão própria: alterar só o telefone não incrementa a versão do dono
+    private static StringBuilder append(StringBuilder stamp, ContactResponseDTO contact) {
+        if (contact == null) {
+            return stamp.append("|k-");
+        }
+        return stamp.append("|k").append(contact.id()).append('.').append(contact.version());
+    }
+
+    private static String hash(CharSequence stamp) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(stamp.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível na JVM", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers.support;
+
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.ExportFormat;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+// Converte o parâmetro ?format= das exportações sem diferenciar maiúsculas (o conversor padrão de enums diferencia).
+// Valor desconhecido falha na conversão e o Spring responde 400 antes de chegar ao controller
+@Component
+public class ExportFormatConverter implements Converter<String, ExportFormat> {
+
+    @Override
+    public ExportFormat convert(String source) {
+        return ExportFormat.from(source);
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers.support;
+
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ResponseView;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+// Converte o parâmetro ?view= das listagens sem diferenciar maiúsculas, como o ExportFormatConverter.
+// Valor desconhecido falha na conversão e o Spring responde 400 antes de chegar ao controller
+@Component
+public class ResponseViewConverter implements Converter<String, ResponseView> {
+
+    @Override
+    public ResponseView convert(String source) {
+        return ResponseView.from(source);
+    }
+}
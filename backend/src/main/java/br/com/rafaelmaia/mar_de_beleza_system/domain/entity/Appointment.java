@@ -3,6 +3,7 @@ package br.com.rafaelmaia.mar_de_beleza_system.domain.entity;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
@@ -11,7 +12,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tb_appointment")
+@Table(name = "tb_appointment", indexes = {
+        // Atende a checagem de conflito: profissional + sobreposição de [appointment_date, end_date).
+        // Em produção a migração cria este índice parcial (WHERE status <> 'CANCELED')
+        @Index(name = "idx_appointment_professional_period", columnList = "professional_id, appointment_date, end_date"),
+        // Paginação por cursor na chave (appointment_date, id)
+        @Index(name = "idx_appointment_date_id", columnList = "appointment_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,29 +28,41 @@ public class Appointment implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    // Sequence com alocação em blocos (pooled): o Hibernate conhece o ID antes do INSERT e pode agrupar
+    // os INSERTs em lotes JDBC, o que não acontece com IDENTITY
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_seq")
+    @SequenceGenerator(name = "appointment_seq", sequenceName = "tb_appointment_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", nullable = false)
     private Client client;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "professional_id", nullable = false)
     private SystemUser professional;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "service_id", nullable = false)
     private SalonService service;
 
+    // Série recorrente que gerou esta ocorrência (null para agendamentos avulsos)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id")
+    private AppointmentSeries series;
+
     @Column(nullable = false)
     private BigDecimal price;
 
     @Column(nullable = false)
     private LocalDateTime appointmentDate;
 
+    // Fim do atendimento, calculado com a duração do serviço no momento do agendamento
+    @Column(name = "end_date", nullable = false)
+    private LocalDateTime endDate;
+
     @Enumerated(EnumType.STRING)
     private AppointmentStatus status;
 
@@ -53,6 +72,12 @@ public class Appointment implements Serializable {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    // Controle otimista de concorrência; também alimenta o ETag das respostas
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
     @PrePersist
     public void prePersist() {
         createdAt = LocalDateTime.now();
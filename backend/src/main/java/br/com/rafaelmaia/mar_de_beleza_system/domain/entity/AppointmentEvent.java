@@ -0,0 +1,58 @@
+package br.com.rafaelmaia.mar_de_beleza_system.domain.entity;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentEventType;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Histórico (somente inclusão) das mudanças de estado de agendamentos e pagamentos.
+// Sem chaves estrangeiras: o registro de auditoria continua existindo mesmo que o agendamento seja excluído.
+@Entity
+@Table(name = "tb_appointment_event", indexes = {
+        @Index(name = "idx_appointment_event_appointment", columnList = "appointment_id, occurred_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class AppointmentEvent {
+
+    // Sequence em blocos para o gravador assíncrono inserir os eventos em lotes JDBC
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_event_seq")
+    @SequenceGenerator(name = "appointment_event_seq", sequenceName = "tb_appointment_event_seq", allocationSize = 50)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(name = "appointment_id", nullable = false, updatable = false)
+    private Long appointmentId;
+
+    @Column(name = "payment_id", updatable = false)
+    private Long paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private AppointmentEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status", updatable = false)
+    private AppointmentStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "new_status", updatable = false)
+    private AppointmentStatus newStatus;
+
+    @Column(updatable = false)
+    private BigDecimal amount;
+
+    // E-mail de quem fez a alteração (null para rotinas internas)
+    @Column(name = "performed_by", updatable = false)
+    private String performedBy;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,84 @@
+package br.com.rafaelmaia.mar_de_beleza_system.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+// Agendamento recorrente: a regra fica gravada uma vez e as ocorrências viram agendamentos
+// só até o horizonte móvel (materializedUntil), avançado pelo job de séries
+@Entity
+@Table(name = "tb_appointment_series")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class AppointmentSeries implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "client_id", nullable = false)
+    private Client client;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "professional_id", nullable = false)
+    private SystemUser professional;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "service_id", nullable = false)
+    private SalonService service;
+
+    // Primeira ocorrência; as demais caem a cada intervalInDays, no mesmo horário
+    @Column(nullable = false)
+    private LocalDateTime firstOccurrence;
+
+    @Column(nullable = false)
+    private Integer intervalInDays;
+
+    // Último dia da série (inclusive); null = sem fim
+    private LocalDate untilDate;
+
+    // null = preço do serviço no momento em que a ocorrência é gerada
+    private BigDecimal price;
+
+    @Column(length = 500)
+    private String observations;
+
+    // Ocorrências até este dia (inclusive) já foram gravadas em tb_appointment
+    @Column(nullable = false)
+    private LocalDate materializedUntil;
+
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
+    // Datas das ocorrências entre from e to (inclusive), respeitando o fim da série
+    public List<LocalDateTime> occurrencesBetween(LocalDate from, LocalDate to) {
+        LocalDate last = untilDate != null && untilDate.isBefore(to) ? untilDate : to;
+        long daysFromFirst = ChronoUnit.DAYS.between(firstOccurrence.toLocalDate(), from);
+        long step = Math.max(0, Math.ceilDiv(daysFromFirst, (long) intervalInDays));
+
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        for (LocalDateTime occurrence = firstOccurrence.plusDays(step * intervalInDays);
+             !occurrence.toLocalDate().isAfter(last);
+             occurrence = occurrence.plusDays(intervalInDays)) {
+            occurrences.add(occurrence);
+        }
+        return occurrences;
+    }
+}
@@ -4,6 +4,7 @@ import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Gender;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serializable;
 import java.time.LocalDate;
@@ -22,8 +23,10 @@ public class Client implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    // Sequence em blocos, como em Contact: INSERTs da importação em lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_seq")
+    @SequenceGenerator(name = "client_seq", sequenceName = "tb_client_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -39,9 +42,19 @@ public class Client implements Serializable {
     @JoinColumn(name = "contact_id")
     private Contact contact;
 
+    // Controle otimista de concorrência; também alimenta o ETag das respostas
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
     @OneToMany(mappedBy = "client", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Appointment> appointments = new ArrayList<>();
 
+    // Declarada depois dos agendamentos: as ocorrências são removidas antes da série que as referencia
+    @OneToMany(mappedBy = "client", cascade = CascadeType.REMOVE)
+    private List<AppointmentSeries> series = new ArrayList<>();
+
     public List<Appointment> getAppointmentHistory() {
         return this.appointments.stream()
                 .filter(a -> a.getStatus() == AppointmentStatus.DONE)
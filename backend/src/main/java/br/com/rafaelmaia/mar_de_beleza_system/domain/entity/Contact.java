@@ -2,11 +2,15 @@ package br.com.rafaelmaia.mar_de_beleza_system.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serializable;
 
 @Entity
-@Table(name = "tb_contact")
+@Table(name = "tb_contact", indexes = {
+        // Telefone identifica o contato: garante a unicidade e atende a deduplicação da importação (IN por bloco)
+        @Index(name = "uk_contact_phone", columnList = "phone", unique = true)
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,8 +20,10 @@ public class Contact implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    // Sequence em blocos: permite agrupar os INSERTs da importação de clientes em lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contact_seq")
+    @SequenceGenerator(name = "contact_seq", sequenceName = "tb_contact_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -25,4 +31,10 @@ public class Contact implements Serializable {
     private String phone;
 
     private Boolean phoneIsWhatsapp;
+
+    // Controle otimista de concorrência; também alimenta o ETag das respostas
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
 }
@@ -0,0 +1,49 @@
+package br.com.rafaelmaia.mar_de_beleza_system.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+// Totais diários por profissional e tipo de serviço, mantidos incrementalmente pelos serviços
+// de agendamento e pagamento. Os dashboards leem daqui em vez de varrer agendamentos e pagamentos.
+@Entity
+@Table(name = "tb_daily_rollup")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class DailyRollup implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @EmbeddedId
+    @EqualsAndHashCode.Include
+    private DailyRollupId id;
+
+    // Soma dos pagamentos com status PAID, pela data do pagamento
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    // Os contadores abaixo usam a data do agendamento; "appointmentCount" ignora cancelados
+    @Column(name = "appointment_count", nullable = false)
+    private long appointmentCount;
+
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+
+    @Column(name = "canceled_count", nullable = false)
+    private long canceledCount;
+
+    @Column(name = "no_show_count", nullable = false)
+    private long noShowCount;
+
+    // Minutos de agenda ocupados (agendamentos não cancelados)
+    @Column(name = "booked_minutes", nullable = false)
+    private long bookedMinutes;
+}
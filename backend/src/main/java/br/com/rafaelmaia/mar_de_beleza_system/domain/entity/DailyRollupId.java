@@ -0,0 +1,27 @@
+package br.com.rafaelmaia.mar_de_beleza_system.domain.entity;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRollupId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "professional_id", nullable = false)
+    private Long professionalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "service_type", nullable = false)
+    private ServiceType serviceType;
+}
@@ -3,6 +3,7 @@ package br.com.rafaelmaia.mar_de_beleza_system.domain.entity;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
@@ -32,4 +33,10 @@ public class SalonService implements Serializable {
 
     @Column(nullable = false)
     private BigDecimal price;
+
+    // Controle otimista de concorrência; também alimenta o ETag das respostas
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
 }
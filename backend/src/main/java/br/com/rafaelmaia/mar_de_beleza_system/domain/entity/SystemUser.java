@@ -4,6 +4,7 @@ import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Role;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -52,6 +53,17 @@ public class SystemUser implements UserDetails {
     @Column(nullable = false)
     private boolean canBeScheduled = true; // Por padrão, usuários podem ser agendados
 
+    // Incrementada quando e-mail, perfil ou senha mudam: tokens emitidos com a versão anterior deixam de valer
+    @Column(name = "token_version", nullable = false)
+    @ColumnDefault("0")
+    private long tokenVersion;
+
+    // Controle otimista de concorrência; também alimenta o ETag das respostas
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + this.role.name()));
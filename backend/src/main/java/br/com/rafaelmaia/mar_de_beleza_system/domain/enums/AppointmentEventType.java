@@ -0,0 +1,7 @@
+package br.com.rafaelmaia.mar_de_beleza_system.domain.enums;
+
+public enum AppointmentEventType {
+    STATUS_CHANGED,      // Status do agendamento alterado manualmente
+    PAYMENT_REGISTERED,  // Pagamento registrado (agendamento concluído)
+    PAYMENT_CANCELED     // Pagamento cancelado/estornado
+}
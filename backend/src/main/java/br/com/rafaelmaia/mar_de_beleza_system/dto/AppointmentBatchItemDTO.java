@@ -0,0 +1,17 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+// Resultado de um item do lote, na mesma posição (index) em que foi enviado
+public record AppointmentBatchItemDTO(
+        int index,
+        boolean created,
+        AppointmentResponseDTO appointment,
+        String error
+) {
+    public static AppointmentBatchItemDTO created(int index, AppointmentResponseDTO appointment) {
+        return new AppointmentBatchItemDTO(index, true, appointment, null);
+    }
+
+    public static AppointmentBatchItemDTO rejected(int index, String error) {
+        return new AppointmentBatchItemDTO(index, false, null, error);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record AppointmentBatchRequestDTO(
+        @NotEmpty(message = "Informe ao menos um agendamento")
+        @Size(max = 200, message = "O lote pode ter no máximo 200 agendamentos")
+        List<@Valid @NotNull AppointmentRequestDTO> appointments
+) {}
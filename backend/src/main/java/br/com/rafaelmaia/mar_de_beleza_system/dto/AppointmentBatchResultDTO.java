@@ -0,0 +1,15 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import java.util.List;
+
+public record AppointmentBatchResultDTO(
+        int requested,
+        int created,
+        int rejected,
+        List<AppointmentBatchItemDTO> results
+) {
+    public static AppointmentBatchResultDTO of(List<AppointmentBatchItemDTO> results) {
+        int created = (int) results.stream().filter(AppointmentBatchItemDTO::created).count();
+        return new AppointmentBatchResultDTO(results.size(), created, results.size() - created, results);
+    }
+}
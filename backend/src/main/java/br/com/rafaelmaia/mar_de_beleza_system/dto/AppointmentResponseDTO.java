@@ -2,9 +2,13 @@ package br.com.rafaelmaia.mar_de_beleza_system.dto;
 
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.AppointmentRow;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
 
 public record AppointmentResponseDTO(
         Long id,
@@ -14,7 +18,8 @@ public record AppointmentResponseDTO(
         LocalDateTime appointmentDate,
         AppointmentStatus status,
         String observations,
-        BigDecimal price
+        BigDecimal price,
+        long version
 ) {
 
     public static AppointmentResponseDTO fromEntity(Appointment appointment) {
@@ -30,7 +35,61 @@ public record AppointmentResponseDTO(
             appointment.getAppointmentDate(),
             appointment.getStatus(),
             appointment.getObservations(),
-            appointment.getPrice()
+            appointment.getPrice(),
+            appointment.getVersion()
+        );
+    }
+
+    // Monta a resposta com dados já carregados (ex: cadastros em cache), sem tocar nas associações do agendamento
+    public static AppointmentResponseDTO of(Appointment appointment, ClientResponseDTO client,
+                                            SalonServiceResponseDTO service, UserResponseDTO professional) {
+        return new AppointmentResponseDTO(
+            appointment.getId(),
+            client,
+            service,
+            professional,
+            appointment.getAppointmentDate(),
+            appointment.getStatus(),
+            appointment.getObservations(),
+            appointment.getPrice(),
+            appointment.getVersion()
+        );
+    }
+
+    // Monta a resposta a partir da projeção; as especialidades vêm de uma consulta única para a página toda
+    public static AppointmentResponseDTO fromRow(AppointmentRow row, Map<Long, Set<ServiceType>> specialtiesByUser) {
+        return new AppointmentResponseDTO(
+            row.id(),
+            new ClientResponseDTO(
+                row.clientId(),
+                row.clientName(),
+                ContactResponseDTO.of(row.clientContactId(), row.clientPhone(), row.clientPhoneIsWhatsapp(), row.clientContactVersion()),
+                row.clientBirthDate(),
+                row.clientGender(),
+                row.clientVersion()
+            ),
+            new SalonServiceResponseDTO(
+                row.serviceId(),
+                row.serviceName(),
+                row.serviceType(),
+                row.serviceDurationInMinutes(),
+                row.servicePrice(),
+                row.serviceVersion()
+            ),
+            new UserResponseDTO(
+                row.professionalId(),
+                row.professionalName(),
+                row.professionalEmail(),
+                row.professionalRole(),
+                ContactResponseDTO.of(row.professionalContactId(), row.professionalPhone(), row.professionalPhoneIsWhatsapp(), row.professionalContactVersion()),
+                specialtiesByUser.getOrDefault(row.professionalId(), Set.of()),
+                row.professionalVersion()
+            ),
+            row.appointmentDate(),
+            row.status(),
+            row.observations(),
+            row.price(),
+            row.version()
         );
     }
 }
@@ -0,0 +1,39 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record AppointmentSeriesRequestDTO(
+        @NotNull(message = "O ID do cliente não pode ser nulo")
+        Long clientId,
+
+        @NotNull(message = "A data da primeira ocorrência não pode ser nula")
+        @FutureOrPresent(message = "A primeira ocorrência não pode ser no passado")
+        LocalDateTime firstOccurrence,
+
+        @NotNull(message = "O ID do serviço não pode ser nulo")
+        Long salonServiceId,
+
+        @NotNull(message = "O ID do profissional não pode ser nulo")
+        Long professionalId,
+
+        @NotNull(message = "O intervalo entre ocorrências é obrigatório")
+        @Min(value = 1, message = "O intervalo deve ser de pelo menos 1 dia")
+        @Max(value = 365, message = "O intervalo deve ser de no máximo 365 dias")
+        Integer intervalInDays,
+
+        // Último dia da série (inclusive); vazio = sem fim
+        LocalDate untilDate,
+
+        @Positive(message = "O preço deve ser um valor positivo")
+        BigDecimal price,
+
+        String observations
+) {}
@@ -0,0 +1,50 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.AppointmentSeries;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AppointmentSeriesResponseDTO(
+        Long id,
+        Long clientId,
+        Long salonServiceId,
+        Long professionalId,
+        LocalDateTime firstOccurrence,
+        Integer intervalInDays,
+        LocalDate untilDate,
+        BigDecimal price,
+        String observations,
+        LocalDate materializedUntil,
+        // Ocorrências puladas nesta operação; vazio nas consultas
+        List<SkippedOccurrenceDTO> skipped,
+        long version
+) {
+
+    public static AppointmentSeriesResponseDTO fromEntity(AppointmentSeries series) {
+        return fromEntity(series, List.of());
+    }
+
+    public static AppointmentSeriesResponseDTO fromEntity(AppointmentSeries series, List<SkippedOccurrenceDTO> skipped) {
+        if (series == null) {
+            return null;
+        }
+
+        return new AppointmentSeriesResponseDTO(
+            series.getId(),
+            series.getClient().getId(),
+            series.getService().getId(),
+            series.getProfessional().getId(),
+            series.getFirstOccurrence(),
+            series.getIntervalInDays(),
+            series.getUntilDate(),
+            series.getPrice(),
+            series.getObservations(),
+            series.getMaterializedUntil(),
+            skipped,
+            series.getVersion()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Versão resumida do agendamento (view=summary), preenchida direto pela consulta de projeção
+public record AppointmentSummaryDTO(
+        Long id,
+        LocalDateTime appointmentDate,
+        LocalDateTime endDate,
+        AppointmentStatus status,
+        BigDecimal price,
+        Long clientId,
+        String clientName,
+        Long serviceId,
+        String serviceName,
+        Long professionalId,
+        String professionalName
+) {
+}
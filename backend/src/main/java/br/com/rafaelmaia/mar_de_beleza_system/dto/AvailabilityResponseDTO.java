@@ -0,0 +1,15 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Horários livres de um serviço no período, por profissional habilitado
+public record AvailabilityResponseDTO(
+        Long serviceId,
+        String serviceName,
+        Integer durationInMinutes,
+        LocalDate startDate,
+        LocalDate endDate,
+        List<ProfessionalAvailabilityDTO> professionals
+) {
+}
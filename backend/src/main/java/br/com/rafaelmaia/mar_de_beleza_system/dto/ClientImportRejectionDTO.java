@@ -0,0 +1,7 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+// Linha do arquivo que não foi importada e o motivo
+public record ClientImportRejectionDTO(
+        long line,
+        String reason
+) {}
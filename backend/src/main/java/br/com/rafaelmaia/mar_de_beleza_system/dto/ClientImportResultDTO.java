@@ -0,0 +1,11 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import java.util.List;
+
+public record ClientImportResultDTO(
+        long lines,
+        long imported,
+        long rejected,
+        // Limitada às primeiras rejeições; 'rejected' traz o total
+        List<ClientImportRejectionDTO> rejections
+) {}
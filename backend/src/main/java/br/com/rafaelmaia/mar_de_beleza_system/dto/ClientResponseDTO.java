@@ -2,6 +2,7 @@ package br.com.rafaelmaia.mar_de_beleza_system.dto;
 
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Gender;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.ClientRow;
 
 import java.time.LocalDate;
 
@@ -10,7 +11,8 @@ public record ClientResponseDTO(
         String name,
         ContactResponseDTO contact,
         LocalDate birthDate,
-        Gender gender
+        Gender gender,
+        long version
 ) {
     public static ClientResponseDTO fromEntity(Client client) {
         return new ClientResponseDTO(
@@ -18,7 +20,19 @@ public record ClientResponseDTO(
                 client.getName(),
                 ContactResponseDTO.fromEntity(client.getContact()),
                 client.getBirthDate(),
-                client.getGender()
+                client.getGender(),
+                client.getVersion()
+        );
+    }
+
+    public static ClientResponseDTO fromRow(ClientRow row) {
+        return new ClientResponseDTO(
+                row.id(),
+                row.name(),
+                ContactResponseDTO.of(row.contactId(), row.phone(), row.phoneIsWhatsapp(), row.contactVersion()),
+                row.birthDate(),
+                row.gender(),
+                row.version()
         );
     }
 }
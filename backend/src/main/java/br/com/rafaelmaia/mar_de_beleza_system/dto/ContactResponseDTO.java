@@ -5,7 +5,8 @@ import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Contact;
 public record ContactResponseDTO(
         Long id,
         String phone,
-        Boolean phoneIsWhatsapp
+        Boolean phoneIsWhatsapp,
+        long version
 ) {
     public static ContactResponseDTO fromEntity(Contact contact) {
         if (contact == null) {
@@ -14,7 +15,15 @@ public record ContactResponseDTO(
         return new ContactResponseDTO(
                 contact.getId(),
                 contact.getPhone(),
-                contact.getPhoneIsWhatsapp()
+                contact.getPhoneIsWhatsapp(),
+                contact.getVersion()
         );
     }
+
+    public static ContactResponseDTO of(Long id, String phone, Boolean phoneIsWhatsapp, Long version) {
+        if (id == null) {
+            return null;
+        }
+        return new ContactResponseDTO(id, phone, phoneIsWhatsapp, version);
+    }
 }
@@ -0,0 +1,22 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Página da paginação por cursor: sem total de registros (não executa COUNT)
+public record CursorPageDTO<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+
+    // Recebe até size + 1 itens: o item extra só indica que existe uma próxima página
+    public static <T> CursorPageDTO<T> fromSlice(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+
+        return new CursorPageDTO<>(List.copyOf(content), size, hasNext, nextCursor);
+    }
+}
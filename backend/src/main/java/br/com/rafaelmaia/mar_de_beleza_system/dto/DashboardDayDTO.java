@@ -0,0 +1,16 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DashboardDayDTO(
+        LocalDate date,
+        BigDecimal revenue,
+        Long paymentCount,
+        Long appointmentCount,
+        Long doneCount,
+        Long canceledCount,
+        Long noShowCount,
+        Long bookedMinutes
+) {
+}
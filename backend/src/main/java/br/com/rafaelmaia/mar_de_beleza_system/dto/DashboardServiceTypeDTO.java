@@ -0,0 +1,14 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+
+import java.math.BigDecimal;
+
+public record DashboardServiceTypeDTO(
+        ServiceType serviceType,
+        BigDecimal revenue,
+        Long paymentCount,
+        Long appointmentCount,
+        Long bookedMinutes
+) {
+}
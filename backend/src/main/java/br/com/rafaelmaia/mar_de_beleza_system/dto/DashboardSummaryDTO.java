@@ -0,0 +1,22 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+// Resumo do dashboard lido das tabelas de rollup (tb_daily_rollup)
+public record DashboardSummaryDTO(
+        LocalDate startDate,
+        LocalDate endDate,
+        Long professionalId,
+        BigDecimal revenue,
+        long paymentCount,
+        long appointmentCount,
+        long doneCount,
+        long canceledCount,
+        long noShowCount,
+        long bookedMinutes,
+        List<DashboardDayDTO> days,
+        List<DashboardServiceTypeDTO> byServiceType
+) {
+}
@@ -3,6 +3,7 @@ package br.com.rafaelmaia.mar_de_beleza_system.dto;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Payment;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentMethod;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.PaymentRow;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -32,4 +33,16 @@ public record PaymentResponseDTO(
                 payment.getObservations()
         );
     }
+
+    public static PaymentResponseDTO fromRow(PaymentRow row, AppointmentResponseDTO appointment) {
+        return new PaymentResponseDTO(
+                row.id(),
+                appointment,
+                row.totalAmount(),
+                row.paymentMethod(),
+                row.paymentDate(),
+                row.status(),
+                row.observations()
+        );
+    }
 }
@@ -0,0 +1,24 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentMethod;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Versão resumida do pagamento (view=summary), preenchida direto pela consulta de projeção
+public record PaymentSummaryDTO(
+        Long id,
+        BigDecimal totalAmount,
+        PaymentMethod paymentMethod,
+        LocalDateTime paymentDate,
+        PaymentStatus status,
+        Long appointmentId,
+        LocalDateTime appointmentDate,
+        Long clientId,
+        String clientName,
+        String serviceName,
+        Long professionalId,
+        String professionalName
+) {
+}
@@ -0,0 +1,12 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.TimeSlot;
+
+import java.util.List;
+
+public record ProfessionalAvailabilityDTO(
+        Long professionalId,
+        String professionalName,
+        List<TimeSlot> slots
+) {
+}
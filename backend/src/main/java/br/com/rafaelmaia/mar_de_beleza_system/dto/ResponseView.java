@@ -0,0 +1,26 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+// Formato de resposta das listagens: SUMMARY (plano, só IDs e nomes) ou FULL (objetos aninhados completos)
+public enum ResponseView {
+    SUMMARY,
+    FULL;
+
+    // Valor ausente mantém a resposta completa, como era antes do parâmetro existir.
+    // Valor desconhecido é rejeitado: um erro de digitação não deve devolver silenciosamente a resposta pesada
+    public static ResponseView from(String view) {
+        if (!StringUtils.hasText(view)) {
+            return FULL;
+        }
+        String normalized = view.trim().toUpperCase(Locale.ROOT);
+        for (ResponseView responseView : values()) {
+            if (responseView.name().equals(normalized)) {
+                return responseView;
+            }
+        }
+        throw new IllegalArgumentException("Formato de resposta inválido: " + view + " (use summary ou full)");
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentMethod;
+
+import java.math.BigDecimal;
+
+public record RevenueByMethodDTO(
+        PaymentMethod paymentMethod,
+        BigDecimal totalRevenue,
+        Long paymentCount
+) {
+}
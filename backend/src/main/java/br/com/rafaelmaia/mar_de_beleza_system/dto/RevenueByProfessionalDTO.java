@@ -0,0 +1,11 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import java.math.BigDecimal;
+
+public record RevenueByProfessionalDTO(
+        Long professionalId,
+        String professionalName,
+        BigDecimal totalRevenue,
+        Long paymentCount
+) {
+}
@@ -0,0 +1,8 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+// Agrupamento temporal do relatório de faturamento (semanas começam na segunda-feira)
+public enum RevenuePeriod {
+    DAY,
+    WEEK,
+    MONTH
+}
@@ -0,0 +1,11 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record RevenuePeriodDTO(
+        LocalDate periodStart,
+        BigDecimal totalRevenue,
+        Long paymentCount
+) {
+}
@@ -0,0 +1,21 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+// Relatório financeiro já agregado no banco: só os totais trafegam na resposta
+public record RevenueReportDTO(
+        LocalDate startDate,
+        LocalDate endDate,
+        PaymentStatus status,
+        RevenuePeriod groupBy,
+        BigDecimal totalRevenue,
+        Long paymentCount,
+        List<RevenuePeriodDTO> periods,
+        List<RevenueByMethodDTO> byPaymentMethod,
+        List<RevenueByProfessionalDTO> byProfessional
+) {
+}
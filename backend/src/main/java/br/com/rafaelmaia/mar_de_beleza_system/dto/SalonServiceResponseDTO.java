@@ -10,7 +10,8 @@ public record SalonServiceResponseDTO(
         String name,
         ServiceType serviceType,
         Integer durationInMinutes,
-        BigDecimal price
+        BigDecimal price,
+        long version
 ) {
     public static SalonServiceResponseDTO fromEntity(SalonService service) {
         if (service == null) {
@@ -21,7 +22,8 @@ public record SalonServiceResponseDTO(
                 service.getName(),
                 service.getServiceType(),
                 service.getDurationInMinutes(),
-                service.getPrice()
+                service.getPrice(),
+                service.getVersion()
         );
     }
 }
@@ -0,0 +1,9 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import java.time.LocalDateTime;
+
+// Ocorrência da série que não virou agendamento (ex: conflito com a agenda do profissional)
+public record SkippedOccurrenceDTO(
+        LocalDateTime appointmentDate,
+        String reason
+) {}
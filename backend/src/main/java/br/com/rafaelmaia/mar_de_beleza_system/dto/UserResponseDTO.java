@@ -12,7 +12,8 @@ public record UserResponseDTO(
         String email,
         Role role,
         ContactResponseDTO contact,
-        Set<ServiceType> specialties
+        Set<ServiceType> specialties,
+        long version
 ) {
     public static UserResponseDTO fromEntity(SystemUser user) {
         if (user == null) return null;
@@ -22,7 +23,9 @@ public record UserResponseDTO(
                 user.getEmail(),
                 user.getRole(),
                 ContactResponseDTO.fromEntity(user.getContact()),
-                user.getSpecialties()
+                // Cópia desacoplada da coleção do Hibernate (o DTO pode ficar em cache)
+                user.getSpecialties() == null ? Set.of() : Set.copyOf(user.getSpecialties()),
+                user.getVersion()
         );
     }
 }
@@ -0,0 +1,13 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.AppointmentEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AppointmentEventRepository extends JpaRepository<AppointmentEvent, Long> {
+
+    List<AppointmentEvent> findByAppointmentIdOrderByOccurredAtAscIdAsc(Long appointmentId);
+}
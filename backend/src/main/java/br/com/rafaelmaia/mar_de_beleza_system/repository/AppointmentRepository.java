@@ -1,23 +1,70 @@
 package br.com.rafaelmaia.mar_de_beleza_system.repository;
 
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface AppointmentRepository extends JpaRepository<Appointment, Long>, JpaSpecificationExecutor<Appointment> {
+public interface AppointmentRepository extends JpaRepository<Appointment, Long>, JpaSpecificationExecutor<Appointment>, AppointmentRepositoryCustom {
 
-    @Query("SELECT a FROM Appointment a " +
+    @Override
+    @EntityGraph(attributePaths = {"client", "client.contact", "service", "professional", "professional.contact"})
+    Optional<Appointment> findById(Long id);
+
+    // Agenda do profissional no período, apenas com as colunas necessárias para checar conflitos
+    @Query("SELECT new br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval(" +
+            "a.id, a.professional.id, a.appointmentDate, a.endDate) " +
+            "FROM Appointment a " +
             "WHERE a.professional.id = :professionalId " +
             "AND a.status <> br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus.CANCELED " +
             "AND a.appointmentDate >= :startOfDay " +
             "AND a.appointmentDate < :endOfDay")
-    List<Appointment> findPotentialConflicts(Long professionalId, LocalDateTime startOfDay, LocalDateTime endOfDay);
+    List<ScheduleInterval> findScheduleIntervals(Long professionalId, LocalDateTime startOfDay, LocalDateTime endOfDay);
+
+    // Agenda de vários profissionais em um período, já ordenada por profissional e início (busca de horários livres)
+    @Query("SELECT new br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval(" +
+            "a.id, a.professional.id, a.appointmentDate, a.endDate) " +
+            "FROM Appointment a " +
+            "WHERE a.professional.id IN :professionalIds " +
+            "AND a.status <> br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus.CANCELED " +
+            "AND a.appointmentDate < :end " +
+            "AND a.endDate > :start " +
+            "ORDER BY a.professional.id, a.appointmentDate, a.endDate")
+    List<ScheduleInterval> findScheduleIntervalsOverlapping(Collection<Long> professionalIds, LocalDateTime start, LocalDateTime end);
+
+    // Sonda única no índice parcial idx_appointment_professional_period: existe algum [início, fim) sobreposto?
+    // EXISTS para na primeira linha encontrada (COUNT leria todas as sobrepostas). Nativa para o filtro de status
+    // ser exatamente o predicado do índice parcial; os CASTs tipam o idToIgnore nulo para o PostgreSQL.
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM tb_appointment a " +
+            "WHERE a.professional_id = :professionalId " +
+            "AND a.status <> 'CANCELED' " +
+            "AND a.appointment_date < :end " +
+            "AND a.end_date > :start " +
+            "AND (CAST(:idToIgnore AS BIGINT) IS NULL OR a.id <> CAST(:idToIgnore AS BIGINT)))", nativeQuery = true)
+    boolean existsOverlapping(Long professionalId, LocalDateTime start, LocalDateTime end, Long idToIgnore);
+
+    // Advisory lock do PostgreSQL, liberado automaticamente no fim da transação
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(:lockKey)) AS schedule_lock", nativeQuery = true)
+    Long lockProfessionalSchedule(long lockKey);
+
+    // Ocorrências de uma série que ainda podem ser substituídas ao editar "esta e as próximas":
+    // a partir da data, ainda não atendidas e sem pagamento registrado
+    @Query("SELECT a FROM Appointment a " +
+            "WHERE a.series.id = :seriesId " +
+            "AND a.appointmentDate >= :from " +
+            "AND a.status IN (br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus.SCHEDULED, " +
+            "br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus.CONFIRMED) " +
+            "AND NOT EXISTS (SELECT p.id FROM Payment p WHERE p.appointment = a)")
+    List<Appointment> findReplaceableOccurrences(Long seriesId, LocalDateTime from);
 
     boolean existsByServiceId(Long serviceId);
 
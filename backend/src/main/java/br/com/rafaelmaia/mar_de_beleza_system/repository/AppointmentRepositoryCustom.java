@@ -0,0 +1,24 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.AppointmentRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface AppointmentRepositoryCustom {
+
+    Page<AppointmentRow> findRows(Specification<Appointment> spec, Pageable pageable);
+    List<AppointmentRow> findRows(Specification<Appointment> spec, Sort sort);
+    Page<AppointmentSummaryDTO> findSummaries(Specification<Appointment> spec, Pageable pageable);
+    List<AppointmentRow> findRows(Specification<Appointment> spec, Sort sort, int limit);
+    List<AppointmentSummaryDTO> findSummaries(Specification<Appointment> spec, Sort sort, int limit);
+
+    // Todas as linhas do filtro, lidas do banco sob demanda (exportação)
+    Stream<AppointmentSummaryDTO> streamSummaries(Specification<Appointment> spec, Sort sort);
+}
@@ -0,0 +1,128 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Contact;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.AppointmentRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public class AppointmentRepositoryCustomImpl implements AppointmentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<AppointmentRow> findRows(Specification<Appointment> spec, Pageable pageable) {
+        return ProjectionQueries.findPage(entityManager, Appointment.class, AppointmentRow.class, spec, pageable,
+                AppointmentRepositoryCustomImpl::select);
+    }
+
+    @Override
+    public List<AppointmentRow> findRows(Specification<Appointment> spec, Sort sort) {
+        return ProjectionQueries.findList(entityManager, Appointment.class, AppointmentRow.class, spec, sort,
+                AppointmentRepositoryCustomImpl::select);
+    }
+
+    @Override
+    public Page<AppointmentSummaryDTO> findSummaries(Specification<Appointment> spec, Pageable pageable) {
+        return ProjectionQueries.findPage(entityManager, Appointment.class, AppointmentSummaryDTO.class, spec, pageable,
+                AppointmentRepositoryCustomImpl::selectSummary);
+    }
+
+    @Override
+    public List<AppointmentRow> findRows(Specification<Appointment> spec, Sort sort, int limit) {
+        return ProjectionQueries.findList(entityManager, Appointment.class, AppointmentRow.class, spec, sort, limit,
+                AppointmentRepositoryCustomImpl::select);
+    }
+
+    @Override
+    public List<AppointmentSummaryDTO> findSummaries(Specification<Appointment> spec, Sort sort, int limit) {
+        return ProjectionQueries.findList(entityManager, Appointment.class, AppointmentSummaryDTO.class, spec, sort, limit,
+                AppointmentRepositoryCustomImpl::selectSummary);
+    }
+
+    @Override
+    public Stream<AppointmentSummaryDTO> streamSummaries(Specification<Appointment> spec, Sort sort) {
+        return ProjectionQueries.stream(entityManager, Appointment.class, AppointmentSummaryDTO.class, spec, sort,
+                AppointmentRepositoryCustomImpl::selectSummary);
+    }
+
+    // A ordem das colunas deve seguir exatamente o construtor de AppointmentRow
+    static List<Selection<?>> select(Root<Appointment> root, CriteriaBuilder cb) {
+        Join<Appointment, Client> client = root.join("client");
+        Join<Client, Contact> clientContact = client.join("contact", JoinType.LEFT);
+        Join<Appointment, SalonService> service = root.join("service");
+        Join<Appointment, SystemUser> professional = root.join("professional");
+        Join<SystemUser, Contact> professionalContact = professional.join("contact", JoinType.LEFT);
+
+        return List.of(
+                root.get("id"),
+                root.get("appointmentDate"),
+                root.get("status"),
+                root.get("observations"),
+                root.get("price"),
+                root.get("version"),
+                client.get("id"),
+                client.get("name"),
+                client.get("birthDate"),
+                client.get("gender"),
+                client.get("version"),
+                clientContact.get("id"),
+                clientContact.get("phone"),
+                clientContact.get("phoneIsWhatsapp"),
+                clientContact.get("version"),
+                service.get("id"),
+                service.get("name"),
+                service.get("serviceType"),
+                service.get("durationInMinutes"),
+                service.get("price"),
+                service.get("version"),
+                professional.get("id"),
+                professional.get("name"),
+                professional.get("email"),
+                professional.get("role"),
+                professional.get("version"),
+                professionalContact.get("id"),
+                professionalContact.get("phone"),
+                professionalContact.get("phoneIsWhatsapp"),
+                professionalContact.get("version")
+        );
+    }
+
+    // A ordem das colunas deve seguir exatamente o construtor de AppointmentSummaryDTO
+    static List<Selection<?>> selectSummary(Root<Appointment> root, CriteriaBuilder cb) {
+        Join<Appointment, Client> client = root.join("client");
+        Join<Appointment, SalonService> service = root.join("service");
+        Join<Appointment, SystemUser> professional = root.join("professional");
+
+        return List.of(
+                root.get("id"),
+                root.get("appointmentDate"),
+                root.get("endDate"),
+                root.get("status"),
+                root.get("price"),
+                client.get("id"),
+                client.get("name"),
+                service.get("id"),
+                service.get("name"),
+                professional.get("id"),
+                professional.get("name")
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.AppointmentSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AppointmentSeriesRepository extends JpaRepository<AppointmentSeries, Long> {
+
+    // Séries ativas cujas ocorrências ainda não chegaram ao horizonte
+    @Query("SELECT s FROM AppointmentSeries s " +
+            "WHERE s.materializedUntil < :horizon " +
+            "AND (s.untilDate IS NULL OR s.materializedUntil < s.untilDate)")
+    List<AppointmentSeries> findDueForMaterialization(LocalDate horizon);
+
+    boolean existsByServiceId(Long serviceId);
+
+    boolean existsByProfessionalId(Long professionalId);
+}
@@ -1,13 +1,30 @@
 package br.com.rafaelmaia.mar_de_beleza_system.repository;
 
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.ClientRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
 
     Optional<Client> findByContact_Phone(String phone);
+
+    // Telefones já cadastrados (clientes ou funcionárias) entre os informados; uma consulta por bloco da importação
+    @Query("SELECT ct.phone FROM Contact ct WHERE ct.phone IN :phones")
+    Set<String> findExistingPhones(Collection<String> phones);
+
+    // Listagem de clientes direto em ClientRow, sem hidratar Client e Contact
+    @Query(value = "SELECT new br.com.rafaelmaia.mar_de_beleza_system.repository.projection.ClientRow(" +
+            "c.id, c.name, c.birthDate, c.gender, c.version, ct.id, ct.phone, ct.phoneIsWhatsapp, ct.version) " +
+            "FROM Client c LEFT JOIN c.contact ct",
+            countQuery = "SELECT COUNT(c) FROM Client c")
+    Page<ClientRow> findAllRows(Pageable pageable);
 }
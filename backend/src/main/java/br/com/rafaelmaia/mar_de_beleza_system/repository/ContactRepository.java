@@ -0,0 +1,12 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Contact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ContactRepository extends JpaRepository<Contact, Long> {
+
+    // Telefone de qualquer cadastro (cliente ou funcionária): o índice único de tb_contact.phone vale para os dois
+    boolean existsByPhone(String phone);
+}
@@ -0,0 +1,106 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.DailyRollup;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.DailyRollupId;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.DashboardDayDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.DashboardServiceTypeDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DailyRollupRepository extends JpaRepository<DailyRollup, DailyRollupId> {
+
+    // Soma o delta à linha do dia, criando-a se ainda não existir
+    @Modifying
+    @Query(value = "INSERT INTO tb_daily_rollup (rollup_date, professional_id, service_type, revenue, payment_count, " +
+            "appointment_count, done_count, canceled_count, no_show_count, booked_minutes) " +
+            "VALUES (:rollupDate, :professionalId, :serviceType, :revenue, :paymentCount, " +
+            ":appointmentCount, :doneCount, :canceledCount, :noShowCount, :bookedMinutes) " +
+            "ON CONFLICT (rollup_date, professional_id, service_type) DO UPDATE SET " +
+            "revenue = tb_daily_rollup.revenue + EXCLUDED.revenue, " +
+            "payment_count = tb_daily_rollup.payment_count + EXCLUDED.payment_count, " +
+            "appointment_count = tb_daily_rollup.appointment_count + EXCLUDED.appointment_count, " +
+            "done_count = tb_daily_rollup.done_count + EXCLUDED.done_count, " +
+            "canceled_count = tb_daily_rollup.canceled_count + EXCLUDED.canceled_count, " +
+            "no_show_count = tb_daily_rollup.no_show_count + EXCLUDED.no_show_count, " +
+            "booked_minutes = tb_daily_rollup.booked_minutes + EXCLUDED.booked_minutes",
+            nativeQuery = true)
+    void upsert(LocalDate rollupDate, Long professionalId, String serviceType, BigDecimal revenue, long paymentCount,
+                long appointmentCount, long doneCount, long canceledCount, long noShowCount, long bookedMinutes);
+
+    // Bloqueia as escritas incrementais enquanto um intervalo é reconstruído
+    @Modifying
+    @Query(value = "LOCK TABLE tb_daily_rollup IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query("DELETE FROM DailyRollup r WHERE r.id.rollupDate BETWEEN :startDate AND :endDate")
+    int deleteByPeriod(LocalDate startDate, LocalDate endDate);
+
+    // Recalcula o intervalo a partir de tb_appointment e tb_payment (mesmas regras de RollupDelta)
+    @Modifying
+    @Query(value = "INSERT INTO tb_daily_rollup (rollup_date, professional_id, service_type, revenue, payment_count, " +
+            "appointment_count, done_count, canceled_count, no_show_count, booked_minutes) " +
+            "SELECT x.rollup_date, x.professional_id, x.service_type, SUM(x.revenue), SUM(x.payment_count), " +
+            "SUM(x.appointment_count), SUM(x.done_count), SUM(x.canceled_count), SUM(x.no_show_count), SUM(x.booked_minutes) " +
+            "FROM ( " +
+            "  SELECT CAST(a.appointment_date AS date) AS rollup_date, a.professional_id, s.service_type, " +
+            "         0 AS revenue, 0 AS payment_count, " +
+            "         CASE WHEN a.status = 'CANCELED' THEN 0 ELSE 1 END AS appointment_count, " +
+            "         CASE WHEN a.status = 'DONE' THEN 1 ELSE 0 END AS done_count, " +
+            "         CASE WHEN a.status = 'CANCELED' THEN 1 ELSE 0 END AS canceled_count, " +
+            "         CASE WHEN a.status = 'NO_SHOW' THEN 1 ELSE 0 END AS no_show_count, " +
+            "         CASE WHEN a.status = 'CANCELED' THEN 0 " +
+            "              ELSE CAST(FLOOR(EXTRACT(EPOCH FROM (a.end_date - a.appointment_date)) / 60) AS bigint) END AS booked_minutes " +
+            "  FROM tb_appointment a JOIN tb_salon_service s ON s.id = a.service_id " +
+            "  WHERE a.appointment_date >= :startTime AND a.appointment_date < :endTime AND s.service_type IS NOT NULL " +
+            "  UNION ALL " +
+            "  SELECT CAST(p.payment_date AS date), a.professional_id, s.service_type, " +
+            "         p.total_amount, 1, 0, 0, 0, 0, 0 " +
+            "  FROM tb_payment p JOIN tb_appointment a ON a.id = p.appointment_id JOIN tb_salon_service s ON s.id = a.service_id " +
+            "  WHERE p.status = 'PAID' AND p.payment_date >= :startTime AND p.payment_date < :endTime AND s.service_type IS NOT NULL " +
+            ") x " +
+            "GROUP BY x.rollup_date, x.professional_id, x.service_type",
+            nativeQuery = true)
+    int rebuild(LocalDateTime startTime, LocalDateTime endTime);
+
+    // Limites do histórico, usados para reconstruir tudo de uma vez
+    @Query("SELECT MIN(a.appointmentDate) FROM Appointment a")
+    LocalDateTime findFirstAppointmentDate();
+
+    @Query("SELECT MAX(a.appointmentDate) FROM Appointment a")
+    LocalDateTime findLastAppointmentDate();
+
+    @Query("SELECT MIN(p.paymentDate) FROM Payment p")
+    LocalDateTime findFirstPaymentDate();
+
+    @Query("SELECT MAX(p.paymentDate) FROM Payment p")
+    LocalDateTime findLastPaymentDate();
+
+    // Leitura do dashboard: no máximo uma linha por dia do período
+    @Query("SELECT new br.com.rafaelmaia.mar_de_beleza_system.dto.DashboardDayDTO(" +
+            "r.id.rollupDate, SUM(r.revenue), SUM(r.paymentCount), SUM(r.appointmentCount), " +
+            "SUM(r.doneCount), SUM(r.canceledCount), SUM(r.noShowCount), SUM(r.bookedMinutes)) " +
+            "FROM DailyRollup r " +
+            "WHERE r.id.rollupDate BETWEEN :startDate AND :endDate " +
+            "AND (:professionalId IS NULL OR r.id.professionalId = :professionalId) " +
+            "GROUP BY r.id.rollupDate " +
+            "ORDER BY r.id.rollupDate")
+    List<DashboardDayDTO> sumByDay(LocalDate startDate, LocalDate endDate, Long professionalId);
+
+    @Query("SELECT new br.com.rafaelmaia.mar_de_beleza_system.dto.DashboardServiceTypeDTO(" +
+            "r.id.serviceType, SUM(r.revenue), SUM(r.paymentCount), SUM(r.appointmentCount), SUM(r.bookedMinutes)) " +
+            "FROM DailyRollup r " +
+            "WHERE r.id.rollupDate BETWEEN :startDate AND :endDate " +
+            "AND (:professionalId IS NULL OR r.id.professionalId = :professionalId) " +
+            "GROUP BY r.id.serviceType " +
+            "ORDER BY r.id.serviceType")
+    List<DashboardServiceTypeDTO> sumByServiceType(LocalDate startDate, LocalDate endDate, Long professionalId);
+}
@@ -1,10 +1,18 @@
 package br.com.rafaelmaia.mar_de_beleza_system.repository;
 
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Payment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
-public interface PaymentRepository extends JpaRepository<Payment, Long>, JpaSpecificationExecutor<Payment> {
+public interface PaymentRepository extends JpaRepository<Payment, Long>, JpaSpecificationExecutor<Payment>, PaymentRepositoryCustom {
+
+    @Override
+    @EntityGraph(attributePaths = {"appointment", "appointment.client", "appointment.client.contact",
+            "appointment.service", "appointment.professional", "appointment.professional.contact"})
+    Optional<Payment> findById(Long id);
 }
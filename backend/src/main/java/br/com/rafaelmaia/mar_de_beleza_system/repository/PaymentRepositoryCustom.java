@@ -0,0 +1,31 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Payment;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenueByMethodDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenueByProfessionalDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenuePeriodDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.PaymentRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface PaymentRepositoryCustom {
+
+    Page<PaymentRow> findRows(Specification<Payment> spec, Pageable pageable);
+    Page<PaymentSummaryDTO> findSummaries(Specification<Payment> spec, Pageable pageable);
+    List<PaymentRow> findRows(Specification<Payment> spec, Sort sort, int limit);
+    List<PaymentSummaryDTO> findSummaries(Specification<Payment> spec, Sort sort, int limit);
+
+    // Agregações do relatório financeiro (GROUP BY no banco)
+    List<RevenuePeriodDTO> sumRevenueByDay(Specification<Payment> spec);
+    List<RevenueByMethodDTO> sumRevenueByPaymentMethod(Specification<Payment> spec);
+    List<RevenueByProfessionalDTO> sumRevenueByProfessional(Specification<Payment> spec);
+
+    // Todas as linhas do filtro, lidas do banco sob demanda (exportação)
+    Stream<PaymentSummaryDTO> streamSummaries(Specification<Payment> spec, Sort sort);
+}
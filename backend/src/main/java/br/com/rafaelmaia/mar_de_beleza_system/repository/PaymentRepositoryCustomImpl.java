@@ -0,0 +1,153 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Payment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentMethod;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenueByMethodDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenueByProfessionalDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenuePeriodDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.PaymentRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<PaymentRow> findRows(Specification<Payment> spec, Pageable pageable) {
+        return ProjectionQueries.findPage(entityManager, Payment.class, PaymentRow.class, spec, pageable,
+                PaymentRepositoryCustomImpl::select);
+    }
+
+    @Override
+    public Page<PaymentSummaryDTO> findSummaries(Specification<Payment> spec, Pageable pageable) {
+        return ProjectionQueries.findPage(entityManager, Payment.class, PaymentSummaryDTO.class, spec, pageable,
+                PaymentRepositoryCustomImpl::selectSummary);
+    }
+
+    @Override
+    public List<PaymentRow> findRows(Specification<Payment> spec, Sort sort, int limit) {
+        return ProjectionQueries.findList(entityManager, Payment.class, PaymentRow.class, spec, sort, limit,
+                PaymentRepositoryCustomImpl::select);
+    }
+
+    @Override
+    public List<PaymentSummaryDTO> findSummaries(Specification<Payment> spec, Sort sort, int limit) {
+        return ProjectionQueries.findList(entityManager, Payment.class, PaymentSummaryDTO.class, spec, sort, limit,
+                PaymentRepositoryCustomImpl::selectSummary);
+    }
+
+    @Override
+    public Stream<PaymentSummaryDTO> streamSummaries(Specification<Payment> spec, Sort sort) {
+        return ProjectionQueries.stream(entityManager, Payment.class, PaymentSummaryDTO.class, spec, sort,
+                PaymentRepositoryCustomImpl::selectSummary);
+    }
+
+    @Override
+    public List<RevenuePeriodDTO> sumRevenueByDay(Specification<Payment> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RevenuePeriodDTO> query = cb.createQuery(RevenuePeriodDTO.class);
+        Root<Payment> root = query.from(Payment.class);
+
+        // date(payment_date): semanas e meses são consolidados a partir dos dias no serviço
+        Expression<LocalDate> day = cb.function("date", LocalDate.class, root.get("paymentDate"));
+
+        query.select(cb.construct(RevenuePeriodDTO.class, day, cb.sum(root.<BigDecimal>get("totalAmount")), cb.count(root)))
+                .groupBy(day)
+                .orderBy(cb.asc(day));
+        ProjectionQueries.applySpecification(spec, root, query, cb);
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<RevenueByMethodDTO> sumRevenueByPaymentMethod(Specification<Payment> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RevenueByMethodDTO> query = cb.createQuery(RevenueByMethodDTO.class);
+        Root<Payment> root = query.from(Payment.class);
+
+        Path<PaymentMethod> method = root.get("paymentMethod");
+
+        query.select(cb.construct(RevenueByMethodDTO.class, method, cb.sum(root.<BigDecimal>get("totalAmount")), cb.count(root)))
+                .groupBy(method)
+                .orderBy(cb.asc(method));
+        ProjectionQueries.applySpecification(spec, root, query, cb);
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<RevenueByProfessionalDTO> sumRevenueByProfessional(Specification<Payment> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RevenueByProfessionalDTO> query = cb.createQuery(RevenueByProfessionalDTO.class);
+        Root<Payment> root = query.from(Payment.class);
+
+        Join<Appointment, SystemUser> professional = root.<Payment, Appointment>join("appointment").join("professional");
+        Expression<BigDecimal> total = cb.sum(root.<BigDecimal>get("totalAmount"));
+
+        query.select(cb.construct(RevenueByProfessionalDTO.class, professional.get("id"), professional.get("name"), total, cb.count(root)))
+                .groupBy(professional.get("id"), professional.get("name"))
+                .orderBy(cb.desc(total));
+        ProjectionQueries.applySpecification(spec, root, query, cb);
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    // A ordem das colunas deve seguir exatamente o construtor de PaymentRow
+    static List<Selection<?>> select(Root<Payment> root, CriteriaBuilder cb) {
+        return List.of(
+                root.get("id"),
+                root.get("appointment").get("id"),
+                root.get("totalAmount"),
+                root.get("paymentMethod"),
+                root.get("paymentDate"),
+                root.get("status"),
+                root.get("observations")
+        );
+    }
+
+    // A ordem das colunas deve seguir exatamente o construtor de PaymentSummaryDTO
+    static List<Selection<?>> selectSummary(Root<Payment> root, CriteriaBuilder cb) {
+        Join<Payment, Appointment> appointment = root.join("appointment");
+        Join<Appointment, Client> client = appointment.join("client");
+        Join<Appointment, SalonService> service = appointment.join("service");
+        Join<Appointment, SystemUser> professional = appointment.join("professional");
+
+        return List.of(
+                root.get("id"),
+                root.get("totalAmount"),
+                root.get("paymentMethod"),
+                root.get("paymentDate"),
+                root.get("status"),
+                appointment.get("id"),
+                appointment.get("appointmentDate"),
+                client.get("id"),
+                client.get("name"),
+                service.get("name"),
+                professional.get("id"),
+                professional.get("name")
+        );
+    }
+}
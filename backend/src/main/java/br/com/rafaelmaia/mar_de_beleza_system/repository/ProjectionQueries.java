@@ -0,0 +1,109 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// Executa uma Specification selecionando direto para um record (cb.construct), sem hidratar entidades.
+// Os filtros continuam sendo as mesmas Specifications usadas com findAll.
+final class ProjectionQueries {
+
+    @FunctionalInterface
+    interface RowSelection<T> {
+        List<Selection<?>> select(Root<T> root, CriteriaBuilder cb);
+    }
+
+    // Sem isso o driver do PostgreSQL traz o resultado inteiro para a memória antes da primeira linha
+    static final int STREAM_FETCH_SIZE = 500;
+
+    private ProjectionQueries() {
+    }
+
+    static <T, R> Page<R> findPage(EntityManager entityManager, Class<T> domainClass, Class<R> rowClass,
+                                   Specification<T> spec, Pageable pageable, RowSelection<T> selection) {
+        TypedQuery<R> query = rowQuery(entityManager, domainClass, rowClass, spec, pageable.getSort(), selection);
+
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        // O COUNT só é executado quando não dá para deduzir o total pela própria página
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable,
+                () -> count(entityManager, domainClass, spec));
+    }
+
+    static <T, R> List<R> findList(EntityManager entityManager, Class<T> domainClass, Class<R> rowClass,
+                                   Specification<T> spec, Sort sort, RowSelection<T> selection) {
+        return rowQuery(entityManager, domainClass, rowClass, spec, sort, selection).getResultList();
+    }
+
+    // Usado pela paginação por cursor: sem OFFSET e sem COUNT
+    static <T, R> List<R> findList(EntityManager entityManager, Class<T> domainClass, Class<R> rowClass,
+                                   Specification<T> spec, Sort sort, int limit, RowSelection<T> selection) {
+        return rowQuery(entityManager, domainClass, rowClass, spec, sort, selection)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Exportação: cursor somente-leitura no servidor, lido em blocos de STREAM_FETCH_SIZE linhas.
+    // O resultado são records, então nada fica no contexto de persistência e a memória não cresce com o total.
+    // Deve ser consumido (e fechado) dentro da transação que o abriu.
+    static <T, R> Stream<R> stream(EntityManager entityManager, Class<T> domainClass, Class<R> rowClass,
+                                   Specification<T> spec, Sort sort, RowSelection<T> selection) {
+        return rowQuery(entityManager, domainClass, rowClass, spec, sort, selection)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private static <T, R> TypedQuery<R> rowQuery(EntityManager entityManager, Class<T> domainClass, Class<R> rowClass,
+                                                 Specification<T> spec, Sort sort, RowSelection<T> selection) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(rowClass);
+        Root<T> root = query.from(domainClass);
+
+        query.select(cb.construct(rowClass, selection.select(root, cb).toArray(Selection[]::new)));
+        applySpecification(spec, root, query, cb);
+
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private static <T> long count(EntityManager entityManager, Class<T> domainClass, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    static <T> void applySpecification(Specification<T> spec, Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
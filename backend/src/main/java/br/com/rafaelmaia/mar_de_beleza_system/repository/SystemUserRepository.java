@@ -1,11 +1,19 @@
 package br.com.rafaelmaia.mar_de_beleza_system.repository;
 
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.UserSpecialtyRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface SystemUserRepository extends JpaRepository<SystemUser, Long> {
@@ -14,4 +22,24 @@ public interface SystemUserRepository extends JpaRepository<SystemUser, Long> {
     Optional<SystemUser> findByContact_Phone(String phone);
 
     List<SystemUser> findByCanBeScheduled(Boolean canBeScheduled);
+
+    // Versão atual dos tokens do usuário (vazio quando o usuário foi excluído)
+    @Query("SELECT u.tokenVersion FROM SystemUser u WHERE u.id = :id")
+    Optional<Long> findTokenVersionById(Long id);
+
+    @Query("SELECT new br.com.rafaelmaia.mar_de_beleza_system.repository.projection.UserSpecialtyRow(u.id, s) " +
+            "FROM SystemUser u JOIN u.specialties s WHERE u.id IN :userIds")
+    List<UserSpecialtyRow> findSpecialtyRows(Collection<Long> userIds);
+
+    // Especialidades de vários usuários em uma única consulta (usado pelas listagens por projeção)
+    default Map<Long, Set<ServiceType>> findSpecialtiesByUserIds(Collection<Long> userIds) {
+        Map<Long, Set<ServiceType>> specialties = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return specialties;
+        }
+        for (UserSpecialtyRow row : findSpecialtyRows(userIds)) {
+            specialties.computeIfAbsent(row.userId(), id -> EnumSet.noneOf(ServiceType.class)).add(row.specialty());
+        }
+        return specialties;
+    }
 }
@@ -0,0 +1,45 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository.projection;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Gender;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Role;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Linha "achatada" da listagem de agendamentos: só as colunas exibidas, sem entidades gerenciadas
+public record AppointmentRow(
+        Long id,
+        LocalDateTime appointmentDate,
+        AppointmentStatus status,
+        String observations,
+        BigDecimal price,
+        Long version,
+        Long clientId,
+        String clientName,
+        LocalDate clientBirthDate,
+        Gender clientGender,
+        Long clientVersion,
+        Long clientContactId,
+        String clientPhone,
+        Boolean clientPhoneIsWhatsapp,
+        Long clientContactVersion,
+        Long serviceId,
+        String serviceName,
+        ServiceType serviceType,
+        Integer serviceDurationInMinutes,
+        BigDecimal servicePrice,
+        Long serviceVersion,
+        Long professionalId,
+        String professionalName,
+        String professionalEmail,
+        Role professionalRole,
+        Long professionalVersion,
+        Long professionalContactId,
+        String professionalPhone,
+        Boolean professionalPhoneIsWhatsapp,
+        Long professionalContactVersion
+) {
+}
@@ -0,0 +1,18 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository.projection;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Gender;
+
+import java.time.LocalDate;
+
+public record ClientRow(
+        Long id,
+        String name,
+        LocalDate birthDate,
+        Gender gender,
+        Long version,
+        Long contactId,
+        String phone,
+        Boolean phoneIsWhatsapp,
+        Long contactVersion
+) {
+}
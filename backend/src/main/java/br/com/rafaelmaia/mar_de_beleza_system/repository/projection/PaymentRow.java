@@ -0,0 +1,19 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository.projection;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentMethod;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Linha da listagem de pagamentos; o agendamento é carregado à parte como AppointmentRow
+public record PaymentRow(
+        Long id,
+        Long appointmentId,
+        BigDecimal totalAmount,
+        PaymentMethod paymentMethod,
+        LocalDateTime paymentDate,
+        PaymentStatus status,
+        String observations
+) {
+}
@@ -0,0 +1,6 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository.projection;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+
+public record UserSpecialtyRow(Long userId, ServiceType specialty) {
+}
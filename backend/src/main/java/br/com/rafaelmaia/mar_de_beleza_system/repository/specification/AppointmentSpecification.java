@@ -9,6 +9,7 @@ import org.springframework.util.StringUtils;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 
 public class AppointmentSpecification {
 
@@ -22,6 +23,11 @@ public class AppointmentSpecification {
         };
     }
 
+    // Busca um conjunto de agendamentos pelos IDs (ex: agendamentos de uma página de pagamentos)
+    public static Specification<Appointment> byIds(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
     // Este metodo é para a PÁGINA DE GERENCIAMENTO (busca por múltiplos filtros)
     public static Specification<Appointment> withFilters(
             LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status) {
@@ -0,0 +1,36 @@
+package br.com.rafaelmaia.mar_de_beleza_system.repository.specification;
+
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+// Paginação por "seek": em vez de OFFSET, continua a partir da chave (data, id) do último item lido.
+// O id desempata registros com a mesma data, garantindo uma ordem total e estável.
+public class KeysetSpecification {
+
+    public static <T> Specification<T> after(String dateField, LocalDateTime date, Long id, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            if (date == null || id == null) {
+                return null;
+            }
+            Path<LocalDateTime> datePath = root.get(dateField);
+            Path<Long> idPath = root.get("id");
+
+            if (direction.isAscending()) {
+                return cb.or(
+                        cb.greaterThan(datePath, date),
+                        cb.and(cb.equal(datePath, date), cb.greaterThan(idPath, id)));
+            }
+            return cb.or(
+                    cb.lessThan(datePath, date),
+                    cb.and(cb.equal(datePath, date), cb.lessThan(idPath, id)));
+        };
+    }
+
+    // Ordenação que acompanha a condição acima (deve bater com o índice (data, id))
+    public static Sort sort(String dateField, Sort.Direction direction) {
+        return Sort.by(direction, dateField, "id");
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.rafaelmaia.mar_de_beleza_system.security;
+
+import br.com.rafaelmaia.mar_de_beleza_system.security.jwt.JwtClaims;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+
+// Principal montado a partir das claims de um token já validado, sem consultar o banco.
+// Expõe getId() para as regras "#id == authentication.principal.id" dos controllers.
+@Getter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class AuthenticatedUser implements Principal {
+
+    @EqualsAndHashCode.Include
+    private final Long id;
+    private final String email;
+    private final String fullName;
+    private final String role;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long id, String email, String fullName, String role) {
+        this.id = id;
+        this.email = email;
+        this.fullName = fullName;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    public static AuthenticatedUser fromClaims(JwtClaims claims) {
+        return new AuthenticatedUser(claims.userId(), claims.subject(), claims.fullName(), claims.role());
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,11 +1,21 @@
 package br.com.rafaelmaia.mar_de_beleza_system.security.filter;
 
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.security.AuthenticatedUser;
+import br.com.rafaelmaia.mar_de_beleza_system.security.jwt.JwtClaims;
 import br.com.rafaelmaia.mar_de_beleza_system.security.jwt.JwtService;
+import br.com.rafaelmaia.mar_de_beleza_system.security.service.TokenVersionCache;
 import br.com.rafaelmaia.mar_de_beleza_system.security.service.UserDetailsServiceImpl;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,16 +24,36 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
+    // Esconde o logger (commons-logging) herdado do GenericFilterBean
+    private static final Logger logger = LoggerFactory.getLogger(JwtFilter.class);
+
     private final JwtService jwtService;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenVersionCache tokenVersionCache;
+
+    // true: principal montado das claims do token; false: usuário carregado do banco a cada requisição
+    private final boolean statelessPrincipal;
 
-    public JwtFilter(JwtService jwtService, UserDetailsServiceImpl userDetailsService) {
+    // Tempo gasto autenticando a requisição (sem o restante da cadeia), por resultado
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+    private final Timer anonymousTimer;
+
+    public JwtFilter(JwtService jwtService, UserDetailsServiceImpl userDetailsService, TokenVersionCache tokenVersionCache,
+                     @Value("${app.security.jwt.stateless-principal:true}") boolean statelessPrincipal,
+                     MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.tokenVersionCache = tokenVersionCache;
+        this.statelessPrincipal = statelessPrincipal;
+        this.authenticatedTimer = filterTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = filterTimer(meterRegistry, "rejected");
+        this.anonymousTimer = filterTimer(meterRegistry, "anonymous");
     }
 
     @Override
@@ -37,27 +67,63 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
+        long start = System.nanoTime();
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
+        JwtClaims claims = null;
+        Timer outcome = authHeader == null ? anonymousTimer : rejectedTimer;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            username = jwtService.extractUsername(token);
+            // Uma única validação do token por requisição (e nenhuma quando ele já está no cache)
+            try {
+                claims = jwtService.parseToken(authHeader.substring(7));
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.debug("Token JWT rejeitado: {}", e.getMessage());
+            }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            if (jwtService.isTokenValid(token, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken authToken = statelessPrincipal
+                    ? authenticateFromClaims(claims)
+                    : authenticateFromDatabase(claims);
 
+            if (authToken != null) {
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                outcome = authenticatedTimer;
             }
         }
+        outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         filterChain.doFilter(request, response);
     }
+
+    private static Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("app.security.jwt.filter")
+                .description("Validação do token JWT e montagem do usuário autenticado")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // Sem consulta ao banco: só a versão dos tokens do usuário, que fica em cache
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(JwtClaims claims) {
+        if (claims.userId() == null || claims.role() == null) {
+            return null;
+        }
+        if (!tokenVersionCache.isCurrent(claims.userId(), claims.tokenVersion())) {
+            logger.debug("Token JWT revogado para o usuário ID {}", claims.userId());
+            return null;
+        }
+        AuthenticatedUser principal = AuthenticatedUser.fromClaims(claims);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private UsernamePasswordAuthenticationToken authenticateFromDatabase(JwtClaims claims) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.subject());
+        if (!jwtService.isTokenValid(claims, userDetails)) {
+            return null;
+        }
+        if (userDetails instanceof SystemUser user && user.getTokenVersion() != claims.tokenVersion()) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
 }
@@ -0,0 +1,19 @@
+package br.com.rafaelmaia.mar_de_beleza_system.security.jwt;
+
+import java.time.Instant;
+
+// Dados de um token já validado (assinatura e expiração), extraídos em uma única leitura
+public record JwtClaims(
+        String subject,
+        String role,
+        Long userId,
+        String fullName,
+        long tokenVersion,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
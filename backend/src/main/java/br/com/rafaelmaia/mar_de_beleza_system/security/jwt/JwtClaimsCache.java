@@ -0,0 +1,66 @@
+package br.com.rafaelmaia.mar_de_beleza_system.security.jwt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Cache limitado de tokens já validados, indexado pelo SHA-256 do token (o token em si não fica em memória).
+// Uma entrada só vale até a expiração do próprio token; ao encher, remove as expiradas e, se preciso, limpa tudo.
+class JwtClaimsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtClaimsCache.class);
+
+    private final int maxEntries;
+    private final ConcurrentMap<String, JwtClaims> entries = new ConcurrentHashMap<>();
+
+    JwtClaimsCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    JwtClaims get(String key, Instant now) {
+        JwtClaims claims = entries.get(key);
+        if (claims != null && claims.isExpired(now)) {
+            entries.remove(key, claims);
+            return null;
+        }
+        return claims;
+    }
+
+    void put(String key, JwtClaims claims, Instant now) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(cached -> cached.isExpired(now));
+            if (entries.size() >= maxEntries) {
+                logger.info("Cache de tokens atingiu {} entradas. Limpando o cache.", maxEntries);
+                entries.clear();
+            }
+        }
+        entries.put(key, claims);
+    }
+
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    static String keyOf(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível na JVM", e);
+        }
+    }
+}
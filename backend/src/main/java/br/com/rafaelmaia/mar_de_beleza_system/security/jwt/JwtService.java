@@ -1,12 +1,19 @@
 package br.com.rafaelmaia.mar_de_beleza_system.security.jwt;
 
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -14,16 +21,26 @@ import java.util.Map;
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
-
     private final long expiration = 86400000; // 1 dia em milissegundos
 
+    // Chave e parser montados uma única vez: o JwtParser é imutável e pode ser compartilhado entre threads
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final JwtClaimsCache cache;
+
+    public JwtService(@Value("${jwt.secret}") String secret,
+                      @Value("${app.security.jwt.cache.max-entries:10000}") int cacheMaxEntries) {
+        this.signingKey = new SecretKeySpec(Decoders.BASE64.decode(secret), SignatureAlgorithm.HS256.getJcaName());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.cache = new JwtClaimsCache(cacheMaxEntries);
+    }
+
     public String generateToken(SystemUser user) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("fullName", user.getName());
         claims.put("role", user.getRole().name());
         claims.put("userId", user.getId());
+        claims.put("tokenVersion", user.getTokenVersion());
 
         return createToken(claims, user.getEmail());
     }
@@ -34,29 +51,49 @@ public class JwtService {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(SignatureAlgorithm.HS256, secret)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // Valida assinatura e expiração uma única vez por token; as próximas requisições com o mesmo token vêm do cache.
+    // Lança JwtException (ex: ExpiredJwtException, SignatureException) quando o token é inválido.
+    public JwtClaims parseToken(String token) {
+        Instant now = Instant.now();
+        String key = JwtClaimsCache.keyOf(token);
+
+        JwtClaims cached = cache.get(key, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims body = parser.parseClaimsJws(token).getBody();
+        if (body.getExpiration() == null) {
+            throw new MalformedJwtException("Token sem data de expiração");
+        }
+        Number userId = body.get("userId", Number.class);
+        Number tokenVersion = body.get("tokenVersion", Number.class);
+        JwtClaims claims = new JwtClaims(
+                body.getSubject(),
+                body.get("role", String.class),
+                userId != null ? userId.longValue() : null,
+                body.get("fullName", String.class),
+                tokenVersion != null ? tokenVersion.longValue() : 0L,
+                body.getIssuedAt() != null ? body.getIssuedAt().toInstant() : null,
+                body.getExpiration().toInstant()
+        );
+        cache.put(key, claims, now);
+        return claims;
+    }
+
     public String extractUsername(String token) {
-        return Jwts.parser()
-                .setSigningKey(secret)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseToken(token).subject();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(parseToken(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expiration = Jwts.parser()
-                .setSigningKey(secret)
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
-        return expiration.before(new Date());
+    public boolean isTokenValid(JwtClaims claims, UserDetails userDetails) {
+        return claims.subject().equals(userDetails.getUsername()) && !claims.isExpired(Instant.now());
     }
 }
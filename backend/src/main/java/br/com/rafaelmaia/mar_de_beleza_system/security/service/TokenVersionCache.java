@@ -0,0 +1,86 @@
+package br.com.rafaelmaia.mar_de_beleza_system.security.service;
+
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Versão atual dos tokens de cada usuário, em memória.
+// Evita ir ao banco a cada requisição e ainda assim revoga tokens rapidamente: a versão é relida
+// depois do TTL (alterações feitas em outras instâncias) e descartada na hora quando a alteração é local.
+@Component
+public class TokenVersionCache {
+
+    // Usuário excluído: nenhum token é aceito
+    private static final long REVOKED = -1L;
+
+    private final SystemUserRepository repository;
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final ConcurrentMap<Long, CachedVersion> versions = new ConcurrentHashMap<>();
+
+    // Incrementado a cada invalidação; evita guardar uma versão lida do banco antes de um commit concorrente
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TokenVersionCache(SystemUserRepository repository,
+                             @Value("${app.security.token-version.ttl-seconds:30}") long ttlSeconds,
+                             @Value("${app.security.token-version.max-entries:10000}") int maxEntries) {
+        this.repository = repository;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        if (userId == null) {
+            return false;
+        }
+        return currentVersion(userId) == tokenVersion;
+    }
+
+    // Deve ser chamado quando a versão do usuário muda ou ele é excluído. Dentro de uma transação, vale após o commit.
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    private void evict(Long userId) {
+        invalidations.incrementAndGet();
+        versions.remove(userId);
+    }
+
+    private long currentVersion(Long userId) {
+        long now = System.nanoTime();
+        CachedVersion cached = versions.get(userId);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return cached.version();
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        long version = repository.findTokenVersionById(userId).orElse(REVOKED);
+
+        if (invalidations.get() == invalidationsBeforeLoad) {
+            if (versions.size() >= maxEntries) {
+                versions.clear();
+            }
+            versions.put(userId, new CachedVersion(version, now));
+        }
+        return version;
+    }
+
+    private record CachedVersion(long version, long loadedAt) {}
+}
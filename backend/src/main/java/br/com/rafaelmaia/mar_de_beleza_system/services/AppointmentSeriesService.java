@@ -0,0 +1,15 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services;
+
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSeriesRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSeriesResponseDTO;
+
+import java.time.LocalDate;
+
+public interface AppointmentSeriesService {
+
+    AppointmentSeriesResponseDTO findSeriesById(Long id);
+    AppointmentSeriesResponseDTO createSeries(AppointmentSeriesRequestDTO requestDTO);
+    AppointmentSeriesResponseDTO updateFrom(Long id, LocalDate from, AppointmentSeriesRequestDTO requestDTO);
+    void cancelFrom(Long id, LocalDate from);
+    int materializeDue();
+}
@@ -1,19 +1,33 @@
 package br.com.rafaelmaia.mar_de_beleza_system.services;
 
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentBatchResultDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.CursorPageDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.StatusUpdateRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.ExportFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.List;
 
 public interface AppointmentService {
 
     AppointmentResponseDTO findAppointmentById(Long id);
     Page<AppointmentResponseDTO> findAllAppointments(LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status, Pageable pageable);
     Page<AppointmentResponseDTO> findAppointmentsByDate(LocalDate date, Pageable pageable);
+    Page<AppointmentSummaryDTO> findAllAppointmentSummaries(LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status, Pageable pageable);
+    Page<AppointmentSummaryDTO> findAppointmentSummariesByDate(LocalDate date, Pageable pageable);
+    CursorPageDTO<AppointmentResponseDTO> findAppointmentsByCursor(LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status, String cursor, int size, Sort.Direction direction);
+    CursorPageDTO<AppointmentSummaryDTO> findAppointmentSummariesByCursor(LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status, String cursor, int size, Sort.Direction direction);
+    void exportAppointments(LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status, ExportFormat format, OutputStream output) throws IOException;
     AppointmentResponseDTO create(AppointmentRequestDTO obj);
+    AppointmentBatchResultDTO createBatch(List<AppointmentRequestDTO> requests);
     AppointmentResponseDTO update(Long id, AppointmentRequestDTO obj);
     void delete(Long id);
     AppointmentResponseDTO updateStatus(Long id, StatusUpdateRequestDTO statusUpdateDTO);
@@ -0,0 +1,9 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services;
+
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AvailabilityResponseDTO;
+
+import java.time.LocalDate;
+
+public interface AvailabilityService {
+    AvailabilityResponseDTO findAvailability(Long serviceId, LocalDate date, Integer days, Long professionalId);
+}
@@ -1,10 +1,14 @@
 package br.com.rafaelmaia.mar_de_beleza_system.services;
 
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientImportResultDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientResponseDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 public interface ClientService {
 
     ClientResponseDTO findClientById(Long id);
@@ -12,4 +16,5 @@ public interface ClientService {
     ClientResponseDTO createClient(ClientRequestDTO requestDTO);
     ClientResponseDTO updateClient(Long id, ClientRequestDTO requestDTO);
     void deleteClient(Long id);
+    ClientImportResultDTO importClients(InputStream csv) throws IOException;
 }
@@ -1,16 +1,29 @@
 package br.com.rafaelmaia.mar_de_beleza_system.services;
 
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.CursorPageDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenuePeriod;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenueReportDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.ExportFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 
 public interface PaymentService {
     PaymentResponseDTO findPaymentById(Long id);
     Page<PaymentResponseDTO> findAllPayments(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status, Pageable pageable);
+    Page<PaymentSummaryDTO> findAllPaymentSummaries(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status, Pageable pageable);
+    CursorPageDTO<PaymentResponseDTO> findPaymentsByCursor(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status, String cursor, int size, Sort.Direction direction);
+    CursorPageDTO<PaymentSummaryDTO> findPaymentSummariesByCursor(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status, String cursor, int size, Sort.Direction direction);
+    void exportPayments(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status, ExportFormat format, OutputStream output) throws IOException;
+    RevenueReportDTO generateRevenueReport(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status, RevenuePeriod groupBy);
     PaymentResponseDTO create(PaymentRequestDTO obj);
     PaymentResponseDTO update(Long id, PaymentRequestDTO obj);
     void cancelPayment(Long id);
@@ -0,0 +1,15 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services;
+
+import br.com.rafaelmaia.mar_de_beleza_system.dto.DashboardSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.services.rollup.RollupDelta;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RollupService {
+    void recordChange(RollupDelta previous, RollupDelta current);
+    void recordChanges(List<RollupDelta> previous, List<RollupDelta> current);
+    int rebuild(LocalDate startDate, LocalDate endDate);
+    int rebuildAll();
+    DashboardSummaryDTO getDashboard(LocalDate startDate, LocalDate endDate, Long professionalId);
+}
@@ -0,0 +1,60 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.audit;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.AppointmentEvent;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Payment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentEventType;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Mudança de estado publicada pelos serviços dentro da transação e gravada em tb_appointment_event após o commit.
+// Só carrega valores simples (nada de entidades): é lida em outra thread, depois que a sessão já foi fechada.
+public record AppointmentAuditEvent(
+        Long appointmentId,
+        Long paymentId,
+        AppointmentEventType eventType,
+        AppointmentStatus previousStatus,
+        AppointmentStatus newStatus,
+        BigDecimal amount,
+        String performedBy,
+        LocalDateTime occurredAt
+) {
+
+    public static AppointmentAuditEvent statusChanged(Long appointmentId, AppointmentStatus previousStatus, AppointmentStatus newStatus) {
+        return new AppointmentAuditEvent(appointmentId, null, AppointmentEventType.STATUS_CHANGED,
+                previousStatus, newStatus, null, currentUser(), LocalDateTime.now());
+    }
+
+    public static AppointmentAuditEvent paymentRegistered(Payment payment, AppointmentStatus previousStatus) {
+        return new AppointmentAuditEvent(payment.getAppointment().getId(), payment.getId(), AppointmentEventType.PAYMENT_REGISTERED,
+                previousStatus, payment.getAppointment().getStatus(), payment.getTotalAmount(), currentUser(), LocalDateTime.now());
+    }
+
+    // O cancelamento não altera o status do agendamento (e getId() não inicializa a associação preguiçosa)
+    public static AppointmentAuditEvent paymentCanceled(Payment payment) {
+        return new AppointmentAuditEvent(payment.getAppointment().getId(), payment.getId(), AppointmentEventType.PAYMENT_CANCELED,
+                null, null, payment.getTotalAmount(), currentUser(), LocalDateTime.now());
+    }
+
+    AppointmentEvent toEntity() {
+        return AppointmentEvent.builder()
+                .appointmentId(appointmentId)
+                .paymentId(paymentId)
+                .eventType(eventType)
+                .previousStatus(previousStatus)
+                .newStatus(newStatus)
+                .amount(amount)
+                .performedBy(performedBy)
+                .occurredAt(occurredAt)
+                .build();
+    }
+
+    // Lido na thread da requisição, no momento da alteração
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.audit;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.AppointmentEvent;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Grava a trilha de auditoria fora da requisição: os eventos entram numa fila limitada após o commit e uma thread
+// própria os insere em lotes, a cada batch-size eventos ou flush-interval-ms desde o primeiro evento do lote.
+//
+// Contrapressão: com a fila cheia, a requisição espera no máximo enqueue-timeout-ms por espaço e, depois disso,
+// o evento é descartado (logado e contado em app.audit.events{result=dropped}). A auditoria nunca segura a
+// reserva por mais que esse limite nem derruba a requisição.
+// No desligamento a fila é esvaziada antes de o pool de conexões fechar, com limite de shutdown-timeout-ms.
+@Component
+public class AppointmentEventWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AppointmentEventWriter.class);
+
+    private static final long WAKE_UP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AppointmentEventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<AppointmentAuditEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long enqueueTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public AppointmentEventWriter(AppointmentEventRepository eventRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${app.audit.batch-size:100}") int batchSize,
+                                  @Value("${app.audit.flush-interval-ms:500}") long flushIntervalMillis,
+                                  @Value("${app.audit.enqueue-timeout-ms:20}") long enqueueTimeoutMillis,
+                                  @Value("${app.audit.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+
+        this.written = eventCounter(meterRegistry, "written");
+        this.dropped = eventCounter(meterRegistry, "dropped");
+        this.failed = eventCounter(meterRegistry, "failed");
+        Gauge.builder("app.audit.queue.size", queue, BlockingQueue::size)
+                .description("Eventos de auditoria aguardando gravação")
+                .register(meterRegistry);
+
+        this.worker = Thread.ofPlatform().name("audit-writer").daemon(true).start(this::run);
+    }
+
+    // Rollback: nada foi alterado e nada é auditado
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommitted(AppointmentAuditEvent event) {
+        enqueue(event);
+    }
+
+    public boolean enqueue(AppointmentAuditEvent event) {
+        if (running) {
+            try {
+                if (queue.offer(event, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        dropped.increment();
+        logger.warn("Evento de auditoria {} do agendamento ID {} descartado ({}).", event.eventType(), event.appointmentId(),
+                running ? "fila cheia" : "aplicação encerrando");
+        return false;
+    }
+
+    // Espera o primeiro evento, junta o que chegar até completar o lote ou vencer o intervalo, e grava tudo junto.
+    // Nenhuma espera passa de WAKE_UP_NANOS, para o desligamento não ficar preso num poll longo.
+    private void run() {
+        List<AppointmentAuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AppointmentAuditEvent first = queue.poll(WAKE_UP_NANOS, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                queue.drainTo(batch, batchSize - batch.size());
+                while (running && batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    AppointmentAuditEvent next = queue.poll(Math.min(remaining, WAKE_UP_NANOS), TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                        queue.drainTo(batch, batchSize - batch.size());
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Só acontece quando o desligamento passou do limite: o que ainda não foi gravado é perdido
+                return;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<AppointmentAuditEvent> batch) {
+        List<AppointmentEvent> events = batch.stream().map(AppointmentAuditEvent::toEntity).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> eventRepository.saveAll(events));
+            written.increment(events.size());
+        } catch (RuntimeException e) {
+            // A auditoria não pode derrubar a aplicação: o lote é perdido, mas fica registrado no log e na métrica
+            failed.increment(events.size());
+            logger.error("Falha ao gravar {} eventos de auditoria (agendamentos {}).", events.size(),
+                    events.stream().map(AppointmentEvent::getAppointmentId).distinct().toList(), e);
+        }
+    }
+
+    // Roda antes de o EntityManagerFactory e o pool fecharem (este bean depende deles)
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            worker.interrupt();
+            logger.warn("Gravação da auditoria não terminou em {} ms; {} eventos ficaram na fila.", shutdownTimeoutMillis, queue.size());
+        } else {
+            logger.info("Fila de auditoria esvaziada no desligamento.");
+        }
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("app.audit.events")
+                .description("Eventos de auditoria por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
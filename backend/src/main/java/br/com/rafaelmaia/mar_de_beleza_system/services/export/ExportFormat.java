@@ -0,0 +1,44 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.export;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+// Formatos das exportações completas (contabilidade, planilhas)
+public enum ExportFormat {
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv"),
+    // Um objeto JSON por linha: dá para processar o arquivo linha a linha, sem carregar tudo
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileName(String baseName) {
+        return baseName + "." + extension;
+    }
+
+    // Valor ausente exporta em CSV, o formato que a contabilidade abre direto; valor desconhecido é rejeitado.
+    // Aceita maiúsculas ou minúsculas (format=ndjson)
+    public static ExportFormat from(String format) {
+        if (!StringUtils.hasText(format)) {
+            return CSV;
+        }
+        String normalized = format.trim().toUpperCase(Locale.ROOT);
+        for (ExportFormat exportFormat : values()) {
+            if (exportFormat.name().equals(normalized)) {
+                return exportFormat;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportação inválido: " + format + " (use csv ou ndjson)");
+    }
+}
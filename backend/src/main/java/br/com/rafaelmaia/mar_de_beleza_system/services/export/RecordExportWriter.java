@@ -0,0 +1,95 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Escreve as linhas de uma projeção (record) na resposta à medida que saem do cursor do banco.
+// Nada é acumulado: cada linha é escrita e descartada, e a saída é enviada ao cliente a cada bloco.
+@Component
+@RequiredArgsConstructor
+public class RecordExportWriter {
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final ObjectMapper objectMapper;
+
+    public <R extends Record> long write(Stream<R> rows, Class<R> rowClass, ExportFormat format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        RecordComponent[] columns = rowClass.getRecordComponents();
+
+        if (format == ExportFormat.CSV) {
+            // BOM: o Excel só reconhece UTF-8 (acentos dos nomes) com ele
+            writer.write('\uFEFF');
+            writer.write(String.join(",", Arrays.stream(columns).map(RecordComponent::getName).toList()));
+            writer.write("\r\n");
+        }
+
+        long count = 0;
+        for (Iterator<R> iterator = rows.iterator(); iterator.hasNext(); ) {
+            R row = iterator.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, row, columns);
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, Record row, RecordComponent[] columns) throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(valueOf(row, columns[i].getAccessor())));
+        }
+        writer.write("\r\n");
+    }
+
+    private static Object valueOf(Record row, Method accessor) {
+        try {
+            return accessor.invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Não foi possível ler a coluna " + accessor.getName() + " da exportação", e);
+        }
+    }
+
+    // RFC 4180: aspas quando há separador, aspas ou quebra de linha no valor
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            // Texto livre (nomes, observações) não pode virar fórmula ao abrir a planilha
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,255 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.AppointmentSeries;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentBatchItemDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSeriesRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSeriesResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.SkippedOccurrenceDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentSeriesRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.ClientRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SalonServiceRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentSeriesService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.BusinessRuleException;
+import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.ObjectNotFoundException;
+import br.com.rafaelmaia.mar_de_beleza_system.services.rollup.RollupDelta;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.AppointmentBatchWriter;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.AppointmentScheduleIndex;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Timed("app.service")
+public class AppointmentSeriesServiceImpl implements AppointmentSeriesService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AppointmentSeriesServiceImpl.class);
+
+    private final AppointmentSeriesRepository seriesRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final ClientRepository clientRepository;
+    private final SystemUserRepository systemUserRepository;
+    private final SalonServiceRepository salonServiceRepository;
+    private final AppointmentBatchWriter batchWriter;
+    private final AppointmentScheduleIndex scheduleIndex;
+    private final RollupService rollupService;
+    private final int horizonDays;
+
+    public AppointmentSeriesServiceImpl(AppointmentSeriesRepository seriesRepository,
+                                        AppointmentRepository appointmentRepository,
+                                        ClientRepository clientRepository,
+                                        SystemUserRepository systemUserRepository,
+                                        SalonServiceRepository salonServiceRepository,
+                                        AppointmentBatchWriter batchWriter,
+                                        AppointmentScheduleIndex scheduleIndex,
+                                        RollupService rollupService,
+                                        @Value("${app.series.horizon-days:90}") int horizonDays) {
+        this.seriesRepository = seriesRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.clientRepository = clientRepository;
+        this.systemUserRepository = systemUserRepository;
+        this.salonServiceRepository = salonServiceRepository;
+        this.batchWriter = batchWriter;
+        this.scheduleIndex = scheduleIndex;
+        this.rollupService = rollupService;
+        this.horizonDays = horizonDays;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AppointmentSeriesResponseDTO findSeriesById(Long id) {
+        return AppointmentSeriesResponseDTO.fromEntity(findSeries(id));
+    }
+
+    @Override
+    @Transactional
+    public AppointmentSeriesResponseDTO createSeries(AppointmentSeriesRequestDTO request) {
+        logger.info("Criando série recorrente para o cliente ID: {} a cada {} dias", request.clientId(), request.intervalInDays());
+
+        AppointmentSeries series = seriesRepository.save(newSeries(request));
+        List<SkippedOccurrenceDTO> skipped = materialize(List.of(series), horizon());
+
+        // Flush antes de montar a resposta: o DTO sai com materializedUntil e @Version atualizados
+        seriesRepository.saveAndFlush(series);
+        logger.info("Série ID {} criada até {} ({} ocorrências puladas).", series.getId(), series.getMaterializedUntil(), skipped.size());
+
+        return AppointmentSeriesResponseDTO.fromEntity(series, skipped);
+    }
+
+    @Override
+    @Transactional
+    public AppointmentSeriesResponseDTO updateFrom(Long id, LocalDate from, AppointmentSeriesRequestDTO request) {
+        logger.info("Alterando a série ID: {} a partir de {}", id, from);
+
+        AppointmentSeries series = findSeries(id);
+        validateNotInThePast(from);
+        if (request.firstOccurrence().toLocalDate().isBefore(from)) {
+            throw new BusinessRuleException("A nova primeira ocorrência deve ser a partir de " + from + ".");
+        }
+
+        removeOccurrencesFrom(series, from);
+
+        AppointmentSeries target;
+        if (!from.isAfter(series.getFirstOccurrence().toLocalDate())) {
+            // A alteração vale para a série inteira: atualiza a regra e gera de novo todas as ocorrências
+            applyRequest(series, request);
+            series.setMaterializedUntil(series.getFirstOccurrence().toLocalDate().minusDays(1));
+            target = series;
+        } else {
+            // "Esta e as próximas": a série atual termina na véspera e a nova regra segue em outra série
+            endBefore(series, from);
+            target = seriesRepository.save(newSeries(request));
+        }
+
+        List<SkippedOccurrenceDTO> skipped = materialize(List.of(target), horizon());
+        seriesRepository.saveAndFlush(target);
+        logger.info("Série ID {} alterada a partir de {}; regra vigente na série ID {}.", id, from, target.getId());
+
+        return AppointmentSeriesResponseDTO.fromEntity(target, skipped);
+    }
+
+    @Override
+    @Transactional
+    public void cancelFrom(Long id, LocalDate from) {
+        logger.info("Encerrando a série ID: {} a partir de {}", id, from);
+
+        AppointmentSeries series = findSeries(id);
+        validateNotInThePast(from);
+
+        removeOccurrencesFrom(series, from);
+        endBefore(series, from);
+    }
+
+    // Avança todas as séries atrasadas até o horizonte em uma única gravação em lote
+    @Override
+    @Transactional
+    public int materializeDue() {
+        LocalDate horizon = horizon();
+        List<AppointmentSeries> due = seriesRepository.findDueForMaterialization(horizon);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<SkippedOccurrenceDTO> skipped = materialize(due, horizon);
+        logger.info("{} séries avançadas até {} ({} ocorrências puladas por conflito).", due.size(), horizon, skipped.size());
+        return due.size();
+    }
+
+    private LocalDate horizon() {
+        return LocalDate.now().plusDays(horizonDays);
+    }
+
+    // Gera as ocorrências entre o último dia gravado e o horizonte e grava todas de uma vez, com as mesmas
+    // regras de conflito da criação avulsa. Ocorrências em conflito são puladas e devolvidas na resposta.
+    private List<SkippedOccurrenceDTO> materialize(List<AppointmentSeries> seriesList, LocalDate horizon) {
+        LocalDate today = LocalDate.now();
+        List<AppointmentRequestDTO> requests = new ArrayList<>();
+        List<AppointmentSeries> owners = new ArrayList<>();
+
+        for (AppointmentSeries series : seriesList) {
+            LocalDate from = series.getMaterializedUntil().plusDays(1);
+            // Série que ficou sem ser avançada por um tempo não gera agendamentos no passado
+            for (LocalDateTime occurrence : series.occurrencesBetween(from.isBefore(today) ? today : from, horizon)) {
+                requests.add(new AppointmentRequestDTO(
+                        series.getClient().getId(),
+                        occurrence,
+                        series.getService().getId(),
+                        series.getProfessional().getId(),
+                        series.getPrice(),
+                        series.getObservations(),
+                        AppointmentStatus.SCHEDULED));
+                owners.add(series);
+            }
+            series.setMaterializedUntil(horizon);
+        }
+
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        List<SkippedOccurrenceDTO> skipped = new ArrayList<>();
+        for (AppointmentBatchItemDTO result : batchWriter.write(requests, owners::get)) {
+            if (!result.created()) {
+                skipped.add(new SkippedOccurrenceDTO(requests.get(result.index()).appointmentDate(), result.error()));
+            }
+        }
+        return skipped;
+    }
+
+    // Remove as ocorrências futuras que ainda não foram atendidas nem pagas; as demais ficam como histórico
+    private void removeOccurrencesFrom(AppointmentSeries series, LocalDate from) {
+        List<Appointment> occurrences = appointmentRepository.findReplaceableOccurrences(series.getId(), from.atStartOfDay());
+        if (occurrences.isEmpty()) {
+            return;
+        }
+
+        occurrences.forEach(appointment -> scheduleIndex.replace(ScheduleInterval.of(appointment), null));
+        rollupService.recordChanges(occurrences.stream().map(RollupDelta::ofAppointment).toList(), List.of());
+        appointmentRepository.deleteAllInBatch(occurrences);
+        logger.info("{} ocorrências da série ID {} removidas a partir de {}.", occurrences.size(), series.getId(), from);
+    }
+
+    private void endBefore(AppointmentSeries series, LocalDate from) {
+        LocalDate lastDay = from.minusDays(1);
+        if (series.getUntilDate() == null || series.getUntilDate().isAfter(lastDay)) {
+            series.setUntilDate(lastDay);
+        }
+    }
+
+    private AppointmentSeries newSeries(AppointmentSeriesRequestDTO request) {
+        AppointmentSeries series = new AppointmentSeries();
+        applyRequest(series, request);
+        series.setMaterializedUntil(request.firstOccurrence().toLocalDate().minusDays(1));
+        return series;
+    }
+
+    private void applyRequest(AppointmentSeries series, AppointmentSeriesRequestDTO request) {
+        if (request.untilDate() != null && request.untilDate().isBefore(request.firstOccurrence().toLocalDate())) {
+            throw new BusinessRuleException("A data final da série não pode ser anterior à primeira ocorrência.");
+        }
+
+        Client client = clientRepository.findById(request.clientId())
+                .orElseThrow(() -> new ObjectNotFoundException("Cliente não encontrado com id " + request.clientId()));
+        SystemUser professional = systemUserRepository.findById(request.professionalId())
+                .orElseThrow(() -> new ObjectNotFoundException("Profissional não encontrado com id " + request.professionalId()));
+        SalonService service = salonServiceRepository.findById(request.salonServiceId())
+                .orElseThrow(() -> new ObjectNotFoundException("Serviço não encontrado com id " + request.salonServiceId()));
+
+        series.setClient(client);
+        series.setProfessional(professional);
+        series.setService(service);
+        series.setFirstOccurrence(request.firstOccurrence());
+        series.setIntervalInDays(request.intervalInDays());
+        series.setUntilDate(request.untilDate());
+        series.setPrice(request.price());
+        series.setObservations(request.observations());
+    }
+
+    private void validateNotInThePast(LocalDate from) {
+        if (from.isBefore(LocalDate.now())) {
+            throw new BusinessRuleException("Não é possível alterar ocorrências passadas da série.");
+        }
+    }
+
+    private AppointmentSeries findSeries(Long id) {
+        return seriesRepository.findById(id)
+                .orElseThrow(() -> new ObjectNotFoundException("Série não encontrada com ID: " + id));
+    }
+}
@@ -5,32 +5,66 @@ import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentBatchResultDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.CursorPageDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.SalonServiceResponseDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.StatusUpdateRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.UserResponseDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.ClientRepository;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.SalonServiceRepository;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.AppointmentRow;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.specification.AppointmentSpecification;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.specification.KeysetSpecification;
 import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.SalonServiceService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.UserService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.audit.AppointmentAuditEvent;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.BusinessRuleException;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.ObjectNotFoundException;
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.ExportFormat;
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.RecordExportWriter;
+import br.com.rafaelmaia.mar_de_beleza_system.services.pagination.PageCursor;
+import br.com.rafaelmaia.mar_de_beleza_system.services.rollup.RollupDelta;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.AppointmentBatchWriter;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.AppointmentScheduleIndex;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.DaySchedule;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ProfessionalScheduleLock;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.SchedulingMetrics;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class AppointmentServiceImpl implements AppointmentService {
 
     private static final Logger logger = LoggerFactory.getLogger(AppointmentServiceImpl.class);
@@ -43,6 +77,24 @@ public class AppointmentServiceImpl implements AppointmentService {
 
     private final SalonServiceRepository salonServiceRepository;
 
+    private final AppointmentScheduleIndex scheduleIndex;
+
+    private final ProfessionalScheduleLock scheduleLock;
+
+    private final RollupService rollupService;
+
+    private final UserService userService;
+
+    private final SalonServiceService salonServiceService;
+
+    private final AppointmentBatchWriter batchWriter;
+
+    private final RecordExportWriter exportWriter;
+
+    private final SchedulingMetrics schedulingMetrics;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     @Transactional(readOnly = true)
     public AppointmentResponseDTO findAppointmentById(Long id) {
@@ -55,7 +107,7 @@ public class AppointmentServiceImpl implements AppointmentService {
     @Transactional(readOnly = true)
     public Page<AppointmentResponseDTO> findAppointmentsByDate(LocalDate date, Pageable pageable) {
         Specification<Appointment> spec = AppointmentSpecification.byDate(date);
-        return appointmentRepository.findAll(spec, pageable).map(AppointmentResponseDTO::fromEntity);
+        return toResponsePage(appointmentRepository.findRows(spec, pageable));
     }
 
     @Override
@@ -64,9 +116,86 @@ public class AppointmentServiceImpl implements AppointmentService {
         // Aplica filtros dinâmicos por data, cliente, profissional e status
         Specification<Appointment> spec = AppointmentSpecification.withFilters(startDate, endDate, professionalId, clientId, status);
 
-        Page<Appointment> appointmentPage = appointmentRepository.findAll(spec, pageable);
+        // Projeção direto para AppointmentRow: sem entidades gerenciadas nem dirty-checking na listagem
+        return toResponsePage(appointmentRepository.findRows(spec, pageable));
+    }
 
-        return appointmentPage.map(AppointmentResponseDTO::fromEntity);
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AppointmentSummaryDTO> findAllAppointmentSummaries(LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status, Pageable pageable) {
+        Specification<Appointment> spec = AppointmentSpecification.withFilters(startDate, endDate, professionalId, clientId, status);
+        return appointmentRepository.findSummaries(spec, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AppointmentSummaryDTO> findAppointmentSummariesByDate(LocalDate date, Pageable pageable) {
+        return appointmentRepository.findSummaries(AppointmentSpecification.byDate(date), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AppointmentResponseDTO> findAppointmentsByCursor(LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status,
+                                                                         String cursor, int size, Sort.Direction direction) {
+        // Busca um item a mais só para saber se existe próxima página
+        List<AppointmentRow> rows = appointmentRepository.findRows(
+                keysetFilters(startDate, endDate, professionalId, clientId, status, cursor, direction),
+                KeysetSpecification.sort("appointmentDate", direction),
+                size + 1);
+
+        Map<Long, Set<ServiceType>> specialties = specialtiesOf(rows);
+        List<AppointmentResponseDTO> content = rows.stream()
+                .map(row -> AppointmentResponseDTO.fromRow(row, specialties))
+                .toList();
+
+        return CursorPageDTO.fromSlice(content, size, appointment -> new PageCursor(appointment.appointmentDate(), appointment.id()).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AppointmentSummaryDTO> findAppointmentSummariesByCursor(LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status,
+                                                                                String cursor, int size, Sort.Direction direction) {
+        List<AppointmentSummaryDTO> rows = appointmentRepository.findSummaries(
+                keysetFilters(startDate, endDate, professionalId, clientId, status, cursor, direction),
+                KeysetSpecification.sort("appointmentDate", direction),
+                size + 1);
+
+        return CursorPageDTO.fromSlice(rows, size, appointment -> new PageCursor(appointment.appointmentDate(), appointment.id()).encode());
+    }
+
+    // Mesmos filtros da listagem paginada, mais a condição de continuar após o cursor
+    private Specification<Appointment> keysetFilters(LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status,
+                                                     String cursor, Sort.Direction direction) {
+        PageCursor position = PageCursor.decode(cursor);
+        Specification<Appointment> spec = AppointmentSpecification.withFilters(startDate, endDate, professionalId, clientId, status);
+
+        return position == null
+                ? spec
+                : spec.and(KeysetSpecification.after("appointmentDate", position.date(), position.id(), direction));
+    }
+
+    private Page<AppointmentResponseDTO> toResponsePage(Page<AppointmentRow> rows) {
+        Map<Long, Set<ServiceType>> specialties = specialtiesOf(rows.getContent());
+
+        return rows.map(row -> AppointmentResponseDTO.fromRow(row, specialties));
+    }
+
+    private Map<Long, Set<ServiceType>> specialtiesOf(List<AppointmentRow> rows) {
+        Set<Long> professionalIds = rows.stream().map(AppointmentRow::professionalId).collect(Collectors.toSet());
+        return systemUserRepository.findSpecialtiesByUserIds(professionalIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAppointments(LocalDate startDate, LocalDate endDate, Long professionalId, Long clientId, String status,
+                                   ExportFormat format, OutputStream output) throws IOException {
+        Specification<Appointment> spec = AppointmentSpecification.withFilters(startDate, endDate, professionalId, clientId, status);
+
+        // O cursor fica aberto durante toda a escrita; cada linha vai para a resposta assim que é lida
+        try (Stream<AppointmentSummaryDTO> rows = appointmentRepository.streamSummaries(spec, Sort.by("appointmentDate", "id"))) {
+            long exported = exportWriter.write(rows, AppointmentSummaryDTO.class, format, output);
+            logger.info("Exportação de agendamentos ({}) concluída: {} linhas.", format, exported);
+        }
     }
 
     @Override
@@ -74,58 +203,50 @@ public class AppointmentServiceImpl implements AppointmentService {
     public AppointmentResponseDTO create(AppointmentRequestDTO request) {
         logger.info("Iniciando processo de criação de agendamento para o cliente ID: {}", request.clientId());
 
-        // 1. Busca as entidades principais que serão associadas ao agendamento
+        // 1. Cliente vem do banco; profissional e serviço vêm do cache de cadastros (mudam raramente)
         Client client = clientRepository.findById(request.clientId())
                 .orElseThrow(() -> new ObjectNotFoundException("Cliente não encontrado com id " + request.clientId()));
 
-        SystemUser professional = systemUserRepository.findById(request.professionalId())
-                .orElseThrow(() -> new ObjectNotFoundException("Profissional não encontrado com id " + request.professionalId()));
-
-        SalonService service = salonServiceRepository.findById(request.salonServiceId())
-                .orElseThrow(() -> new ObjectNotFoundException("Serviço não encontrado com id " + request.salonServiceId()));
+        UserResponseDTO professional = userService.findUserById(request.professionalId());
+        SalonServiceResponseDTO service = salonServiceService.findServiceById(request.salonServiceId());
 
         // --- LÓGICA DE VALIDAÇÃO DE CONFLITO ---
         LocalDateTime startTime = request.appointmentDate();
-        LocalDateTime endTime = startTime.plusMinutes(service.getDurationInMinutes());
+        LocalDateTime endTime = startTime.plusMinutes(service.durationInMinutes());
 
-        logger.debug("Verificando disponibilidade para o profissional ID {} no horário: {} a {}", professional.getId(), startTime.toLocalTime(), endTime.toLocalTime());
-
-        LocalDateTime startOfDay = startTime.toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = startTime.toLocalDate().plusDays(1).atStartOfDay();
-        List<Appointment> existingAppointments = appointmentRepository.findPotentialConflicts(professional.getId(), startOfDay, endOfDay);
-
-        for (Appointment existing : existingAppointments) {
-            // Calcula o fim do agendamento existente
-            LocalDateTime existingStartTime = existing.getAppointmentDate();
-            LocalDateTime existingEndTime = existingStartTime.plusMinutes(existing.getService().getDurationInMinutes());
-
-            // Lógica de sobreposição: (Início A < Fim B) E (Fim A > Início B)
-            if (startTime.isBefore(existingEndTime) && endTime.isAfter(existingStartTime)) {
-                logger.warn("Conflito de horário detectado. Novo agendamento para {} colide com agendamento existente ID {}", professional.getName(), existing.getId());
-                throw new BusinessRuleException(
-                        "Conflito de horário: O profissional já tem um agendamento das " +
-                                existingStartTime.toLocalTime() + " às " + existingEndTime.toLocalTime()
-                );
-            }
-        }
+        validateScheduleConflict(professional.id(), professional.name(), startTime, endTime, null);
 
         logger.info("Nenhum conflito de horário encontrado. Prosseguindo com a criação.");
 
         // --- CRIAÇÃO DA NOVA ENTIDADE ---
+        // Referências sem SELECT: só o id é usado para gravar as chaves estrangeiras
         Appointment newAppointment = Appointment.builder()
                 .client(client)
-                .professional(professional)
-                .service(service)
+                .professional(systemUserRepository.getReferenceById(professional.id()))
+                .service(salonServiceRepository.getReferenceById(service.id()))
                 .appointmentDate(startTime)
+                .endDate(endTime)
                 .price(request.price())
                 .observations(request.observations())
                 .status(request.status() != null ? request.status() : AppointmentStatus.SCHEDULED)
                 .build();
 
         Appointment savedAppointment = appointmentRepository.save(newAppointment);
+        scheduleIndex.replace(null, ScheduleInterval.of(savedAppointment, professional.id()));
+        rollupService.recordChange(null, RollupDelta.ofAppointment(savedAppointment, professional.id(), service.serviceType()));
         logger.info("Agendamento ID {} criado com sucesso.", savedAppointment.getId());
 
-        return AppointmentResponseDTO.fromEntity(savedAppointment);
+        return AppointmentResponseDTO.of(savedAppointment, ClientResponseDTO.fromEntity(client), service, professional);
+    }
+
+    @Override
+    @Transactional
+    public AppointmentBatchResultDTO createBatch(List<AppointmentRequestDTO> requests) {
+        logger.info("Iniciando criação em lote de {} agendamentos.", requests.size());
+
+        AppointmentBatchResultDTO result = AppointmentBatchResultDTO.of(batchWriter.write(requests));
+        logger.info("Lote de agendamentos processado: {} criados, {} rejeitados.", result.created(), result.rejected());
+        return result;
     }
 
     @Override
@@ -149,42 +270,27 @@ public class AppointmentServiceImpl implements AppointmentService {
         LocalDateTime startTime = request.appointmentDate();
         LocalDateTime endTime = startTime.plusMinutes(service.getDurationInMinutes());
 
-        logger.debug("Verificando disponibilidade para o profissional ID {} no horário: {} a {}", professional.getId(), startTime.toLocalTime(), endTime.toLocalTime());
-
-        LocalDateTime startOfDay = startTime.toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = startTime.toLocalDate().plusDays(1).atStartOfDay();
-        List<Appointment> existingAppointments = appointmentRepository.findPotentialConflicts(professional.getId(), startOfDay, endOfDay);
-
-        for (Appointment existing : existingAppointments) {
-            // A lógica CRUCIAL do update: ignora o próprio agendamento na checagem
-            if (existing.getId().equals(id)) {
-                continue;
-            }
-
-            LocalDateTime existingStartTime = existing.getAppointmentDate();
-            LocalDateTime existingEndTime = existingStartTime.plusMinutes(existing.getService().getDurationInMinutes());
-
-            if (startTime.isBefore(existingEndTime) && endTime.isAfter(existingStartTime)) {
-                logger.warn("Conflito de horário detectado na atualização. Agendamento ID {} colide com agendamento existente ID {}", id, existing.getId());
-                throw new BusinessRuleException(
-                        "Conflito de horário: O profissional já tem um agendamento das " +
-                                existingStartTime.toLocalTime() + " às " + existingEndTime.toLocalTime()
-                );
-            }
-        }
+        // A lógica CRUCIAL do update: ignora o próprio agendamento na checagem
+        validateScheduleConflict(professional.getId(), professional.getName(), startTime, endTime, id);
 
         logger.info("Nenhum conflito de horário encontrado para a atualização.");
 
         // --- ATUALIZAÇÃO DA ENTIDADE ---
+        ScheduleInterval previousInterval = ScheduleInterval.of(appointmentToUpdate);
+        RollupDelta previousRollup = RollupDelta.ofAppointment(appointmentToUpdate);
         appointmentToUpdate.setClient(client);
         appointmentToUpdate.setProfessional(professional);
         appointmentToUpdate.setService(service);
         appointmentToUpdate.setAppointmentDate(startTime);
+        appointmentToUpdate.setEndDate(endTime);
         appointmentToUpdate.setPrice(request.price());
         appointmentToUpdate.setObservations(request.observations());
         // appointmentToUpdate.setStatus(request.status()); Há um metodo próprio para edição de status
 
-        Appointment updatedAppointment = appointmentRepository.save(appointmentToUpdate);
+        // Flush antes de montar a resposta: o DTO sai com a @Version já incrementada (ETag correto)
+        Appointment updatedAppointment = appointmentRepository.saveAndFlush(appointmentToUpdate);
+        scheduleIndex.replace(previousInterval, ScheduleInterval.of(updatedAppointment));
+        rollupService.recordChange(previousRollup, RollupDelta.ofAppointment(updatedAppointment));
         logger.info("Agendamento ID {} atualizado com sucesso.", updatedAppointment.getId());
 
         return AppointmentResponseDTO.fromEntity(updatedAppointment);
@@ -193,10 +299,12 @@ public class AppointmentServiceImpl implements AppointmentService {
     @Override
     @Transactional
     public void delete(Long id) {
-        if (!appointmentRepository.existsById(id)) {
-            throw new ObjectNotFoundException("Appointment not found with id " + id);
-        }
-        appointmentRepository.deleteById(id);
+        Appointment appointment = appointmentRepository.findById(id)
+                .orElseThrow(() -> new ObjectNotFoundException("Appointment not found with id " + id));
+
+        appointmentRepository.delete(appointment);
+        scheduleIndex.replace(ScheduleInterval.of(appointment), null);
+        rollupService.recordChange(RollupDelta.ofAppointment(appointment), null);
     }
 
     @Override
@@ -206,12 +314,57 @@ public class AppointmentServiceImpl implements AppointmentService {
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new ObjectNotFoundException("Agendamento não encontrado com ID: " + id));
 
+        ScheduleInterval previousInterval = ScheduleInterval.of(appointment);
+        RollupDelta previousRollup = RollupDelta.ofAppointment(appointment);
+        AppointmentStatus previousStatus = appointment.getStatus();
         appointment.setStatus(statusUpdateDTO.status());
-        Appointment updatedAppointment = appointmentRepository.save(appointment);
+        Appointment updatedAppointment = appointmentRepository.saveAndFlush(appointment);
+        scheduleIndex.replace(previousInterval, ScheduleInterval.of(updatedAppointment));
+        rollupService.recordChange(previousRollup, RollupDelta.ofAppointment(updatedAppointment));
+        // Gravado de forma assíncrona após o commit, sem somar latência à requisição
+        eventPublisher.publishEvent(AppointmentAuditEvent.statusChanged(id, previousStatus, updatedAppointment.getStatus()));
 
         return AppointmentResponseDTO.fromEntity(updatedAppointment);
     }
 
+    // Verifica se o profissional já tem um agendamento que se sobrepõe a [startTime, endTime).
+    // A agenda do profissional fica bloqueada até o commit, então a checagem e a gravação são atômicas.
+    private void validateScheduleConflict(Long professionalId, String professionalName, LocalDateTime startTime, LocalDateTime endTime, Long idToIgnore) {
+        scheduleLock.lock(professionalId);
+
+        logger.debug("Verificando disponibilidade para o profissional ID {} no horário: {} a {}", professionalId, startTime.toLocalTime(), endTime.toLocalTime());
+
+        // O banco decide: a sonda indexada roda em toda checagem e cobre gravações de outras instâncias.
+        // O índice em memória é só um pré-filtro das rejeições (aponta qual horário conflita, para a mensagem);
+        // ele não poupa a leitura no banco e pode estar desatualizado, por isso nunca rejeita sozinho.
+        DaySchedule daySchedule = scheduleIndex.schedule(professionalId, startTime.toLocalDate());
+        schedulingMetrics.conflictCheckRows(daySchedule.size());
+        Optional<ScheduleInterval> conflict = daySchedule.findConflict(startTime, endTime, idToIgnore);
+        boolean overlapping = appointmentRepository.existsOverlapping(professionalId, startTime, endTime, idToIgnore);
+
+        if (conflict.isPresent() != overlapping) {
+            // Agendamento alterado por outra instância (ou removido em lote): o dia é recarregado na próxima checagem
+            logger.info("Índice de agenda desatualizado para o profissional ID {} em {}. Descartando o dia.", professionalId, startTime.toLocalDate());
+            scheduleIndex.evict(professionalId, startTime.toLocalDate());
+        }
+
+        if (conflict.isPresent() && overlapping) {
+            ScheduleInterval existing = conflict.get();
+            schedulingMetrics.conflict(SchedulingMetrics.CONFLICT_INDEX);
+            logger.warn("Conflito de horário detectado. Novo horário para {} colide com agendamento existente ID {}", professionalName, existing.appointmentId());
+            throw new BusinessRuleException(
+                    "Conflito de horário: O profissional já tem um agendamento das " +
+                            existing.start().toLocalTime() + " às " + existing.end().toLocalTime()
+            );
+        }
+
+        if (overlapping) {
+            logger.warn("Conflito de horário detectado no banco para o profissional {} entre {} e {}", professionalName, startTime, endTime);
+            schedulingMetrics.conflict(SchedulingMetrics.CONFLICT_DATABASE);
+            throw new BusinessRuleException("Conflito de horário: O profissional já tem um agendamento neste horário");
+        }
+    }
+
     private AppointmentResponseDTO mapToDTO(Appointment appointment) {
         return AppointmentResponseDTO.fromEntity(appointment);
     }
@@ -0,0 +1,157 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AvailabilityResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ProfessionalAvailabilityDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SalonServiceRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AvailabilityService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.BusinessRuleException;
+import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.DataIntegrityViolationException;
+import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.ObjectNotFoundException;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.SlotFinder;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.TimeSlot;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Timed("app.service")
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityServiceImpl.class);
+
+    private final AppointmentRepository appointmentRepository;
+    private final SystemUserRepository systemUserRepository;
+    private final SalonServiceRepository salonServiceRepository;
+
+    private final LocalTime openingTime;
+    private final LocalTime closingTime;
+    private final Duration slotStep;
+    private final int maxDays;
+    private final Set<DayOfWeek> closedDays;
+
+    public AvailabilityServiceImpl(AppointmentRepository appointmentRepository,
+                                   SystemUserRepository systemUserRepository,
+                                   SalonServiceRepository salonServiceRepository,
+                                   @Value("${app.availability.opening-time:08:00}") String openingTime,
+                                   @Value("${app.availability.closing-time:19:00}") String closingTime,
+                                   @Value("${app.availability.slot-step-minutes:15}") int slotStepMinutes,
+                                   @Value("${app.availability.max-days:14}") int maxDays,
+                                   @Value("${app.availability.closed-days:SUNDAY}") String closedDays) {
+        this.openingTime = LocalTime.parse(openingTime);
+        this.closingTime = LocalTime.parse(closingTime);
+        if (!this.openingTime.isBefore(this.closingTime)) {
+            throw new IllegalArgumentException("O horário de abertura deve ser anterior ao de fechamento");
+        }
+        this.appointmentRepository = appointmentRepository;
+        this.systemUserRepository = systemUserRepository;
+        this.salonServiceRepository = salonServiceRepository;
+        this.slotStep = Duration.ofMinutes(slotStepMinutes);
+        this.maxDays = maxDays;
+        this.closedDays = parseDays(closedDays);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AvailabilityResponseDTO findAvailability(Long serviceId, LocalDate date, Integer days, Long professionalId) {
+        SalonService service = salonServiceRepository.findById(serviceId)
+                .orElseThrow(() -> new ObjectNotFoundException("Serviço não encontrado com id " + serviceId));
+
+        LocalDate startDate = date != null ? date : LocalDate.now();
+        int numberOfDays = days != null ? days : 1;
+        if (numberOfDays < 1 || numberOfDays > maxDays) {
+            throw new DataIntegrityViolationException("A quantidade de dias deve estar entre 1 e " + maxDays + ".");
+        }
+        LocalDate endDate = startDate.plusDays(numberOfDays - 1L);
+
+        List<SystemUser> professionals = professionalsFor(service, professionalId);
+        List<TimeSlot> openingHours = openingHours(startDate, endDate);
+        if (professionals.isEmpty() || openingHours.isEmpty()) {
+            return new AvailabilityResponseDTO(service.getId(), service.getName(), service.getDurationInMinutes(),
+                    startDate, endDate, List.of());
+        }
+
+        // Uma única consulta para a agenda de toda a equipe no período, já ordenada por profissional e início
+        List<Long> professionalIds = professionals.stream().map(SystemUser::getId).toList();
+        Map<Long, List<ScheduleInterval>> intervalsByProfessional = new HashMap<>();
+        for (ScheduleInterval interval : appointmentRepository.findScheduleIntervalsOverlapping(
+                professionalIds, openingHours.getFirst().start(), openingHours.getLast().end())) {
+            intervalsByProfessional.computeIfAbsent(interval.professionalId(), id -> new ArrayList<>()).add(interval);
+        }
+
+        Duration duration = Duration.ofMinutes(service.getDurationInMinutes());
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ProfessionalAvailabilityDTO> availability = professionals.stream()
+                .map(professional -> new ProfessionalAvailabilityDTO(
+                        professional.getId(),
+                        professional.getName(),
+                        SlotFinder.freeSlots(openingHours, now, duration, slotStep,
+                                intervalsByProfessional.getOrDefault(professional.getId(), List.of()))))
+                .toList();
+
+        logger.debug("Disponibilidade calculada para o serviço ID {} de {} a {}: {} profissionais, {} agendamentos.",
+                serviceId, startDate, endDate, professionals.size(), intervalsByProfessional.values().stream().mapToInt(List::size).sum());
+
+        return new AvailabilityResponseDTO(service.getId(), service.getName(), service.getDurationInMinutes(),
+                startDate, endDate, availability);
+    }
+
+    // Profissionais agendáveis que realizam o tipo do serviço (ou apenas o profissional informado)
+    private List<SystemUser> professionalsFor(SalonService service, Long professionalId) {
+        if (professionalId != null) {
+            SystemUser professional = systemUserRepository.findById(professionalId)
+                    .orElseThrow(() -> new ObjectNotFoundException("Profissional não encontrado com id " + professionalId));
+            if (!professional.isCanBeScheduled() || !professional.getSpecialties().contains(service.getServiceType())) {
+                throw new BusinessRuleException("O profissional " + professional.getName() + " não atende o serviço " + service.getName() + ".");
+            }
+            return List.of(professional);
+        }
+
+        return systemUserRepository.findByCanBeScheduled(true).stream()
+                .filter(professional -> professional.getSpecialties().contains(service.getServiceType()))
+                .sorted(Comparator.comparing(SystemUser::getName))
+                .toList();
+    }
+
+    private List<TimeSlot> openingHours(LocalDate startDate, LocalDate endDate) {
+        List<TimeSlot> openingHours = new ArrayList<>();
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            if (!closedDays.contains(day.getDayOfWeek())) {
+                openingHours.add(new TimeSlot(day.atTime(openingTime), day.atTime(closingTime)));
+            }
+        }
+        return openingHours;
+    }
+
+    private static Set<DayOfWeek> parseDays(String days) {
+        Set<DayOfWeek> parsed = EnumSet.noneOf(DayOfWeek.class);
+        Arrays.stream(days.split(","))
+                .map(String::trim)
+                .filter(day -> !day.isEmpty())
+                .forEach(day -> parsed.add(DayOfWeek.valueOf(day.toUpperCase(Locale.ROOT))));
+        return parsed;
+    }
+}
@@ -2,27 +2,66 @@ package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
 
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Contact;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Gender;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientImportRejectionDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientImportResultDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientResponseDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.ClientRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.ContactRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.ClientRow;
 import br.com.rafaelmaia.mar_de_beleza_system.services.ClientService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.BusinessRuleException;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.DataIntegrityViolationException;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.ObjectNotFoundException;
+import br.com.rafaelmaia.mar_de_beleza_system.services.importing.ClientImportLine;
+import br.com.rafaelmaia.mar_de_beleza_system.services.importing.ClientImportWriter;
+import br.com.rafaelmaia.mar_de_beleza_system.services.importing.CsvReader;
+import br.com.rafaelmaia.mar_de_beleza_system.services.importing.PhoneNumbers;
+import br.com.rafaelmaia.mar_de_beleza_system.services.rollup.RollupDelta;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.AppointmentScheduleIndex;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class ClientServiceImpl implements ClientService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ClientServiceImpl.class);
+
+    // Linhas por transação/consulta IN da importação; múltiplo do batch_size do Hibernate
+    private static final int IMPORT_CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+    private static final DateTimeFormatter BRAZILIAN_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
     private final ClientRepository repository;
+    private final ContactRepository contactRepository;
+    private final AppointmentScheduleIndex scheduleIndex;
+    private final RollupService rollupService;
+    private final ClientImportWriter importWriter;
 
     @Transactional(readOnly = true)
     public ClientResponseDTO findClientById(Long id) {
@@ -35,9 +74,9 @@ public class ClientServiceImpl implements ClientService {
     @Override
     @Transactional(readOnly = true)
     public Page<ClientResponseDTO> findAllClients(Pageable pageable) {
-        Page<Client> clientPage = repository.findAll(pageable);
+        Page<ClientRow> clientPage = repository.findAllRows(pageable);
 
-        return clientPage.map(ClientResponseDTO::fromEntity);
+        return clientPage.map(ClientResponseDTO::fromRow);
     }
 
     @Override
@@ -74,7 +113,8 @@ public class ClientServiceImpl implements ClientService {
         clientToUpdate.getContact().setPhone(requestDTO.contact().phone());
         clientToUpdate.getContact().setPhoneIsWhatsapp(requestDTO.contact().phoneIsWhatsapp());
 
-        Client updatedClient = repository.save(clientToUpdate);
+        // Flush antes de montar a resposta: o DTO sai com a @Version já incrementada (ETag correto)
+        Client updatedClient = repository.saveAndFlush(clientToUpdate);
 
         return ClientResponseDTO.fromEntity(updatedClient);
     }
@@ -82,18 +122,155 @@ public class ClientServiceImpl implements ClientService {
     @Override
     @Transactional
     public void deleteClient(Long id) {
-        if (!repository.existsById(id)) {
-            throw new ObjectNotFoundException("Cliente não encontrado com ID: " + id);
+        Client client = repository.findById(id)
+                .orElseThrow(() -> new ObjectNotFoundException("Cliente não encontrado com ID: " + id));
+
+        // Os agendamentos do cliente são removidos em cascata: retira a contribuição deles dos rollups
+        client.getAppointments().forEach(appointment -> rollupService.recordChange(RollupDelta.ofAppointment(appointment), null));
+
+        repository.delete(client);
+        // Pelo mesmo motivo, a agenda em memória precisa ser recarregada
+        scheduleIndex.invalidateAll();
+    }
+
+    // Importação de clientes por CSV (migração da base de outro sistema). Cabeçalho com as colunas
+    // name, phone, phoneIsWhatsapp, birthDate e gender, nesta ou em outra ordem; só name e phone são obrigatórias.
+    // O arquivo é lido registro a registro e gravado em blocos, cada um com uma única consulta de telefones.
+    @Override
+    public ClientImportResultDTO importClients(InputStream csv) throws IOException {
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        Map<String, Integer> columns = importColumns(reader.next());
+
+        List<ClientImportRejectionDTO> rejections = new ArrayList<>();
+        long rejected = 0;
+        long lines = 0;
+        List<ClientImportLine> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+
+        for (List<String> record = reader.next(); record != null; record = reader.next()) {
+            lines++;
+            try {
+                chunk.add(parseImportLine(reader.recordLine(), record, columns));
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                addRejection(rejections, new ClientImportRejectionDTO(reader.recordLine(), e.getMessage()));
+            }
+
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                rejected += writeImportChunk(chunk, rejections);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            rejected += writeImportChunk(chunk, rejections);
         }
 
-        repository.deleteById(id);
+        logger.info("Importação de clientes concluída: {} linhas, {} importadas, {} rejeitadas.", lines, lines - rejected, rejected);
+        return new ClientImportResultDTO(lines, lines - rejected, rejected, rejections);
+    }
+
+    private long writeImportChunk(List<ClientImportLine> chunk, List<ClientImportRejectionDTO> rejections) {
+        List<ClientImportRejectionDTO> chunkRejections;
+        try {
+            chunkRejections = importWriter.write(chunk);
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            // Telefone cadastrado por outra requisição entre a consulta e o INSERT: o bloco volta e é refeito
+            logger.warn("Conflito de telefone ao gravar bloco da importação. Repetindo o bloco.");
+            chunkRejections = importWriter.write(chunk);
+        }
+        chunkRejections.forEach(rejection -> addRejection(rejections, rejection));
+        return chunkRejections.size();
+    }
+
+    private static void addRejection(List<ClientImportRejectionDTO> rejections, ClientImportRejectionDTO rejection) {
+        if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+            rejections.add(rejection);
+        }
+    }
+
+    private static Map<String, Integer> importColumns(List<String> header) {
+        if (header == null) {
+            throw new BusinessRuleException("O arquivo de importação está vazio.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // BOM do Excel grudado no primeiro nome de coluna
+            columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(), i);
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("phone")) {
+            throw new BusinessRuleException("O cabeçalho do arquivo deve conter as colunas 'name' e 'phone'.");
+        }
+        return columns;
+    }
+
+    private static ClientImportLine parseImportLine(long line, List<String> record, Map<String, Integer> columns) {
+        String name = importField(record, columns, "name");
+        if (name == null) {
+            throw new IllegalArgumentException("Nome em branco");
+        }
+        String rawPhone = importField(record, columns, "phone");
+        String phone = PhoneNumbers.normalize(rawPhone);
+        if (phone == null) {
+            throw new IllegalArgumentException("Telefone inválido: " + rawPhone);
+        }
+
+        return new ClientImportLine(line, name, phone,
+                parseWhatsapp(importField(record, columns, "phoneiswhatsapp")),
+                parseBirthDate(importField(record, columns, "birthdate")),
+                parseGender(importField(record, columns, "gender")));
+    }
+
+    private static String importField(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static boolean parseWhatsapp(String value) {
+        if (value == null) {
+            return false;
+        }
+        return switch (value.toLowerCase()) {
+            case "true", "sim", "s", "yes", "y", "1", "x" -> true;
+            case "false", "não", "nao", "n", "no", "0" -> false;
+            default -> throw new IllegalArgumentException("Valor inválido para phoneIsWhatsapp: " + value);
+        };
+    }
+
+    private static LocalDate parseBirthDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            // ISO (2001-04-10) ou o formato das planilhas em pt-BR (10/04/2001)
+            return value.contains("/") ? LocalDate.parse(value, BRAZILIAN_DATE) : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data de nascimento inválida: " + value);
+        }
+    }
+
+    private static Gender parseGender(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Gender.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Gênero inválido: " + value);
+        }
     }
 
     // Validar unicidade de telefone
+    // O telefone é único entre clientes e funcionárias (uk_contact_phone): se já existe, só pode ser desta cliente
     private void validatePhoneUniqueness(String phone, Long idToIgnore) {
-        Optional<Client> client = repository.findByContact_Phone(phone);
+        if (!contactRepository.existsByPhone(phone)) {
+            return;
+        }
 
-        if (client.isPresent() && !client.get().getId().equals(idToIgnore)) {
+        Optional<Client> client = repository.findByContact_Phone(phone);
+        if (client.isEmpty() || !client.get().getId().equals(idToIgnore)) {
             throw new DataIntegrityViolationException("Telefone já cadastrado no sistema.");
         }
     }
@@ -5,34 +5,70 @@ import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Payment;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentMethod;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.CursorPageDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenuePeriod;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenuePeriodDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenueReportDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.PaymentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.AppointmentRow;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.projection.PaymentRow;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.specification.AppointmentSpecification;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.specification.KeysetSpecification;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.specification.PaymentSpecification;
 import br.com.rafaelmaia.mar_de_beleza_system.services.PaymentService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.audit.AppointmentAuditEvent;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.BusinessRuleException;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.ObjectNotFoundException;
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.ExportFormat;
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.RecordExportWriter;
+import br.com.rafaelmaia.mar_de_beleza_system.services.pagination.PageCursor;
+import br.com.rafaelmaia.mar_de_beleza_system.services.rollup.RollupDelta;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class PaymentServiceImpl implements PaymentService {
 
     private static final Logger logger = LoggerFactory.getLogger(PaymentServiceImpl.class);
 
     private final PaymentRepository paymentRepository;
     private final AppointmentRepository appointmentRepository;
+    private final SystemUserRepository systemUserRepository;
+    private final RollupService rollupService;
+    private final RecordExportWriter exportWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -48,9 +84,144 @@ public class PaymentServiceImpl implements PaymentService {
     public Page<PaymentResponseDTO> findAllPayments(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status,Pageable pageable) {
         Specification<Payment> spec = PaymentSpecification.withFilters(startDate, endDate, professionalId, status);
 
-        Page<Payment> paymentPage = paymentRepository.findAll(spec, pageable);
+        Page<PaymentRow> paymentPage = paymentRepository.findRows(spec, pageable);
+        Map<Long, AppointmentResponseDTO> appointments = appointmentsOf(paymentPage.getContent());
 
-        return paymentPage.map(PaymentResponseDTO::fromEntity);
+        return paymentPage.map(row -> PaymentResponseDTO.fromRow(row, appointments.get(row.appointmentId())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PaymentResponseDTO> findPaymentsByCursor(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status,
+                                                                 String cursor, int size, Sort.Direction direction) {
+        // Busca um item a mais só para saber se existe próxima página
+        List<PaymentRow> rows = paymentRepository.findRows(
+                keysetFilters(startDate, endDate, professionalId, status, cursor, direction),
+                KeysetSpecification.sort("paymentDate", direction),
+                size + 1);
+
+        Map<Long, AppointmentResponseDTO> appointments = appointmentsOf(rows);
+        List<PaymentResponseDTO> content = rows.stream()
+                .map(row -> PaymentResponseDTO.fromRow(row, appointments.get(row.appointmentId())))
+                .toList();
+
+        return CursorPageDTO.fromSlice(content, size, payment -> new PageCursor(payment.paymentDate(), payment.id()).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<PaymentSummaryDTO> findPaymentSummariesByCursor(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status,
+                                                                        String cursor, int size, Sort.Direction direction) {
+        List<PaymentSummaryDTO> rows = paymentRepository.findSummaries(
+                keysetFilters(startDate, endDate, professionalId, status, cursor, direction),
+                KeysetSpecification.sort("paymentDate", direction),
+                size + 1);
+
+        return CursorPageDTO.fromSlice(rows, size, payment -> new PageCursor(payment.paymentDate(), payment.id()).encode());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RevenueReportDTO generateRevenueReport(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status, RevenuePeriod groupBy) {
+        // Sem status informado, o faturamento considera apenas pagamentos efetivados
+        PaymentStatus reportStatus = status != null ? status : PaymentStatus.PAID;
+        RevenuePeriod period = groupBy != null ? groupBy : RevenuePeriod.DAY;
+        Specification<Payment> spec = PaymentSpecification.withFilters(startDate, endDate, professionalId, reportStatus);
+
+        // O banco devolve no máximo uma linha por dia; semana e mês são somados a partir delas
+        List<RevenuePeriodDTO> days = paymentRepository.sumRevenueByDay(spec);
+
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        long paymentCount = 0;
+        for (RevenuePeriodDTO day : days) {
+            totalRevenue = totalRevenue.add(day.totalRevenue());
+            paymentCount += day.paymentCount();
+        }
+
+        return new RevenueReportDTO(
+                startDate,
+                endDate,
+                reportStatus,
+                period,
+                totalRevenue,
+                paymentCount,
+                groupDays(days, period),
+                paymentRepository.sumRevenueByPaymentMethod(spec),
+                paymentRepository.sumRevenueByProfessional(spec)
+        );
+    }
+
+    private List<RevenuePeriodDTO> groupDays(List<RevenuePeriodDTO> days, RevenuePeriod period) {
+        if (period == RevenuePeriod.DAY) {
+            return days;
+        }
+
+        // Os dias chegam ordenados, então cada período é contíguo
+        List<RevenuePeriodDTO> periods = new ArrayList<>();
+        RevenuePeriodDTO current = null;
+        for (RevenuePeriodDTO day : days) {
+            LocalDate periodStart = period == RevenuePeriod.WEEK
+                    ? day.periodStart().with(DayOfWeek.MONDAY)
+                    : day.periodStart().withDayOfMonth(1);
+
+            if (current != null && current.periodStart().equals(periodStart)) {
+                current = new RevenuePeriodDTO(periodStart,
+                        current.totalRevenue().add(day.totalRevenue()),
+                        current.paymentCount() + day.paymentCount());
+                periods.set(periods.size() - 1, current);
+            } else {
+                current = new RevenuePeriodDTO(periodStart, day.totalRevenue(), day.paymentCount());
+                periods.add(current);
+            }
+        }
+        return periods;
+    }
+
+    // Mesmos filtros da listagem paginada, mais a condição de continuar após o cursor
+    private Specification<Payment> keysetFilters(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status,
+                                                 String cursor, Sort.Direction direction) {
+        PageCursor position = PageCursor.decode(cursor);
+        Specification<Payment> spec = PaymentSpecification.withFilters(startDate, endDate, professionalId, status);
+
+        return position == null
+                ? spec
+                : spec.and(KeysetSpecification.after("paymentDate", position.date(), position.id(), direction));
+    }
+
+    // Agendamentos dos pagamentos em uma consulta e especialidades dos profissionais em outra
+    private Map<Long, AppointmentResponseDTO> appointmentsOf(List<PaymentRow> payments) {
+        Set<Long> appointmentIds = payments.stream().map(PaymentRow::appointmentId).collect(Collectors.toSet());
+        if (appointmentIds.isEmpty()) {
+            return Map.of();
+        }
+        List<AppointmentRow> appointmentRows = appointmentRepository.findRows(AppointmentSpecification.byIds(appointmentIds), Sort.unsorted());
+
+        Set<Long> professionalIds = appointmentRows.stream().map(AppointmentRow::professionalId).collect(Collectors.toSet());
+        Map<Long, Set<ServiceType>> specialties = systemUserRepository.findSpecialtiesByUserIds(professionalIds);
+
+        return appointmentRows.stream()
+                .collect(Collectors.toMap(AppointmentRow::id, row -> AppointmentResponseDTO.fromRow(row, specialties)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PaymentSummaryDTO> findAllPaymentSummaries(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status, Pageable pageable) {
+        // Uma única consulta com os joins necessários, sem carregar o agendamento completo
+        Specification<Payment> spec = PaymentSpecification.withFilters(startDate, endDate, professionalId, status);
+        return paymentRepository.findSummaries(spec, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPayments(LocalDate startDate, LocalDate endDate, Long professionalId, PaymentStatus status,
+                               ExportFormat format, OutputStream output) throws IOException {
+        Specification<Payment> spec = PaymentSpecification.withFilters(startDate, endDate, professionalId, status);
+
+        // O cursor fica aberto durante toda a escrita; cada linha vai para a resposta assim que é lida
+        try (Stream<PaymentSummaryDTO> rows = paymentRepository.streamSummaries(spec, Sort.by("paymentDate", "id"))) {
+            long exported = exportWriter.write(rows, PaymentSummaryDTO.class, format, output);
+            logger.info("Exportação de pagamentos ({}) concluída: {} linhas.", format, exported);
+        }
     }
 
     @Override
@@ -77,10 +248,15 @@ public class PaymentServiceImpl implements PaymentService {
                 .observations(request.observations()).build();
 
         Payment savedPayment = paymentRepository.save(newPayment);
+        rollupService.recordChange(null, RollupDelta.ofPayment(savedPayment));
 
         // Após salvar o pagamento, atualiza o status do agendamento
+        RollupDelta previousAppointmentRollup = RollupDelta.ofAppointment(appointment);
+        AppointmentStatus previousStatus = appointment.getStatus();
         appointment.setStatus(AppointmentStatus.DONE);
         appointmentRepository.save(appointment);
+        rollupService.recordChange(previousAppointmentRollup, RollupDelta.ofAppointment(appointment));
+        eventPublisher.publishEvent(AppointmentAuditEvent.paymentRegistered(savedPayment, previousStatus));
         logger.info("Status do Agendamento ID {} atualizado para DONE.", appointment.getId());
 
         logger.info("Pagamento ID {} criado com sucesso.", savedPayment.getId());
@@ -98,12 +274,14 @@ public class PaymentServiceImpl implements PaymentService {
         Appointment appointment = appointmentRepository.findById(request.appointmentId())
                 .orElseThrow(() -> new ObjectNotFoundException("Agendamento não encontrado com id " + request.appointmentId()));
 
+        RollupDelta previousRollup = RollupDelta.ofPayment(paymentToUpdate);
         paymentToUpdate.setAppointment(appointment);
         paymentToUpdate.setTotalAmount(request.totalAmount());
         paymentToUpdate.setPaymentMethod(request.paymentMethod());
         paymentToUpdate.setObservations(request.observations());
 
         Payment updatedPayment = paymentRepository.save(paymentToUpdate);
+        rollupService.recordChange(previousRollup, RollupDelta.ofPayment(updatedPayment));
         logger.info("Agendamento ID {} atualizado com sucesso.", updatedPayment.getId());
 
         return PaymentResponseDTO.fromEntity(updatedPayment);
@@ -122,8 +300,11 @@ public class PaymentServiceImpl implements PaymentService {
             throw new BusinessRuleException("Este pagamento já foi cancelado.");
         }
 
+        RollupDelta previousRollup = RollupDelta.ofPayment(paymentToCancel);
         paymentToCancel.setStatus(PaymentStatus.CANCELED);
         paymentRepository.save(paymentToCancel);
+        rollupService.recordChange(previousRollup, null);
+        eventPublisher.publishEvent(AppointmentAuditEvent.paymentCanceled(paymentToCancel));
 
         logger.info("Pagamento ID {} cancelado com sucesso.", id);
     }
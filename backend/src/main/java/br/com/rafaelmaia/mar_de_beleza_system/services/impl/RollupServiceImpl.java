@@ -0,0 +1,140 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.DailyRollupId;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.DashboardDayDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.DashboardSummaryDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.DailyRollupRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.DataIntegrityViolationException;
+import br.com.rafaelmaia.mar_de_beleza_system.services.rollup.RollupDelta;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Timed("app.service")
+public class RollupServiceImpl implements RollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupServiceImpl.class);
+
+    // Ordem fixa das linhas atualizadas, para transações concorrentes não travarem umas às outras
+    private static final Comparator<RollupDelta> UPSERT_ORDER = Comparator
+            .comparing(RollupDelta::rollupDate)
+            .thenComparing(RollupDelta::professionalId)
+            .thenComparing(RollupDelta::serviceType);
+
+    private final DailyRollupRepository rollupRepository;
+
+    // Roda na mesma transação da alteração de negócio: se ela for desfeita, o rollup também é
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(RollupDelta previous, RollupDelta current) {
+        recordChanges(previous != null ? List.of(previous) : List.of(), current != null ? List.of(current) : List.of());
+    }
+
+    // Alterações em lote: deltas da mesma linha (dia, profissional, tipo) viram um único UPSERT
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanges(List<RollupDelta> previous, List<RollupDelta> current) {
+        Map<DailyRollupId, RollupDelta> deltas = new HashMap<>();
+        for (RollupDelta delta : previous) {
+            deltas.merge(delta.key(), delta.negate(), RollupDelta::plus);
+        }
+        for (RollupDelta delta : current) {
+            deltas.merge(delta.key(), delta, RollupDelta::plus);
+        }
+
+        deltas.values().stream()
+                .filter(delta -> !delta.isZero())
+                .sorted(UPSERT_ORDER)
+                .forEach(delta -> rollupRepository.upsert(
+                        delta.rollupDate(),
+                        delta.professionalId(),
+                        delta.serviceType().name(),
+                        delta.revenue(),
+                        delta.paymentCount(),
+                        delta.appointmentCount(),
+                        delta.doneCount(),
+                        delta.canceledCount(),
+                        delta.noShowCount(),
+                        delta.bookedMinutes()));
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new DataIntegrityViolationException("Informe um período válido: a data inicial deve ser anterior ou igual à data final.");
+        }
+        logger.info("Reconstruindo rollups diários de {} a {}.", startDate, endDate);
+
+        rollupRepository.lockForRebuild();
+        int removed = rollupRepository.deleteByPeriod(startDate, endDate);
+        int created = rollupRepository.rebuild(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+
+        logger.info("Rollups reconstruídos: {} linhas removidas, {} linhas criadas.", removed, created);
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public int rebuildAll() {
+        LocalDateTime first = earliest(rollupRepository.findFirstAppointmentDate(), rollupRepository.findFirstPaymentDate());
+        LocalDateTime last = latest(rollupRepository.findLastAppointmentDate(), rollupRepository.findLastPaymentDate());
+
+        if (first == null) {
+            rollupRepository.lockForRebuild();
+            rollupRepository.deleteAllInBatch();
+            return 0;
+        }
+        return rebuild(first.toLocalDate(), last.toLocalDate());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DashboardSummaryDTO getDashboard(LocalDate startDate, LocalDate endDate, Long professionalId) {
+        // Sem período informado, mostra o mês corrente
+        LocalDate start = startDate != null ? startDate : LocalDate.now().withDayOfMonth(1);
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+
+        List<DashboardDayDTO> days = rollupRepository.sumByDay(start, end, professionalId);
+
+        BigDecimal revenue = BigDecimal.ZERO;
+        long paymentCount = 0, appointmentCount = 0, doneCount = 0, canceledCount = 0, noShowCount = 0, bookedMinutes = 0;
+        for (DashboardDayDTO day : days) {
+            revenue = revenue.add(day.revenue());
+            paymentCount += day.paymentCount();
+            appointmentCount += day.appointmentCount();
+            doneCount += day.doneCount();
+            canceledCount += day.canceledCount();
+            noShowCount += day.noShowCount();
+            bookedMinutes += day.bookedMinutes();
+        }
+
+        return new DashboardSummaryDTO(start, end, professionalId, revenue, paymentCount, appointmentCount,
+                doneCount, canceledCount, noShowCount, bookedMinutes, days,
+                rollupRepository.sumByServiceType(start, end, professionalId));
+    }
+
+    private static LocalDateTime earliest(LocalDateTime a, LocalDateTime b) {
+        return Stream.of(a, b).filter(d -> d != null).min(Comparator.naturalOrder()).orElse(null);
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return Stream.of(a, b).filter(d -> d != null).max(Comparator.naturalOrder()).orElse(null);
+    }
+}
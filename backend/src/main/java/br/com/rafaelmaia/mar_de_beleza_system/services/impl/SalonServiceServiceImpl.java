@@ -1,32 +1,40 @@
 package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
 
+import br.com.rafaelmaia.mar_de_beleza_system.config.CacheConfig;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.SalonServiceRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.SalonServiceResponseDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentSeriesRepository;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.SalonServiceRepository;
 import br.com.rafaelmaia.mar_de_beleza_system.services.SalonServiceService;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.DataIntegrityViolationException;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.ObjectNotFoundException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class SalonServiceServiceImpl implements SalonServiceService {
 
     private final SalonServiceRepository repository;
     private final AppointmentRepository appointmentRepository;
+    private final AppointmentSeriesRepository seriesRepository;
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.SALON_SERVICE_BY_ID, key = "#id")
     public SalonServiceResponseDTO findServiceById(Long id) {
         SalonService service = repository.findById(id)
                 .orElseThrow(() -> new ObjectNotFoundException("Serviço não encontrado com ID: " + id));
@@ -35,14 +43,17 @@ public class SalonServiceServiceImpl implements SalonServiceService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.SALON_SERVICES, key = "'all'")
     public List<SalonServiceResponseDTO> findAllServices() {
+        // Lista imutável: a mesma instância é compartilhada pelo cache
         return repository.findAll().stream()
                 .map(SalonServiceResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SALON_SERVICES, allEntries = true)
     public SalonServiceResponseDTO createService(SalonServiceRequestDTO requestDTO) {
         SalonService newService = new SalonService();
         newService.setName(requestDTO.name());
@@ -56,6 +67,10 @@ public class SalonServiceServiceImpl implements SalonServiceService {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.SALON_SERVICES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.SALON_SERVICE_BY_ID, key = "#id")
+    })
     public SalonServiceResponseDTO updateService(Long id, SalonServiceRequestDTO requestDTO) {
         SalonService serviceToUpdate = repository.findById(id)
                 .orElseThrow(() -> new ObjectNotFoundException("Serviço não encontrado com ID: " + id));
@@ -65,19 +80,24 @@ public class SalonServiceServiceImpl implements SalonServiceService {
         serviceToUpdate.setDurationInMinutes(requestDTO.durationInMinutes());
         serviceToUpdate.setPrice(requestDTO.price());
 
-        SalonService updatedService = repository.save(serviceToUpdate);
+        // Flush antes de montar a resposta: o DTO sai com a @Version já incrementada (ETag correto)
+        SalonService updatedService = repository.saveAndFlush(serviceToUpdate);
         return SalonServiceResponseDTO.fromEntity(updatedService);
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.SALON_SERVICES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.SALON_SERVICE_BY_ID, key = "#id")
+    })
     public void deleteService(Long id) {
         if (!repository.existsById(id)) {
             throw new ObjectNotFoundException("Serviço não encontrado com ID: " + id);
         }
 
-        // Verifica se algum agendamento está usando este serviço
-        if (appointmentRepository.existsByServiceId(id)) {
+        // Verifica se algum agendamento (ou série recorrente) está usando este serviço
+        if (appointmentRepository.existsByServiceId(id) || seriesRepository.existsByServiceId(id)) {
             throw new DataIntegrityViolationException(
                     "Este serviço não pode ser excluído pois já está vinculado a um ou mais agendamentos."
             );
@@ -1,38 +1,54 @@
 package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
 
+import br.com.rafaelmaia.mar_de_beleza_system.config.CacheConfig;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Contact;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.PasswordChangeRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.UserRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.UserResponseDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentSeriesRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.ContactRepository;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.security.service.TokenVersionCache;
 import br.com.rafaelmaia.mar_de_beleza_system.services.UserService;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.BusinessRuleException;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.DataIntegrityViolationException;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.ObjectNotFoundException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class UserServiceImpl implements UserService {
 
     private final SystemUserRepository repository;
+    private final ContactRepository contactRepository;
     private final AppointmentRepository appointmentRepository;
+    private final AppointmentSeriesRepository seriesRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenVersionCache tokenVersionCache;
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
 
+    // A troca de senha incrementa a versão do usuário: o DTO em cache (e o ETag) precisa ser relido
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USER_BY_ID, key = "#userId")
+    })
     public void changePassword(Long userId, PasswordChangeRequestDTO dto) {
         logger.info("Iniciando processo de alteração de senha para o usuário ID: {}", userId);
 
@@ -51,6 +67,7 @@ public class UserServiceImpl implements UserService {
 
         // Se estiver tudo ok, criptografa e salva a nova senha
         user.setPassword(passwordEncoder.encode(dto.newPassword()));
+        revokeTokens(user);
         repository.save(user);
 
         logger.info("Senha do usuário ID {} alterada com sucesso.", userId);
@@ -58,6 +75,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USER_BY_ID, key = "#id")
     public UserResponseDTO findUserById(Long id) {
         logger.info("Buscando usuário com ID: {}", id);
         SystemUser user = repository.findById(id)
@@ -67,6 +85,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USERS)
     public List<UserResponseDTO> findAllUsers(Boolean canBeScheduled) {
         logger.info("Buscando todos os usuários");
         List<SystemUser> userList;
@@ -75,13 +94,15 @@ public class UserServiceImpl implements UserService {
         } else {
             userList = repository.findAll();
         }
+        // Lista imutável: a mesma instância é compartilhada pelo cache
         return userList.stream()
                 .map(UserResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true)
     public UserResponseDTO createUser(UserRequestDTO requestDTO) {
         logger.info(String.format("Iniciando criação de novo usuário: %s", requestDTO.email()));
 
@@ -108,6 +129,10 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USER_BY_ID, key = "#id")
+    })
     public UserResponseDTO updateUser(Long id, UserRequestDTO requestDTO) {
         logger.info("Iniciando atualização para o usuário ID: {}", id);
 
@@ -122,6 +147,11 @@ public class UserServiceImpl implements UserService {
             userToUpdate.setContact(new Contact());
         }
 
+        // Mudança de e-mail ou perfil invalida os tokens já emitidos (o perfil e o e-mail vão nas claims)
+        if (!userToUpdate.getEmail().equals(requestDTO.email()) || userToUpdate.getRole() != requestDTO.role()) {
+            revokeTokens(userToUpdate);
+        }
+
         userToUpdate.setName(requestDTO.name());
         userToUpdate.setEmail(requestDTO.email());
         userToUpdate.setRole(requestDTO.role());
@@ -132,10 +162,12 @@ public class UserServiceImpl implements UserService {
         // Atualiza a senha apenas se uma nova foi fornecida
         if (requestDTO.password() != null && !requestDTO.password().isEmpty()) {
             userToUpdate.setPassword(passwordEncoder.encode(requestDTO.password()));
+            revokeTokens(userToUpdate);
             logger.info("Senha do usuário ID {} foi atualizada.", id);
         }
 
-        SystemUser updatedUser = repository.save(userToUpdate);
+        // Flush antes de montar a resposta: o DTO sai com a @Version já incrementada (ETag correto)
+        SystemUser updatedUser = repository.saveAndFlush(userToUpdate);
         logger.info("Usuário ID {} atualizado com sucesso.", updatedUser.getId());
 
         return UserResponseDTO.fromEntity(updatedUser);
@@ -143,6 +175,10 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USER_BY_ID, key = "#id")
+    })
     public void deleteUser(Long id) {
         logger.info("Iniciando exclusão do usuário ID: {}", id);
 
@@ -150,26 +186,36 @@ public class UserServiceImpl implements UserService {
             throw new ObjectNotFoundException("Usuário não encontrado com ID: " + id);
         }
 
-        // Não permite excluir um profissional que tenha agendamentos
-        if (appointmentRepository.existsByProfessionalId(id)) {
+        // Não permite excluir um profissional que tenha agendamentos (ou séries recorrentes)
+        if (appointmentRepository.existsByProfessionalId(id) || seriesRepository.existsByProfessionalId(id)) {
             throw new DataIntegrityViolationException(
                     "Este profissional não pode ser excluído pois está vinculado a agendamentos."
             );
         }
 
         repository.deleteById(id);
+        tokenVersionCache.invalidate(id);
         logger.info("Usuário ID {} excluído com sucesso.", id);
     }
 
+    // Nova versão de tokens: os emitidos antes desta alteração passam a ser recusados pelo JwtFilter
+    private void revokeTokens(SystemUser user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        tokenVersionCache.invalidate(user.getId());
+    }
+
     private void validateEmailAndPhoneUniqueness(String email, String phone, Long idToIgnore) {
         Optional<SystemUser> userByEmail = repository.findByEmail(email);
         if (userByEmail.isPresent() && !userByEmail.get().getId().equals(idToIgnore)) {
             throw new DataIntegrityViolationException("Email já cadastrado no sistema.");
         }
 
-        Optional<SystemUser> userByPhone = repository.findByContact_Phone(phone);
-        if (userByPhone.isPresent() && !userByPhone.get().getId().equals(idToIgnore)) {
-            throw new DataIntegrityViolationException("Telefone já cadastrado no sistema.");
+        // O telefone é único entre clientes e funcionárias (uk_contact_phone): se já existe, só pode ser deste usuário
+        if (contactRepository.existsByPhone(phone)) {
+            Optional<SystemUser> userByPhone = repository.findByContact_Phone(phone);
+            if (userByPhone.isEmpty() || !userByPhone.get().getId().equals(idToIgnore)) {
+                throw new DataIntegrityViolationException("Telefone já cadastrado no sistema.");
+            }
         }
     }
 }
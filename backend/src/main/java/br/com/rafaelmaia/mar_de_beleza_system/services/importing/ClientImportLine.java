@@ -0,0 +1,15 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.importing;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Gender;
+
+import java.time.LocalDate;
+
+// Linha do CSV já validada, com o telefone normalizado
+public record ClientImportLine(
+        long line,
+        String name,
+        String phone,
+        boolean phoneIsWhatsapp,
+        LocalDate birthDate,
+        Gender gender
+) {}
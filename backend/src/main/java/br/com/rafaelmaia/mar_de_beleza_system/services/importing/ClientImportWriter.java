@@ -0,0 +1,56 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.importing;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Contact;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientImportRejectionDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.ClientRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Grava um bloco da importação de clientes em uma transação própria: a memória não cresce com o arquivo
+// e os blocos já gravados ficam mesmo se um bloco posterior falhar
+@Component
+@RequiredArgsConstructor
+public class ClientImportWriter {
+
+    private final ClientRepository clientRepository;
+
+    @Transactional
+    public List<ClientImportRejectionDTO> write(List<ClientImportLine> lines) {
+        // Uma consulta IN (atendida pelo índice único de tb_contact.phone) no lugar de uma por cliente
+        Set<String> existing = clientRepository.findExistingPhones(lines.stream().map(ClientImportLine::phone).toList());
+        Set<String> taken = new HashSet<>(existing);
+
+        List<ClientImportRejectionDTO> rejections = new ArrayList<>();
+        List<Client> clients = new ArrayList<>(lines.size());
+        for (ClientImportLine line : lines) {
+            if (!taken.add(line.phone())) {
+                rejections.add(new ClientImportRejectionDTO(line.line(), existing.contains(line.phone())
+                        ? "Telefone já cadastrado no sistema: " + line.phone()
+                        : "Telefone repetido no arquivo: " + line.phone()));
+                continue;
+            }
+
+            Contact contact = new Contact();
+            contact.setPhone(line.phone());
+            contact.setPhoneIsWhatsapp(line.phoneIsWhatsapp());
+
+            Client client = new Client();
+            client.setName(line.name());
+            client.setBirthDate(line.birthDate());
+            client.setGender(line.gender());
+            client.setContact(contact);
+            clients.add(client);
+        }
+
+        // IDs vêm das sequences em blocos, então os INSERTs de tb_contact e tb_client saem em lotes JDBC
+        clientRepository.saveAll(clients);
+        return rejections;
+    }
+}
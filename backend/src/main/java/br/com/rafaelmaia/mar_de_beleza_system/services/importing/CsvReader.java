@@ -0,0 +1,101 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.importing;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Leitor de CSV (RFC 4180) registro a registro, sem carregar o arquivo: aceita ',' ou ';' (Excel em pt-BR),
+// campos entre aspas com separadores, aspas duplicadas e quebras de linha
+public class CsvReader {
+
+    private final Reader reader;
+    private char separator;
+    private int pending = -2;
+    private long line = 1;
+    private long recordLine;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Linha (no arquivo) onde começou o último registro lido
+    public long recordLine() {
+        return recordLine;
+    }
+
+    // Próximo registro, ou null no fim do arquivo. O separador é detectado no primeiro registro (cabeçalho).
+    public List<String> next() throws IOException {
+        int c = read();
+        // Ignora linhas em branco entre registros
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == -1 || c == '\n' || c == '\r') {
+                fields.add(field.toString());
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pending = following;
+                    }
+                }
+                return fields;
+            } else if (isSeparator((char) c)) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private boolean isSeparator(char c) {
+        if (separator == 0 && (c == ',' || c == ';')) {
+            separator = c;
+        }
+        return c == separator;
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pending != -2) {
+            c = pending;
+            pending = -2;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+}
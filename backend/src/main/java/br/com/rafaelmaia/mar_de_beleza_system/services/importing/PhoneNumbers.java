@@ -0,0 +1,37 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.importing;
+
+// Normaliza telefones vindos de planilhas para o formato gravado em tb_contact (DDD + número, 10 ou 11 dígitos)
+public final class PhoneNumbers {
+
+    private PhoneNumbers() {
+    }
+
+    // "+55 (85) 99988-7766", "085 99988 7766" e "85999887766" viram "85999887766"; null quando não é um telefone válido
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+
+        String phone = digits.toString();
+        // Código do país
+        if (phone.startsWith("55") && (phone.length() == 12 || phone.length() == 13)) {
+            phone = phone.substring(2);
+        }
+        // Prefixo de longa distância: nenhum DDD começa com 0
+        if (phone.startsWith("0") && (phone.length() == 11 || phone.length() == 12)) {
+            phone = phone.substring(1);
+        }
+
+        if (phone.length() < 10 || phone.length() > 11 || phone.charAt(0) == '0') {
+            return null;
+        }
+        return phone;
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.rollup;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.DailyRollupId;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Payment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+// Contribuição de um agendamento ou pagamento para uma linha de tb_daily_rollup.
+// Uma alteração é aplicada como (estado atual) - (estado anterior).
+public record RollupDelta(
+        LocalDate rollupDate,
+        Long professionalId,
+        ServiceType serviceType,
+        BigDecimal revenue,
+        long paymentCount,
+        long appointmentCount,
+        long doneCount,
+        long canceledCount,
+        long noShowCount,
+        long bookedMinutes
+) {
+
+    // Deve seguir as mesmas regras da reconstrução em DailyRollupRepository.rebuild
+    public static RollupDelta ofAppointment(Appointment appointment) {
+        if (appointment == null || appointment.getProfessional() == null || appointment.getService() == null) {
+            return null;
+        }
+        return ofAppointment(appointment, appointment.getProfessional().getId(), appointment.getService().getServiceType());
+    }
+
+    // Para quando profissional e tipo do serviço já são conhecidos (evita inicializar as associações preguiçosas)
+    public static RollupDelta ofAppointment(Appointment appointment, Long professionalId, ServiceType serviceType) {
+        if (appointment == null || professionalId == null || serviceType == null || appointment.getAppointmentDate() == null) {
+            return null;
+        }
+        AppointmentStatus status = appointment.getStatus();
+        boolean canceled = status == AppointmentStatus.CANCELED;
+        long minutes = canceled || appointment.getEndDate() == null
+                ? 0
+                : Duration.between(appointment.getAppointmentDate(), appointment.getEndDate()).toMinutes();
+
+        return new RollupDelta(
+                appointment.getAppointmentDate().toLocalDate(),
+                professionalId,
+                serviceType,
+                BigDecimal.ZERO,
+                0,
+                canceled ? 0 : 1,
+                status == AppointmentStatus.DONE ? 1 : 0,
+                canceled ? 1 : 0,
+                status == AppointmentStatus.NO_SHOW ? 1 : 0,
+                minutes
+        );
+    }
+
+    // Só pagamentos efetivados (PAID) contam como faturamento
+    public static RollupDelta ofPayment(Payment payment) {
+        if (payment == null || payment.getStatus() != PaymentStatus.PAID || payment.getPaymentDate() == null) {
+            return null;
+        }
+        Appointment appointment = payment.getAppointment();
+        if (appointment == null || appointment.getProfessional() == null || appointment.getService() == null
+                || appointment.getService().getServiceType() == null) {
+            return null;
+        }
+
+        return new RollupDelta(
+                payment.getPaymentDate().toLocalDate(),
+                appointment.getProfessional().getId(),
+                appointment.getService().getServiceType(),
+                payment.getTotalAmount(),
+                1, 0, 0, 0, 0, 0
+        );
+    }
+
+    public DailyRollupId key() {
+        return new DailyRollupId(rollupDate, professionalId, serviceType);
+    }
+
+    public RollupDelta plus(RollupDelta other) {
+        return new RollupDelta(rollupDate, professionalId, serviceType,
+                revenue.add(other.revenue),
+                paymentCount + other.paymentCount,
+                appointmentCount + other.appointmentCount,
+                doneCount + other.doneCount,
+                canceledCount + other.canceledCount,
+                noShowCount + other.noShowCount,
+                bookedMinutes + other.bookedMinutes);
+    }
+
+    public RollupDelta negate() {
+        return new RollupDelta(rollupDate, professionalId, serviceType,
+                revenue.negate(), -paymentCount, -appointmentCount, -doneCount, -canceledCount, -noShowCount, -bookedMinutes);
+    }
+
+    public boolean isZero() {
+        return revenue.signum() == 0 && paymentCount == 0 && appointmentCount == 0 && doneCount == 0
+                && canceledCount == 0 && noShowCount == 0 && bookedMinutes == 0;
+    }
+}
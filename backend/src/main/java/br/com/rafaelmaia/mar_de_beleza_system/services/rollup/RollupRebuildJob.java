@@ -0,0 +1,55 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.rollup;
+
+import br.com.rafaelmaia.mar_de_beleza_system.repository.DailyRollupRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// Backfill e correção de divergências dos rollups diários
+@Component
+public class RollupRebuildJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupRebuildJob.class);
+
+    private final RollupService rollupService;
+    private final DailyRollupRepository rollupRepository;
+    private final boolean rebuildOnStartup;
+    private final int lookbackDays;
+    private final int lookaheadDays;
+
+    public RollupRebuildJob(RollupService rollupService,
+                            DailyRollupRepository rollupRepository,
+                            @Value("${app.rollup.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                            @Value("${app.rollup.repair.lookback-days:35}") int lookbackDays,
+                            @Value("${app.rollup.repair.lookahead-days:90}") int lookaheadDays) {
+        this.rollupService = rollupService;
+        this.rollupRepository = rollupRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.lookbackDays = lookbackDays;
+        this.lookaheadDays = lookaheadDays;
+    }
+
+    // Tabela vazia (primeira subida ou banco recriado): calcula todo o histórico
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (rebuildOnStartup && rollupRepository.count() == 0) {
+            logger.info("Tabela de rollups vazia. Iniciando backfill completo.");
+            rollupService.rebuildAll();
+        }
+    }
+
+    // Recalcula periodicamente a janela mais movimentada (passado recente e agenda futura),
+    // corrigindo alterações feitas por fora dos serviços (ex: mudança do tipo de um serviço)
+    @Scheduled(cron = "${app.rollup.repair.cron:0 30 3 * * *}")
+    public void repairRecentDays() {
+        LocalDate today = LocalDate.now();
+        rollupService.rebuild(today.minusDays(lookbackDays), today.plusDays(lookaheadDays));
+    }
+}
@@ -0,0 +1,174 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.AppointmentSeries;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentBatchItemDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.SalonServiceResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.UserResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.ClientRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SalonServiceRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.rollup.RollupDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+// Grava vários agendamentos de uma vez (lote da API, ocorrências de séries recorrentes).
+// Segue as regras de AppointmentServiceImpl.create: agenda do profissional bloqueada e nenhum
+// intervalo sobreposto, mas com uma leitura só para o período inteiro e conflitos checados em memória.
+@Component
+@RequiredArgsConstructor
+public class AppointmentBatchWriter {
+
+    private final AppointmentRepository appointmentRepository;
+    private final ClientRepository clientRepository;
+    private final SystemUserRepository systemUserRepository;
+    private final SalonServiceRepository salonServiceRepository;
+    private final AppointmentScheduleIndex scheduleIndex;
+    private final ProfessionalScheduleLock scheduleLock;
+    private final RollupService rollupService;
+    private final SchedulingMetrics schedulingMetrics;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<AppointmentBatchItemDTO> write(List<AppointmentRequestDTO> requests) {
+        return write(requests, index -> null);
+    }
+
+    // seriesOf: série de cada item (pela posição), ou null para agendamentos avulsos
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<AppointmentBatchItemDTO> write(List<AppointmentRequestDTO> requests, IntFunction<AppointmentSeries> seriesOf) {
+        // 1. Cadastros referenciados pelo lote inteiro: um findAllById por tipo, em vez de três findById por item
+        Map<Long, Client> clients = clientRepository.findAllById(idsOf(requests, AppointmentRequestDTO::clientId)).stream()
+                .collect(Collectors.toMap(Client::getId, Function.identity()));
+        Map<Long, SystemUser> professionals = systemUserRepository.findAllById(idsOf(requests, AppointmentRequestDTO::professionalId)).stream()
+                .collect(Collectors.toMap(SystemUser::getId, Function.identity()));
+        Map<Long, SalonService> services = salonServiceRepository.findAllById(idsOf(requests, AppointmentRequestDTO::salonServiceId)).stream()
+                .collect(Collectors.toMap(SalonService::getId, Function.identity()));
+
+        AppointmentBatchItemDTO[] results = new AppointmentBatchItemDTO[requests.size()];
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            AppointmentRequestDTO request = requests.get(i);
+            if (!clients.containsKey(request.clientId())) {
+                results[i] = AppointmentBatchItemDTO.rejected(i, "Cliente não encontrado com id " + request.clientId());
+            } else if (!professionals.containsKey(request.professionalId())) {
+                results[i] = AppointmentBatchItemDTO.rejected(i, "Profissional não encontrado com id " + request.professionalId());
+            } else if (!services.containsKey(request.salonServiceId())) {
+                results[i] = AppointmentBatchItemDTO.rejected(i, "Serviço não encontrado com id " + request.salonServiceId());
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // 2. Trava a agenda dos profissionais do lote e lê, em uma consulta, os horários ocupados no período todo
+        BatchSchedule schedule = new BatchSchedule(List.of());
+        if (!candidates.isEmpty()) {
+            Set<Long> professionalIds = candidates.stream().map(i -> requests.get(i).professionalId()).collect(Collectors.toSet());
+            LocalDateTime from = candidates.stream().map(i -> requests.get(i).appointmentDate()).min(Comparator.naturalOrder()).orElseThrow();
+            LocalDateTime to = candidates.stream().map(i -> endOf(requests.get(i), services)).max(Comparator.naturalOrder()).orElseThrow();
+
+            scheduleLock.lock(professionalIds);
+            List<ScheduleInterval> occupied = appointmentRepository.findScheduleIntervalsOverlapping(professionalIds, from, to);
+            schedulingMetrics.batchConflictCheckRows(occupied.size());
+            schedule = new BatchSchedule(occupied);
+        }
+
+        // 3. Conflitos checados em memória, na ordem enviada: contra o banco e contra os itens já aceitos do lote
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Appointment> accepted = new ArrayList<>();
+        for (int i : candidates) {
+            AppointmentRequestDTO request = requests.get(i);
+            SalonService service = services.get(request.salonServiceId());
+            LocalDateTime startTime = request.appointmentDate();
+            LocalDateTime endTime = endOf(request, services);
+            AppointmentStatus status = request.status() != null ? request.status() : AppointmentStatus.SCHEDULED;
+
+            if (status != AppointmentStatus.CANCELED) {
+                Optional<ScheduleInterval> conflict = schedule.findConflict(request.professionalId(), startTime, endTime);
+                if (conflict.isPresent()) {
+                    schedulingMetrics.conflict(SchedulingMetrics.CONFLICT_BATCH);
+                    results[i] = AppointmentBatchItemDTO.rejected(i, conflictMessage(conflict.get()));
+                    continue;
+                }
+                schedule.add(new ScheduleInterval(null, request.professionalId(), startTime, endTime));
+            }
+
+            acceptedIndexes.add(i);
+            accepted.add(Appointment.builder()
+                    .client(clients.get(request.clientId()))
+                    .professional(professionals.get(request.professionalId()))
+                    .service(service)
+                    .series(seriesOf.apply(i))
+                    .appointmentDate(startTime)
+                    .endDate(endTime)
+                    // Série recorrente ou importação sem preço: usa o preço do serviço
+                    .price(request.price() != null ? request.price() : service.getPrice())
+                    .observations(request.observations())
+                    .status(status)
+                    .build());
+        }
+
+        // 4. IDs vêm da sequence em blocos, então os INSERTs saem em lotes JDBC no flush
+        List<Appointment> saved = appointmentRepository.saveAll(accepted);
+
+        Map<Long, ClientResponseDTO> clientDTOs = new HashMap<>();
+        Map<Long, UserResponseDTO> professionalDTOs = new HashMap<>();
+        Map<Long, SalonServiceResponseDTO> serviceDTOs = new HashMap<>();
+        List<RollupDelta> rollups = new ArrayList<>();
+        for (int n = 0; n < saved.size(); n++) {
+            Appointment appointment = saved.get(n);
+            Long professionalId = appointment.getProfessional().getId();
+            scheduleIndex.replace(null, ScheduleInterval.of(appointment, professionalId));
+            rollups.add(RollupDelta.ofAppointment(appointment, professionalId, appointment.getService().getServiceType()));
+
+            int index = acceptedIndexes.get(n);
+            results[index] = AppointmentBatchItemDTO.created(index, AppointmentResponseDTO.of(appointment,
+                    clientDTOs.computeIfAbsent(appointment.getClient().getId(), id -> ClientResponseDTO.fromEntity(appointment.getClient())),
+                    serviceDTOs.computeIfAbsent(appointment.getService().getId(), id -> SalonServiceResponseDTO.fromEntity(appointment.getService())),
+                    professionalDTOs.computeIfAbsent(professionalId, id -> UserResponseDTO.fromEntity(appointment.getProfessional()))));
+        }
+        rollupService.recordChanges(List.of(), rollups);
+
+        return Arrays.asList(results);
+    }
+
+    private static Set<Long> idsOf(List<AppointmentRequestDTO> requests, Function<AppointmentRequestDTO, Long> id) {
+        return requests.stream().map(id).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static LocalDateTime endOf(AppointmentRequestDTO request, Map<Long, SalonService> services) {
+        return request.appointmentDate().plusMinutes(services.get(request.salonServiceId()).getDurationInMinutes());
+    }
+
+    private static String conflictMessage(ScheduleInterval existing) {
+        String period = existing.start().toLocalTime() + " às " + existing.end().toLocalTime();
+        if (existing.appointmentId() == null) {
+            return "Conflito de horário: outro agendamento deste lote ocupa das " + period;
+        }
+        return "Conflito de horário: O profissional já tem um agendamento das " + period;
+    }
+}
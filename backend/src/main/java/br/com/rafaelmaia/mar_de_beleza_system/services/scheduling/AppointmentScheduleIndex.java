@@ -0,0 +1,125 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Índice em memória da agenda de cada profissional, por dia.
+// Só enxerga as gravações desta instância: serve de pré-filtro e toda resposta é confirmada no banco
+// (existsOverlapping). Quando o dia ainda não está em memória (cache frio), carrega apenas
+// (id, início, fim) da agenda do dia uma única vez; quando o banco discorda, o dia é descartado.
+@Component
+public class AppointmentScheduleIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AppointmentScheduleIndex.class);
+
+    private final AppointmentRepository appointmentRepository;
+    private final int maxCachedDays;
+
+    private final ConcurrentMap<DayKey, DaySchedule> schedules = new ConcurrentHashMap<>();
+
+    // Incrementado a cada alteração; evita guardar uma agenda lida do banco antes de um commit concorrente
+    private final AtomicLong mutations = new AtomicLong();
+
+    public AppointmentScheduleIndex(AppointmentRepository appointmentRepository,
+                                    @Value("${app.scheduling.index.max-cached-days:5000}") int maxCachedDays) {
+        this.appointmentRepository = appointmentRepository;
+        this.maxCachedDays = maxCachedDays;
+    }
+
+    public Optional<ScheduleInterval> findConflict(Long professionalId, LocalDateTime start, LocalDateTime end, Long idToIgnore) {
+        return schedule(professionalId, start.toLocalDate()).findConflict(start, end, idToIgnore);
+    }
+
+    public DaySchedule schedule(Long professionalId, LocalDate day) {
+        DayKey key = new DayKey(professionalId, day);
+        DaySchedule cached = schedules.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long mutationsBeforeLoad = mutations.get();
+        DaySchedule loaded = load(professionalId, day);
+
+        // Só guarda se nenhuma alteração foi aplicada enquanto o banco era lido
+        if (mutations.get() == mutationsBeforeLoad) {
+            if (schedules.size() >= maxCachedDays) {
+                logger.info("Índice de agenda atingiu {} dias em memória. Limpando o cache.", maxCachedDays);
+                schedules.clear();
+            }
+            DaySchedule previous = schedules.putIfAbsent(key, loaded);
+            return previous != null ? previous : loaded;
+        }
+        return loaded;
+    }
+
+    // Deve ser chamado com o estado anterior e o atual do agendamento (null quando não ocupa a agenda).
+    // Dentro de uma transação, a alteração só é aplicada após o commit.
+    public void replace(ScheduleInterval previous, ScheduleInterval current) {
+        if (Objects.equals(previous, current)) {
+            return;
+        }
+        runAfterCommit(() -> {
+            mutations.incrementAndGet();
+            if (previous != null) {
+                schedules.computeIfPresent(keyOf(previous), (key, schedule) -> schedule.without(previous.appointmentId()));
+            }
+            if (current != null) {
+                schedules.computeIfPresent(keyOf(current), (key, schedule) -> schedule.with(current));
+            }
+        });
+    }
+
+    // O banco discordou do índice (alteração feita por outra instância): o dia é recarregado na próxima leitura
+    public void evict(Long professionalId, LocalDate day) {
+        mutations.incrementAndGet();
+        schedules.remove(new DayKey(professionalId, day));
+    }
+
+    // Usado quando agendamentos mudam por fora do fluxo normal (ex: exclusão em cascata de um cliente)
+    public void invalidateAll() {
+        runAfterCommit(() -> {
+            mutations.incrementAndGet();
+            schedules.clear();
+        });
+    }
+
+    private DaySchedule load(Long professionalId, LocalDate day) {
+        List<ScheduleInterval> intervals = appointmentRepository.findScheduleIntervals(
+                professionalId, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+
+        return DaySchedule.of(day, intervals);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static DayKey keyOf(ScheduleInterval interval) {
+        return new DayKey(interval.professionalId(), interval.start().toLocalDate());
+    }
+
+    private record DayKey(Long professionalId, LocalDate day) {}
+}
@@ -0,0 +1,65 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Agenda em memória usada na criação em lote: horários já gravados no banco + os itens aceitos do próprio lote.
+// Cada profissional tem seus intervalos ordenados pelo início; a busca localiza o fim do novo horário por
+// busca binária e volta só enquanto um intervalo anterior ainda pode alcançá-lo (limitado pela maior duração).
+public class BatchSchedule {
+
+    private final Map<Long, List<ScheduleInterval>> intervalsByProfessional = new HashMap<>();
+    private final Map<Long, Duration> longestByProfessional = new HashMap<>();
+
+    public BatchSchedule(List<ScheduleInterval> existing) {
+        existing.forEach(this::add);
+    }
+
+    public Optional<ScheduleInterval> findConflict(Long professionalId, LocalDateTime start, LocalDateTime end) {
+        List<ScheduleInterval> intervals = intervalsByProfessional.get(professionalId);
+        if (intervals == null) {
+            return Optional.empty();
+        }
+        // Nenhum intervalo que comece antes disso termina depois de 'start'
+        LocalDateTime reach = start.minus(longestByProfessional.get(professionalId));
+
+        for (int i = firstStartingFrom(intervals, end) - 1; i >= 0; i--) {
+            ScheduleInterval interval = intervals.get(i);
+            if (interval.overlaps(start, end)) {
+                return Optional.of(interval);
+            }
+            if (!interval.start().isAfter(reach)) {
+                break;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void add(ScheduleInterval interval) {
+        List<ScheduleInterval> intervals = intervalsByProfessional.computeIfAbsent(interval.professionalId(), id -> new ArrayList<>());
+        intervals.add(firstStartingFrom(intervals, interval.start()), interval);
+
+        Duration duration = Duration.between(interval.start(), interval.end());
+        longestByProfessional.merge(interval.professionalId(), duration, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+    }
+
+    // Posição do primeiro intervalo com início >= time
+    private static int firstStartingFrom(List<ScheduleInterval> intervals, LocalDateTime time) {
+        int low = 0;
+        int high = intervals.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (intervals.get(middle).start().isBefore(time)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
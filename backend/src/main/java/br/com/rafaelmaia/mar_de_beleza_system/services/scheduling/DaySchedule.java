@@ -0,0 +1,132 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// Agenda imutável de um profissional em um dia, ordenada pelo horário de início.
+// Os horários ficam em nanos a partir do início do dia para a busca binária ser barata.
+// latestEnding[i] guarda o intervalo com o maior fim entre 0..i (e secondLatestEnding[i] o segundo, para quando o
+// primeiro é o agendamento ignorado): "existe sobreposição?" é uma busca binária e uma comparação, O(log n),
+// mesmo que a agenda tenha intervalos sobrepostos.
+public final class DaySchedule {
+
+    private static final Comparator<ScheduleInterval> BY_START = Comparator
+            .comparing(ScheduleInterval::start)
+            .thenComparing(ScheduleInterval::end);
+
+    private final LocalDateTime dayStart;
+    private final ScheduleInterval[] intervals;
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] latestEnding;
+    private final int[] secondLatestEnding;
+
+    private DaySchedule(LocalDate day, ScheduleInterval[] sortedIntervals) {
+        this.dayStart = day.atStartOfDay();
+        this.intervals = sortedIntervals;
+        this.starts = new long[sortedIntervals.length];
+        this.ends = new long[sortedIntervals.length];
+        this.latestEnding = new int[sortedIntervals.length];
+        this.secondLatestEnding = new int[sortedIntervals.length];
+
+        int latest = -1;
+        int secondLatest = -1;
+        for (int i = 0; i < sortedIntervals.length; i++) {
+            starts[i] = offset(sortedIntervals[i].start());
+            ends[i] = offset(sortedIntervals[i].end());
+            if (latest < 0 || ends[i] > ends[latest]) {
+                secondLatest = latest;
+                latest = i;
+            } else if (secondLatest < 0 || ends[i] > ends[secondLatest]) {
+                secondLatest = i;
+            }
+            latestEnding[i] = latest;
+            secondLatestEnding[i] = secondLatest;
+        }
+    }
+
+    public static DaySchedule empty(LocalDate day) {
+        return new DaySchedule(day, new ScheduleInterval[0]);
+    }
+
+    public static DaySchedule of(LocalDate day, Collection<ScheduleInterval> intervals) {
+        ScheduleInterval[] sorted = intervals.stream()
+                .filter(Objects::nonNull)
+                .sorted(BY_START)
+                .toArray(ScheduleInterval[]::new);
+        return new DaySchedule(day, sorted);
+    }
+
+    public Optional<ScheduleInterval> findConflict(LocalDateTime start, LocalDateTime end, Long idToIgnore) {
+        long startNanos = offset(start);
+        long endNanos = offset(end);
+
+        // Candidatos são apenas os intervalos que começam antes do fim do novo horário
+        int candidates = countStartingBefore(endNanos);
+        if (candidates == 0) {
+            return Optional.empty();
+        }
+
+        // Há conflito se, entre os candidatos não ignorados, o que termina mais tarde passa do início.
+        // Os IDs são únicos na agenda, então no máximo um candidato é ignorado
+        int latest = latestEnding[candidates - 1];
+        if (idToIgnore != null && idToIgnore.equals(intervals[latest].appointmentId())) {
+            latest = secondLatestEnding[candidates - 1];
+        }
+        if (latest >= 0 && ends[latest] > startNanos) {
+            return Optional.of(intervals[latest]);
+        }
+        return Optional.empty();
+    }
+
+    public DaySchedule with(ScheduleInterval interval) {
+        List<ScheduleInterval> updated = new ArrayList<>(Arrays.asList(intervals));
+        updated.removeIf(existing -> existing.appointmentId() != null
+                && existing.appointmentId().equals(interval.appointmentId()));
+        updated.add(interval);
+        return of(dayStart.toLocalDate(), updated);
+    }
+
+    public DaySchedule without(Long appointmentId) {
+        List<ScheduleInterval> updated = new ArrayList<>(Arrays.asList(intervals));
+        if (!updated.removeIf(existing -> Objects.equals(existing.appointmentId(), appointmentId))) {
+            return this;
+        }
+        return new DaySchedule(dayStart.toLocalDate(), updated.toArray(ScheduleInterval[]::new));
+    }
+
+    public List<ScheduleInterval> intervals() {
+        return List.of(intervals);
+    }
+
+    public int size() {
+        return intervals.length;
+    }
+
+    // Busca binária: quantidade de intervalos com início estritamente menor que o valor informado
+    private int countStartingBefore(long nanos) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < nanos) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private long offset(LocalDateTime dateTime) {
+        return Duration.between(dayStart, dateTime).toNanos();
+    }
+}
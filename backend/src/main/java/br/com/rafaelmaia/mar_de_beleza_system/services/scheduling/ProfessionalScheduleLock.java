@@ -0,0 +1,99 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.BusinessRuleException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Serializa as reservas por profissional sem travar a agenda dos demais.
+// Em memória usa locks "listrados" (um lock por faixa de IDs); no PostgreSQL também pega um
+// advisory lock de transação, o que protege a agenda quando há mais de uma instância da aplicação.
+// Os dois locks ficam presos até o fim da transação, depois do commit do novo agendamento.
+@Component
+public class ProfessionalScheduleLock {
+
+    // Ocupa os 16 bits altos da chave do pg_advisory_xact_lock(bigint), separa estes locks de outros usos.
+    // Os IDs (BIGINT) ficam nos 48 bits baixos: não há estouro de int e dois IDs só dividem a chave acima de 2^48.
+    private static final long ADVISORY_LOCK_NAMESPACE = 7101L << 48;
+
+    private final AppointmentRepository appointmentRepository;
+    private final ReentrantLock[] stripes;
+    private final boolean advisoryLockEnabled;
+    private final long timeoutMillis;
+    private final SchedulingMetrics schedulingMetrics;
+
+    public ProfessionalScheduleLock(AppointmentRepository appointmentRepository,
+                                    @Value("${app.scheduling.lock.stripes:64}") int stripeCount,
+                                    @Value("${app.scheduling.lock.advisory-lock:true}") boolean advisoryLockEnabled,
+                                    @Value("${app.scheduling.lock.timeout-ms:5000}") long timeoutMillis,
+                                    SchedulingMetrics schedulingMetrics) {
+        this.appointmentRepository = appointmentRepository;
+        this.schedulingMetrics = schedulingMetrics;
+        this.advisoryLockEnabled = advisoryLockEnabled;
+        this.timeoutMillis = timeoutMillis;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public void lock(Long professionalId) {
+        lock(List.of(professionalId));
+    }
+
+    // Sempre na mesma ordem (faixa e depois ID) para que duas reservas com vários profissionais não entrem em deadlock
+    public void lock(Collection<Long> professionalIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("A agenda do profissional só pode ser bloqueada dentro de uma transação");
+        }
+
+        List<Long> ids = professionalIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        int[] stripeIndexes = ids.stream().mapToInt(this::stripeOf).distinct().sorted().toArray();
+
+        Deque<ReentrantLock> acquired = new ArrayDeque<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                while (!acquired.isEmpty()) {
+                    acquired.pop().unlock();
+                }
+            }
+        });
+
+        for (int index : stripeIndexes) {
+            ReentrantLock lock = stripes[index];
+            if (!tryLock(lock)) {
+                schedulingMetrics.conflict(SchedulingMetrics.CONFLICT_LOCK_TIMEOUT);
+                throw new BusinessRuleException("A agenda do profissional está sendo alterada no momento. Tente novamente.");
+            }
+            acquired.push(lock);
+        }
+
+        if (advisoryLockEnabled) {
+            ids.forEach(id -> appointmentRepository.lockProfessionalSchedule(ADVISORY_LOCK_NAMESPACE ^ id));
+        }
+    }
+
+    private boolean tryLock(ReentrantLock lock) {
+        try {
+            return lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private int stripeOf(Long professionalId) {
+        return Math.floorMod(Long.hashCode(professionalId), stripes.length);
+    }
+}
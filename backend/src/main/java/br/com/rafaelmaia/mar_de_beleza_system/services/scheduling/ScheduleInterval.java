@@ -0,0 +1,50 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+
+import java.time.LocalDateTime;
+
+// Intervalo [start, end) ocupado na agenda de um profissional
+public record ScheduleInterval(
+        Long appointmentId,
+        Long professionalId,
+        LocalDateTime start,
+        LocalDateTime end
+) {
+
+    // Retorna null quando o agendamento não ocupa a agenda (ex: cancelado)
+    public static ScheduleInterval of(Appointment appointment) {
+        if (appointment == null || appointment.getProfessional() == null) {
+            return null;
+        }
+        return of(appointment, appointment.getProfessional().getId());
+    }
+
+    public static ScheduleInterval of(Appointment appointment, Long professionalId) {
+        if (appointment == null || appointment.getStatus() == AppointmentStatus.CANCELED
+                || appointment.getAppointmentDate() == null
+                || (appointment.getEndDate() == null && appointment.getService() == null)) {
+            return null;
+        }
+        return new ScheduleInterval(
+                appointment.getId(),
+                professionalId,
+                appointment.getAppointmentDate(),
+                endOf(appointment)
+        );
+    }
+
+    // Usa o fim gravado no agendamento; calcula pela duração do serviço se ainda não foi preenchido
+    public static LocalDateTime endOf(Appointment appointment) {
+        if (appointment.getEndDate() != null) {
+            return appointment.getEndDate();
+        }
+        return appointment.getAppointmentDate().plusMinutes(appointment.getService().getDurationInMinutes());
+    }
+
+    public boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+        // Lógica de sobreposição: (Início A < Fim B) E (Fim A > Início B)
+        return otherStart.isBefore(end) && otherEnd.isAfter(start);
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+// Métricas das reservas: conflitos de horário por causa e quantos horários cada checagem de conflito examina.
+// Ajudam a separar "agenda cheia" (conflitos no índice ou só no banco) de contenção (lock esgotado) num pico de marcações.
+@Component
+public class SchedulingMetrics {
+
+    public static final String CONFLICT_INDEX = "index";
+    public static final String CONFLICT_DATABASE = "database";
+    public static final String CONFLICT_LOCK_TIMEOUT = "lock_timeout";
+    public static final String CONFLICT_BATCH = "batch";
+
+    private final MeterRegistry registry;
+    private final DistributionSummary singleCheckRows;
+    private final DistributionSummary batchCheckRows;
+
+    public SchedulingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.singleCheckRows = checkRows(registry, "single");
+        this.batchCheckRows = checkRows(registry, "batch");
+    }
+
+    public void conflict(String cause) {
+        registry.counter("app.booking.conflicts", "cause", cause).increment();
+    }
+
+    // Agenda do dia do profissional (reserva avulsa) ou horários lidos para o período do lote
+    public void conflictCheckRows(int rows) {
+        singleCheckRows.record(rows);
+    }
+
+    public void batchConflictCheckRows(int rows) {
+        batchCheckRows.record(rows);
+    }
+
+    private static DistributionSummary checkRows(MeterRegistry registry, String path) {
+        return DistributionSummary.builder("app.booking.conflict.check.rows")
+                .description("Horários examinados por checagem de conflito")
+                .baseUnit("rows")
+                .tag("path", path)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentSeriesService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Mantém as séries recorrentes gravadas até o horizonte móvel (app.series.horizon-days)
+@Component
+public class SeriesHorizonJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeriesHorizonJob.class);
+
+    private final AppointmentSeriesService seriesService;
+    private final boolean advanceOnStartup;
+
+    public SeriesHorizonJob(AppointmentSeriesService seriesService,
+                            @Value("${app.series.advance-on-startup:true}") boolean advanceOnStartup) {
+        this.seriesService = seriesService;
+        this.advanceOnStartup = advanceOnStartup;
+    }
+
+    // Aplicação ficou fora do ar na virada do dia: alcança o horizonte sem esperar o próximo agendamento do job
+    @EventListener(ApplicationReadyEvent.class)
+    public void advanceOnStartup() {
+        if (advanceOnStartup) {
+            advanceHorizon();
+        }
+    }
+
+    // Todas as séries atrasadas saem em uma única gravação em lote
+    @Scheduled(cron = "${app.series.cron:0 0 3 * * *}")
+    public void advanceHorizon() {
+        int advanced = seriesService.materializeDue();
+        if (advanced > 0) {
+            logger.info("Horizonte das séries recorrentes avançado para {} séries.", advanced);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Calcula os horários livres de um profissional em uma única passada pela agenda.
+// As janelas de funcionamento e os agendamentos precisam estar ordenados pelo início;
+// os horários livres seguem a grade de "step" a partir da abertura de cada janela.
+public final class SlotFinder {
+
+    private SlotFinder() {
+    }
+
+    public static List<TimeSlot> freeSlots(List<TimeSlot> openingHours, LocalDateTime earliestStart,
+                                           Duration duration, Duration step, List<ScheduleInterval> sortedIntervals) {
+        if (duration.isZero() || duration.isNegative() || step.isZero() || step.isNegative()) {
+            throw new IllegalArgumentException("Duração e intervalo da grade devem ser positivos");
+        }
+
+        List<TimeSlot> slots = new ArrayList<>();
+        int next = 0;
+        // Maior fim entre os agendamentos já percorridos: cobre agendamentos que avançam para a janela seguinte
+        LocalDateTime busyUntil = earliestStart;
+
+        for (TimeSlot window : openingHours) {
+            LocalDateTime cursor = latest(window.start(), busyUntil);
+
+            while (next < sortedIntervals.size() && sortedIntervals.get(next).start().isBefore(window.end())) {
+                ScheduleInterval busy = sortedIntervals.get(next++);
+                if (busy.start().isAfter(cursor)) {
+                    addSlots(slots, window.start(), cursor, busy.start(), duration, step);
+                }
+                cursor = latest(cursor, busy.end());
+                busyUntil = latest(busyUntil, busy.end());
+            }
+            addSlots(slots, window.start(), cursor, window.end(), duration, step);
+        }
+        return slots;
+    }
+
+    // Adiciona os horários da grade que cabem inteiros no espaço livre [from, to)
+    private static void addSlots(List<TimeSlot> slots, LocalDateTime gridOrigin, LocalDateTime from, LocalDateTime to,
+                                 Duration duration, Duration step) {
+        long stepSeconds = step.getSeconds();
+        long stepsFromOrigin = Math.ceilDiv(Duration.between(gridOrigin, from).getSeconds(), stepSeconds);
+
+        LocalDateTime start = gridOrigin.plusSeconds(stepsFromOrigin * stepSeconds);
+        LocalDateTime end = start.plus(duration);
+        while (!end.isAfter(to)) {
+            slots.add(new TimeSlot(start, end));
+            start = start.plus(step);
+            end = start.plus(duration);
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import java.time.LocalDateTime;
+
+// Intervalo [start, end): horário livre ou janela de funcionamento do salão
+public record TimeSlot(
+        LocalDateTime start,
+        LocalDateTime end
+) {
+}
@@ -3,7 +3,10 @@
 -- =================================================================
 
 -- Limpa as tabelas na ordem correta para evitar erros de chave estrangeira
+DELETE FROM tb_appointment_event;
+DELETE FROM tb_daily_rollup;
 DELETE FROM tb_appointment;
+DELETE FROM tb_appointment_series;
 DELETE FROM tb_user_specialties;
 DELETE FROM tb_users;
 DELETE FROM tb_client;
@@ -15,9 +18,12 @@ DELETE FROM tb_salon_service;
 --  Contatos (Telefones)
 -- =============================================
 -- IDs 1, 2, 3 serão para as funcionárias. IDs 4, 5, 6 para as clientes.
-INSERT INTO tb_contact (phone, phone_is_whatsapp) VALUES
-('85999887766', true), ('85987654321', true), ('85991234567', false),
-('85988776655', true), ('85996543210', true), ('85992345678', true);
+INSERT INTO tb_contact (id, phone, phone_is_whatsapp) VALUES
+(1, '85999887766', true), (2, '85987654321', true), (3, '85991234567', false),
+(4, '85988776655', true), (5, '85996543210', true), (6, '85992345678', true);
+
+-- IDs explícitos acima: a sequence continua a partir do maior ID já usado
+SELECT setval('tb_contact_seq', (SELECT MAX(id) FROM tb_contact));
 
 
 -- =============================================
@@ -56,21 +62,26 @@ INSERT INTO tb_salon_service (name, service_type, duration_in_minutes, price) VA
 --  Clientes (Clients)
 -- =============================================
 -- IDs gerados: 1 (Fernanda), 2 (Gabriela), 3 (Heloísa)
-INSERT INTO tb_client (name, birth_date, gender, contact_id) VALUES
-('Fernanda Lima', '1995-08-20', 'FEMALE', 4),
-('Gabriela Melo', '2001-04-10', 'FEMALE', 5),
-('Heloísa Borges', '1989-12-01', 'OTHER', 6);
+INSERT INTO tb_client (id, name, birth_date, gender, contact_id) VALUES
+(1, 'Fernanda Lima', '1995-08-20', 'FEMALE', 4),
+(2, 'Gabriela Melo', '2001-04-10', 'FEMALE', 5),
+(3, 'Heloísa Borges', '1989-12-01', 'OTHER', 6);
+
+SELECT setval('tb_client_seq', (SELECT MAX(id) FROM tb_client));
 
 
 -- =============================================
 --  Agendamentos (Appointments) - VERSÃO FINAL
 -- =============================================
 -- Agendamentos para HOJE (23/07/2025)
-INSERT INTO tb_appointment (client_id, professional_id, service_id, price, appointment_date, status, observations, created_at) VALUES
-(1, 2, 1, 50.00, '2025-07-23 10:00:00', 'CONFIRMED', 'Cliente pediu para chegar 10 min antes.', '2025-07-20 11:30:00'),
-(2, 3, 2, 220.00, '2025-07-23 14:30:00', 'SCHEDULED', 'Aplicação completa de cílios.', '2025-07-21 18:00:00');
+INSERT INTO tb_appointment (id, client_id, professional_id, service_id, price, appointment_date, end_date, status, observations, created_at) VALUES
+(1, 1, 2, 1, 50.00, '2025-07-23 10:00:00', '2025-07-23 10:45:00', 'CONFIRMED', 'Cliente pediu para chegar 10 min antes.', '2025-07-20 11:30:00'),
+(2, 2, 3, 2, 220.00, '2025-07-23 14:30:00', '2025-07-23 16:30:00', 'SCHEDULED', 'Aplicação completa de cílios.', '2025-07-21 18:00:00');
 
 -- Agendamentos para AMANHÃ (24/07/2025)
-INSERT INTO tb_appointment (client_id, professional_id, service_id, price, appointment_date, status, observations, created_at) VALUES
-(3, 2, 3, 150.00, '2025-07-24 11:00:00', 'SCHEDULED', 'Tolerância de 10 minutos de atraso.', '2025-07-22 09:12:00'),
-(1, 4, 4, 75.00, '2025-07-24 16:00:00', 'SCHEDULED', 'Manicure e pedicure.', '2025-07-22 15:00:00');
\ No newline at end of file
+INSERT INTO tb_appointment (id, client_id, professional_id, service_id, price, appointment_date, end_date, status, observations, created_at) VALUES
+(3, 3, 2, 3, 150.00, '2025-07-24 11:00:00', '2025-07-24 12:30:00', 'SCHEDULED', 'Tolerância de 10 minutos de atraso.', '2025-07-22 09:12:00'),
+(4, 1, 4, 4, 75.00, '2025-07-24 16:00:00', '2025-07-24 17:00:00', 'SCHEDULED', 'Manicure e pedicure.', '2025-07-22 15:00:00');
+
+-- IDs explícitos acima: a sequence continua a partir do maior ID já usado
+SELECT setval('tb_appointment_seq', (SELECT MAX(id) FROM tb_appointment));
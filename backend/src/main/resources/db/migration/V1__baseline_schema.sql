@@ -0,0 +1,195 @@
+-- =============================================
+--  Esquema inicial (produção)
+-- =============================================
+-- Espelha o mapeamento das entidades; o Hibernate roda com ddl-auto: validate e só confere.
+-- Bancos que já existiam com ddl-auto: update também executam este script (baseline-version 0):
+-- por isso tudo é IF NOT EXISTS. Nesses bancos o CREATE TABLE não faz nada, então as colunas novas são
+-- acrescentadas (e preenchidas) com ALTER TABLE logo depois, e no fim as sequences são posicionadas
+-- depois dos IDs já usados.
+
+CREATE SEQUENCE IF NOT EXISTS tb_contact_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_client_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tb_appointment_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tb_contact (
+    id                 BIGINT       NOT NULL,
+    phone              VARCHAR(255) NOT NULL,
+    phone_is_whatsapp  BOOLEAN,
+    version            BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_contact PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_salon_service (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name                 VARCHAR(255)   NOT NULL,
+    service_type         VARCHAR(255)   CHECK (service_type IN ('LASH', 'EYEBROW', 'HAIR', 'WAXING', 'MOON_BATH', 'MANICURE', 'FOOT_SPA', 'OTHER')),
+    duration_in_minutes  INTEGER        NOT NULL,
+    price                NUMERIC(38, 2) NOT NULL,
+    version              BIGINT         NOT NULL DEFAULT 0,
+    CONSTRAINT pk_salon_service PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_users (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name              VARCHAR(255) NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    password          VARCHAR(255) NOT NULL,
+    role              VARCHAR(255) CHECK (role IN ('ADMIN', 'STAFF')),
+    contact_id        BIGINT,
+    can_be_scheduled  BOOLEAN      NOT NULL,
+    token_version     BIGINT       NOT NULL DEFAULT 0,
+    version           BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_contact UNIQUE (contact_id),
+    CONSTRAINT fk_users_contact FOREIGN KEY (contact_id) REFERENCES tb_contact (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_user_specialties (
+    user_id    BIGINT       NOT NULL,
+    specialty  VARCHAR(255) NOT NULL CHECK (specialty IN ('LASH', 'EYEBROW', 'HAIR', 'WAXING', 'MOON_BATH', 'MANICURE', 'FOOT_SPA', 'OTHER')),
+    CONSTRAINT pk_user_specialties PRIMARY KEY (user_id, specialty),
+    CONSTRAINT fk_user_specialties_user FOREIGN KEY (user_id) REFERENCES tb_users (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_client (
+    id          BIGINT       NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    birth_date  DATE,
+    gender      VARCHAR(255) CHECK (gender IN ('MALE', 'FEMALE', 'OTHER', 'PREFER_NOT_TO_SAY')),
+    contact_id  BIGINT,
+    version     BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_client PRIMARY KEY (id),
+    CONSTRAINT uk_client_contact UNIQUE (contact_id),
+    CONSTRAINT fk_client_contact FOREIGN KEY (contact_id) REFERENCES tb_contact (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_appointment_series (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    client_id           BIGINT         NOT NULL,
+    professional_id     BIGINT         NOT NULL,
+    service_id          BIGINT         NOT NULL,
+    first_occurrence    TIMESTAMP(6)   NOT NULL,
+    interval_in_days    INTEGER        NOT NULL,
+    until_date          DATE,
+    price               NUMERIC(38, 2),
+    observations        VARCHAR(500),
+    materialized_until  DATE           NOT NULL,
+    version             BIGINT         NOT NULL DEFAULT 0,
+    CONSTRAINT pk_appointment_series PRIMARY KEY (id),
+    CONSTRAINT fk_appointment_series_client FOREIGN KEY (client_id) REFERENCES tb_client (id),
+    CONSTRAINT fk_appointment_series_professional FOREIGN KEY (professional_id) REFERENCES tb_users (id),
+    CONSTRAINT fk_appointment_series_service FOREIGN KEY (service_id) REFERENCES tb_salon_service (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_appointment (
+    id                BIGINT         NOT NULL,
+    client_id         BIGINT         NOT NULL,
+    professional_id   BIGINT         NOT NULL,
+    service_id        BIGINT         NOT NULL,
+    series_id         BIGINT,
+    price             NUMERIC(38, 2) NOT NULL,
+    appointment_date  TIMESTAMP(6)   NOT NULL,
+    end_date          TIMESTAMP(6)   NOT NULL,
+    status            VARCHAR(255)   CHECK (status IN ('SCHEDULED', 'CONFIRMED', 'DONE', 'CANCELED', 'NO_SHOW', 'RESCHEDULED')),
+    observations      VARCHAR(500),
+    created_at        TIMESTAMP(6)   NOT NULL,
+    version           BIGINT         NOT NULL DEFAULT 0,
+    CONSTRAINT pk_appointment PRIMARY KEY (id),
+    CONSTRAINT fk_appointment_client FOREIGN KEY (client_id) REFERENCES tb_client (id),
+    CONSTRAINT fk_appointment_professional FOREIGN KEY (professional_id) REFERENCES tb_users (id),
+    CONSTRAINT fk_appointment_service FOREIGN KEY (service_id) REFERENCES tb_salon_service (id),
+    CONSTRAINT fk_appointment_series FOREIGN KEY (series_id) REFERENCES tb_appointment_series (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_payment (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    appointment_id  BIGINT         NOT NULL,
+    total_amount    NUMERIC(38, 2) NOT NULL,
+    payment_method  VARCHAR(255)   NOT NULL CHECK (payment_method IN ('PIX', 'CASH', 'CREDIT_CARD', 'DEBIT_CARD')),
+    payment_date    TIMESTAMP(6)   NOT NULL,
+    observations    VARCHAR(255),
+    status          VARCHAR(255)   NOT NULL CHECK (status IN ('PAID', 'CANCELED')),
+    CONSTRAINT pk_payment PRIMARY KEY (id),
+    CONSTRAINT uk_payment_appointment UNIQUE (appointment_id),
+    CONSTRAINT fk_payment_appointment FOREIGN KEY (appointment_id) REFERENCES tb_appointment (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_daily_rollup (
+    rollup_date        DATE           NOT NULL,
+    professional_id    BIGINT         NOT NULL,
+    service_type       VARCHAR(255)   NOT NULL CHECK (service_type IN ('LASH', 'EYEBROW', 'HAIR', 'WAXING', 'MOON_BATH', 'MANICURE', 'FOOT_SPA', 'OTHER')),
+    revenue            NUMERIC(12, 2) NOT NULL,
+    payment_count      BIGINT         NOT NULL,
+    appointment_count  BIGINT         NOT NULL,
+    done_count         BIGINT         NOT NULL,
+    canceled_count     BIGINT         NOT NULL,
+    no_show_count      BIGINT         NOT NULL,
+    booked_minutes     BIGINT         NOT NULL,
+    CONSTRAINT pk_daily_rollup PRIMARY KEY (rollup_date, professional_id, service_type)
+);
+
+-- Colunas que não existiam no esquema gerado pelo ddl-auto: update (nada muda em banco novo)
+ALTER TABLE tb_contact ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_salon_service ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_users ADD COLUMN IF NOT EXISTS token_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_client ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_appointment ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_appointment ADD COLUMN IF NOT EXISTS series_id BIGINT;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_appointment_series') THEN
+        ALTER TABLE tb_appointment
+            ADD CONSTRAINT fk_appointment_series FOREIGN KEY (series_id) REFERENCES tb_appointment_series (id);
+    END IF;
+END $$;
+
+-- Fim do atendimento: agendamentos antigos recebem início + duração do serviço antes de a coluna virar NOT NULL
+ALTER TABLE tb_appointment ADD COLUMN IF NOT EXISTS end_date TIMESTAMP(6);
+UPDATE tb_appointment a
+SET end_date = a.appointment_date + s.duration_in_minutes * INTERVAL '1 minute'
+FROM tb_salon_service s
+WHERE s.id = a.service_id
+  AND a.end_date IS NULL;
+ALTER TABLE tb_appointment ALTER COLUMN end_date SET NOT NULL;
+
+-- Telefone único entre clientes e equipe. Antes a unicidade era conferida só dentro de cada tabela, então um
+-- banco antigo pode ter uma cliente e uma profissional com o mesmo telefone. Nesse caso a migração para aqui,
+-- com os telefones no erro, em vez de falhar no CREATE UNIQUE INDEX. Correção manual: localizar os donos com
+--   SELECT c.phone, cl.id AS client_id, u.id AS user_id FROM tb_contact c
+--   LEFT JOIN tb_client cl ON cl.contact_id = c.id LEFT JOIN tb_users u ON u.contact_id = c.id
+--   WHERE c.phone IN (<telefones do erro>);
+-- corrigir o telefone de um deles (UPDATE tb_contact SET phone = ... WHERE id = ...) e subir a aplicação de novo.
+DO $$
+DECLARE
+    duplicated_phones TEXT;
+BEGIN
+    SELECT string_agg(phone, ', ' ORDER BY phone) INTO duplicated_phones
+    FROM (SELECT phone FROM tb_contact GROUP BY phone HAVING COUNT(*) > 1) duplicated;
+    IF duplicated_phones IS NOT NULL THEN
+        RAISE EXCEPTION 'Telefones repetidos em tb_contact: %. Corrija-os antes de migrar (ver V1__baseline_schema.sql).',
+            duplicated_phones;
+    END IF;
+END $$;
+
+-- Índices declarados nas entidades
+CREATE UNIQUE INDEX IF NOT EXISTS uk_contact_phone ON tb_contact (phone);
+-- Checagem de conflito: agendamentos cancelados nunca conflitam, então ficam fora do índice (parcial).
+-- O @Index da entidade (dev/testes, gerado pelo Hibernate) não tem o WHERE, que o JPA não consegue declarar.
+CREATE INDEX IF NOT EXISTS idx_appointment_professional_period ON tb_appointment (professional_id, appointment_date, end_date)
+    WHERE status <> 'CANCELED';
+CREATE INDEX IF NOT EXISTS idx_appointment_date_id ON tb_appointment (appointment_date, id);
+CREATE INDEX IF NOT EXISTS idx_payment_date_id ON tb_payment (payment_date, id);
+
+-- Chaves estrangeiras percorridas na exclusão de clientes e na edição de séries
+CREATE INDEX IF NOT EXISTS idx_appointment_client ON tb_appointment (client_id);
+CREATE INDEX IF NOT EXISTS idx_appointment_series ON tb_appointment (series_id);
+
+-- IDs gerados em blocos de 50 (otimizador pooled): a sequence precisa estar no maior ID já usado,
+-- senão o próximo bloco repete IDs de linhas gravadas quando as tabelas ainda usavam IDENTITY.
+-- Nunca volta a sequence (outra instância ainda pode estar usando o bloco que já reservou).
+SELECT setval('tb_contact_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tb_contact), (SELECT last_value FROM tb_contact_seq)));
+SELECT setval('tb_client_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tb_client), (SELECT last_value FROM tb_client_seq)));
+SELECT setval('tb_appointment_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tb_appointment), (SELECT last_value FROM tb_appointment_seq)));
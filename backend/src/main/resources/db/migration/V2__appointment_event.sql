@@ -0,0 +1,23 @@
+-- =============================================
+--  Trilha de auditoria de agendamentos e pagamentos
+-- =============================================
+-- Somente inclusão, gravada em lotes pelo AppointmentEventWriter. Sem chaves estrangeiras: o histórico
+-- continua existindo mesmo que o agendamento ou o pagamento seja excluído.
+
+CREATE SEQUENCE IF NOT EXISTS tb_appointment_event_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tb_appointment_event (
+    id               BIGINT         NOT NULL,
+    appointment_id   BIGINT         NOT NULL,
+    payment_id       BIGINT,
+    event_type       VARCHAR(255)   NOT NULL CHECK (event_type IN ('STATUS_CHANGED', 'PAYMENT_REGISTERED', 'PAYMENT_CANCELED')),
+    previous_status  VARCHAR(255)   CHECK (previous_status IN ('SCHEDULED', 'CONFIRMED', 'DONE', 'CANCELED', 'NO_SHOW', 'RESCHEDULED')),
+    new_status       VARCHAR(255)   CHECK (new_status IN ('SCHEDULED', 'CONFIRMED', 'DONE', 'CANCELED', 'NO_SHOW', 'RESCHEDULED')),
+    amount           NUMERIC(38, 2),
+    performed_by     VARCHAR(255),
+    occurred_at      TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_appointment_event PRIMARY KEY (id)
+);
+
+-- Histórico de um agendamento em ordem cronológica
+CREATE INDEX IF NOT EXISTS idx_appointment_event_appointment ON tb_appointment_event (appointment_id, occurred_at);
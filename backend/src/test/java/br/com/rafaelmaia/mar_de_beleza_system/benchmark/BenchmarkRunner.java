@@ -0,0 +1,38 @@
+package br.com.rafaelmaia.mar_de_beleza_system.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+
+// Roda os microbenchmarks deste pacote e grava o resultado em JSON (formato do JMH), um arquivo por versão,
+// para comparar releases (ex: jmh.morethan.me ou um diff dos campos primaryMetric.score).
+// Executar com: mvn -Pbenchmark verify [-Dbenchmark.include=ConflictCheckBenchmark]
+// PersistenceProfileBenchmark e OverlapProbeBenchmark precisam de um PostgreSQL e só rodam quando incluídos explicitamente.
+public class BenchmarkRunner {
+
+    private static final List<String> NEEDS_DATABASE = List.of(
+            PersistenceProfileBenchmark.class.getSimpleName(),
+            OverlapProbeBenchmark.class.getSimpleName());
+
+    public static void main(String[] args) throws RunnerException {
+        String include = System.getProperty("benchmark.include", "");
+        String result = System.getProperty("benchmark.result", "target/jmh-result.json");
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .resultFormat(ResultFormatType.JSON)
+                .result(result);
+        if (include.isBlank()) {
+            options.include(BenchmarkRunner.class.getPackageName() + "\\..*");
+            NEEDS_DATABASE.forEach(options::exclude);
+        } else {
+            options.include(include);
+        }
+
+        new Runner(options.build()).run();
+        System.out.println("Resultados em " + result);
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.rafaelmaia.mar_de_beleza_system.benchmark;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.DaySchedule;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Checagem de sobreposição de um novo horário contra a agenda do dia de um profissional:
+// o laço original de AppointmentServiceImpl (fim calculado pela duração do serviço a cada agendamento)
+// contra a busca binária do DaySchedule usado hoje pelo índice em memória.
+// Executar com: mvn -Pbenchmark verify -Dbenchmark.include=ConflictCheckBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConflictCheckBenchmark {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 8, 16);
+    private static final int PROBES = 64;
+
+    @Param({"8", "40"})
+    private int appointmentsPerDay;
+
+    private List<Appointment> appointments;
+    private DaySchedule schedule;
+    private LocalDateTime[] probeStarts;
+    private int probe;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        appointments = new ArrayList<>();
+        List<ScheduleInterval> intervals = new ArrayList<>();
+        for (int i = 0; i < appointmentsPerDay; i++) {
+            SalonService service = SalonService.builder().id((long) i % 5).durationInMinutes(15 + random.nextInt(6) * 15).build();
+            LocalDateTime start = DAY.atTime(8, 0).plusMinutes(random.nextInt(44) * 15L);
+            Appointment appointment = Appointment.builder()
+                    .id((long) i)
+                    .service(service)
+                    .appointmentDate(start)
+                    .endDate(start.plusMinutes(service.getDurationInMinutes()))
+                    .build();
+            appointments.add(appointment);
+            intervals.add(new ScheduleInterval(appointment.getId(), 1L, start, appointment.getEndDate()));
+        }
+        schedule = DaySchedule.of(DAY, intervals);
+
+        probeStarts = new LocalDateTime[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probeStarts[i] = DAY.atTime(8, 0).plusMinutes(random.nextInt(44) * 15L);
+        }
+    }
+
+    @Benchmark
+    public Object legacyLoop() {
+        LocalDateTime start = nextProbe();
+        LocalDateTime end = start.plusMinutes(45);
+        for (Appointment existing : appointments) {
+            LocalDateTime existingStart = existing.getAppointmentDate();
+            LocalDateTime existingEnd = existingStart.plusMinutes(existing.getService().getDurationInMinutes());
+            if (start.isBefore(existingEnd) && end.isAfter(existingStart)) {
+                return existing;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Object daySchedule() {
+        LocalDateTime start = nextProbe();
+        return schedule.findConflict(start, start.plusMinutes(45), null);
+    }
+
+    private LocalDateTime nextProbe() {
+        return probeStarts[probe++ & (PROBES - 1)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConflictCheckBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.rafaelmaia.mar_de_beleza_system.benchmark;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Role;
+import br.com.rafaelmaia.mar_de_beleza_system.security.jwt.JwtService;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Custo de autenticar uma requisição: fluxo antigo do JwtFilter (três leituras e verificações do mesmo token)
+// contra uma única leitura por requisição, com e sem o cache de tokens validados.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA==";
+
+    private JwtService cachedService;
+    private JwtService uncachedService;
+    private String token;
+
+    @Setup
+    public void setup() {
+        cachedService = new JwtService(SECRET, 10_000);
+        uncachedService = new JwtService(SECRET, 0);
+
+        SystemUser user = new SystemUser();
+        user.setId(1L);
+        user.setName("Administrador");
+        user.setEmail("admin@mardebeleza.com");
+        user.setRole(Role.ADMIN);
+        token = cachedService.generateToken(user);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public boolean legacyTripleParse() {
+        // extractUsername + isTokenValid (extractUsername + isTokenExpired), como o filtro fazia antes
+        String username = Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody().getSubject();
+        String again = Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody().getSubject();
+        Date expiration = Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody().getExpiration();
+        return username.equals(again) && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public Object singleParseWithoutCache() {
+        return uncachedService.parseToken(token);
+    }
+
+    @Benchmark
+    public Object singleParseWithCache() {
+        return cachedService.parseToken(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtValidationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.rafaelmaia.mar_de_beleza_system.benchmark;
+
+import br.com.rafaelmaia.mar_de_beleza_system.MarDeBelezaSystemApplication;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Checagem de conflito no banco com 10 mil agendamentos por dia (20% cancelados), antes e depois da sonda única:
+// - legacyDayScan: a consulta original (todos os agendamentos do dia do profissional, fim calculado em Java
+//   pela duração do serviço, carregado de forma preguiçosa)
+// - existsOverlapping: a sonda atual, que para no primeiro agendamento sobreposto
+// Cada uma com o índice completo do Hibernate (full) e com o índice parcial da migração (partial).
+// Usa um banco separado, recriado a cada variante (create-drop + data.sql), nunca o de desenvolvimento:
+//   createdb mar_de_beleza_bench
+//   mvn -Pbenchmark verify -Dbenchmark.include=OverlapProbeBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OverlapProbeBenchmark {
+
+    private static final String DB_URL = System.getProperty("bench.db-url", "jdbc:postgresql://localhost:5432/mar_de_beleza_bench");
+    private static final String SECRET = "c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA==";
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 3, 4);
+    private static final int DAYS = 7;
+    private static final int APPOINTMENTS_PER_DAY = 10_000;
+    private static final long FIRST_SEEDED_ID = 1_000_000L;
+    private static final int PROBES = 256;
+
+    private static final String LEGACY_DAY_SCAN = "SELECT a FROM Appointment a " +
+            "WHERE a.professional.id = :professionalId " +
+            "AND a.status <> br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus.CANCELED " +
+            "AND a.appointmentDate >= :startOfDay " +
+            "AND a.appointmentDate < :endOfDay";
+
+    @Param({"full", "partial"})
+    private String index;
+
+    private ConfigurableApplicationContext context;
+    private AppointmentRepository appointmentRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private Long[] probeProfessionals;
+    private LocalDateTime[] probeStarts;
+    private int probe;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(MarDeBelezaSystemApplication.class).run(
+                "--spring.profiles.active=dev",
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=" + DB_URL + "?reWriteBatchedInserts=true",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.sql.init.mode=always",
+                "--spring.jpa.defer-datasource-initialization=true",
+                "--spring.flyway.enabled=false",
+                "--app.series.advance-on-startup=false",
+                "--app.sql.monitor.enabled=false",
+                "--jwt.secret=" + SECRET,
+                "--logging.level.root=WARN");
+        appointmentRepository = context.getBean(AppointmentRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<Long> professionals = jdbc.queryForList("SELECT id FROM tb_users WHERE can_be_scheduled ORDER BY id", Long.class);
+        List<Map<String, Object>> services = jdbc.queryForList("SELECT id, duration_in_minutes FROM tb_salon_service ORDER BY id");
+        Long clientId = jdbc.queryForObject("SELECT MIN(id) FROM tb_client", Long.class);
+        seed(jdbc, professionals, services, clientId);
+
+        if (index.equals("partial")) {
+            jdbc.execute("DROP INDEX idx_appointment_professional_period");
+            jdbc.execute("CREATE INDEX idx_appointment_professional_period ON tb_appointment " +
+                    "(professional_id, appointment_date, end_date) WHERE status <> 'CANCELED'");
+        }
+        jdbc.execute("ANALYZE tb_appointment");
+
+        // Horários de 15 em 15 minutos entre 8h e 20h: parte cai em conflito, parte em horário livre
+        Random random = new Random(7);
+        probeProfessionals = new Long[PROBES];
+        probeStarts = new LocalDateTime[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probeProfessionals[i] = professionals.get(random.nextInt(professionals.size()));
+            probeStarts[i] = FIRST_DAY.plusDays(random.nextInt(DAYS)).atTime(8, 0).plusMinutes(random.nextInt(48) * 15L);
+        }
+        probe = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean legacyDayScan() {
+        int current = next();
+        LocalDateTime start = probeStarts[current];
+        LocalDateTime end = start.plusMinutes(45);
+        return Boolean.TRUE.equals(readOnly.execute(status -> {
+            List<Appointment> existing = entityManager.createQuery(LEGACY_DAY_SCAN, Appointment.class)
+                    .setParameter("professionalId", probeProfessionals[current])
+                    .setParameter("startOfDay", start.toLocalDate().atStartOfDay())
+                    .setParameter("endOfDay", start.toLocalDate().plusDays(1).atStartOfDay())
+                    .getResultList();
+            for (Appointment appointment : existing) {
+                LocalDateTime existingEnd = appointment.getAppointmentDate().plusMinutes(appointment.getService().getDurationInMinutes());
+                if (start.isBefore(existingEnd) && end.isAfter(appointment.getAppointmentDate())) {
+                    return true;
+                }
+            }
+            return false;
+        }));
+    }
+
+    @Benchmark
+    public boolean existsOverlapping() {
+        int current = next();
+        LocalDateTime start = probeStarts[current];
+        return Boolean.TRUE.equals(readOnly.execute(status ->
+                appointmentRepository.existsOverlapping(probeProfessionals[current], start, start.plusMinutes(45), null)));
+    }
+
+    private int next() {
+        int current = probe;
+        probe = (probe + 1) % PROBES;
+        return current;
+    }
+
+    // Inserção direta em lotes JDBC: 70 mil linhas em segundos, sem passar pelas regras de conflito
+    private static void seed(JdbcTemplate jdbc, List<Long> professionals, List<Map<String, Object>> services, Long clientId) {
+        Random random = new Random(42);
+        long id = FIRST_SEEDED_ID;
+        for (int day = 0; day < DAYS; day++) {
+            List<Object[]> rows = new ArrayList<>(APPOINTMENTS_PER_DAY);
+            for (int i = 0; i < APPOINTMENTS_PER_DAY; i++) {
+                Map<String, Object> service = services.get(random.nextInt(services.size()));
+                LocalDateTime start = FIRST_DAY.plusDays(day).atTime(8, 0).plusMinutes(random.nextInt(48) * 15L);
+                LocalDateTime end = start.plusMinutes(((Number) service.get("duration_in_minutes")).longValue());
+                String status = random.nextInt(5) == 0 ? "CANCELED" : "SCHEDULED";
+                rows.add(new Object[]{id++, clientId, professionals.get(random.nextInt(professionals.size())), service.get("id"),
+                        new BigDecimal("50.00"), Timestamp.valueOf(start), Timestamp.valueOf(end), status, Timestamp.valueOf(start.minusDays(30))});
+            }
+            jdbc.batchUpdate("INSERT INTO tb_appointment (id, client_id, professional_id, service_id, price, appointment_date, " +
+                    "end_date, status, created_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OverlapProbeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
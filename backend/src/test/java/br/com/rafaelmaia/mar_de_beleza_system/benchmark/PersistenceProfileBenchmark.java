@@ -0,0 +1,143 @@
+package br.com.rafaelmaia.mar_de_beleza_system.benchmark;
+
+import br.com.rafaelmaia.mar_de_beleza_system.MarDeBelezaSystemApplication;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Caminhos de agendamento e listagem contra um PostgreSQL real, com a aplicação configurada de três formas:
+// - legacy: o application-prod.yml anterior (show-sql, pool e driver no padrão)
+// - unbatched: legacy sem lotes JDBC e sem batch fetch, para medir só o ganho dos lotes
+// - prod: o perfil prod atual (pool fixo, statements preparados no servidor, padding de IN, sem show-sql)
+// O esquema é recriado a cada variante (create-drop + data.sql) em um banco separado, nunca o de desenvolvimento:
+//   createdb mar_de_beleza_bench
+//   mvn -Pbenchmark verify -Dbenchmark.include=PersistenceProfileBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceProfileBenchmark {
+
+    private static final String DB_URL = System.getProperty("bench.db-url", "jdbc:postgresql://localhost:5432/mar_de_beleza_bench");
+    private static final String SECRET = "c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA==";
+
+    // Cliente 1, "Design de Sobrancelha com Henna" (45 min) e a profissional 2 do data.sql
+    private static final Long CLIENT_ID = 1L;
+    private static final Long SERVICE_ID = 1L;
+    private static final Long PROFESSIONAL_ID = 2L;
+    private static final int SLOTS_PER_DAY = 11;
+    private static final int SEEDED_APPOINTMENTS = 3000;
+
+    @Param({"legacy", "unbatched", "prod"})
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private AppointmentService appointmentService;
+    private LocalDate listingMonth;
+    private LocalDate bookingStart;
+    private int nextSlot;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.web-application-type=none",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.sql.init.mode=always",
+                "--spring.jpa.defer-datasource-initialization=true",
+                "--spring.flyway.enabled=false",
+                "--app.series.advance-on-startup=false",
+                "--jwt.secret=" + SECRET,
+                "--logging.level.root=WARN"));
+
+        if (profile.equals("prod")) {
+            args.add("--spring.profiles.active=prod");
+            args.add("--DB_URL=" + DB_URL);
+        } else {
+            args.add("--spring.profiles.active=dev");
+            args.add("--spring.datasource.url=" + DB_URL + "?reWriteBatchedInserts=true");
+            args.add("--spring.jpa.show-sql=true");
+            args.add("--spring.jpa.properties.hibernate.format_sql=false");
+            if (profile.equals("unbatched")) {
+                args.add("--spring.jpa.properties.hibernate.jdbc.batch_size=0");
+                args.add("--spring.jpa.properties.hibernate.default_batch_fetch_size=1");
+            }
+        }
+        context = new SpringApplicationBuilder(MarDeBelezaSystemApplication.class).run(args.toArray(String[]::new));
+        appointmentService = context.getBean(AppointmentService.class);
+
+        // Agenda de meses à frente para a listagem: ~300 agendamentos por mês
+        LocalDate seedStart = LocalDate.now().plusYears(1).withDayOfMonth(1);
+        listingMonth = seedStart.plusMonths(3);
+        for (int first = 0; first < SEEDED_APPOINTMENTS; first += 50) {
+            List<AppointmentRequestDTO> batch = new ArrayList<>();
+            for (int slot = first; slot < first + 50; slot++) {
+                batch.add(request(slotTime(seedStart, slot)));
+            }
+            appointmentService.createBatch(batch);
+        }
+
+        bookingStart = LocalDate.now().plusYears(5);
+        nextSlot = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object bookOne() {
+        return appointmentService.create(request(slotTime(bookingStart, nextSlot++)));
+    }
+
+    @Benchmark
+    public Object bookBatchOf50() {
+        List<AppointmentRequestDTO> batch = new ArrayList<>(50);
+        for (int i = 0; i < 50; i++) {
+            batch.add(request(slotTime(bookingStart, nextSlot++)));
+        }
+        return appointmentService.createBatch(batch);
+    }
+
+    @Benchmark
+    public Object listMonthSummaries() {
+        return appointmentService.findAllAppointmentSummaries(listingMonth, listingMonth.plusMonths(1).minusDays(1),
+                null, null, null, PageRequest.of(0, 50));
+    }
+
+    @Benchmark
+    public Object listMonthFull() {
+        return appointmentService.findAllAppointments(listingMonth, listingMonth.plusMonths(1).minusDays(1),
+                PROFESSIONAL_ID, null, null, PageRequest.of(0, 50));
+    }
+
+    // Um agendamento por hora cheia, das 8h às 18h, dia após dia
+    private static LocalDateTime slotTime(LocalDate start, int slot) {
+        return start.plusDays(slot / SLOTS_PER_DAY).atTime(8 + slot % SLOTS_PER_DAY, 0);
+    }
+
+    private static AppointmentRequestDTO request(LocalDateTime start) {
+        return new AppointmentRequestDTO(CLIENT_ID, start, SERVICE_ID, PROFESSIONAL_ID, new BigDecimal("50.00"), null, null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PersistenceProfileBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.rafaelmaia.mar_de_beleza_system.benchmark;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Contact;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Payment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Gender;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentMethod;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Role;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentSummaryDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Montagem das respostas de uma página de listagem: entidades -> DTOs (fromEntity) e DTOs -> JSON,
+// no mesmo formato que a API devolve (PagedModel, pois as páginas são serializadas VIA_DTO).
+// serializePaymentPage x serializePaymentSummaryPage compara as views full e summary da listagem de pagamentos
+// (o tamanho em bytes é verificado no ResponseViewPayloadTest).
+// Executar com: mvn -Pbenchmark verify -Dbenchmark.include=ResponseMappingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private static final int TOTAL_ELEMENTS = 5000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<Appointment> appointments;
+    private List<Payment> payments;
+    private List<Client> clients;
+    private PagedModel<AppointmentResponseDTO> appointmentPage;
+    private PagedModel<PaymentResponseDTO> paymentPage;
+    private PagedModel<PaymentSummaryDTO> paymentSummaryPage;
+    private PagedModel<ClientResponseDTO> clientPage;
+
+    @Setup
+    public void setup() {
+        // Poucos profissionais e serviços repetidos pela página, como numa agenda real
+        List<SystemUser> professionals = new ArrayList<>();
+        for (long id = 2; id <= 4; id++) {
+            professionals.add(SystemUser.builder()
+                    .id(id).name("Profissional " + id).email("profissional" + id + "@salao.com").role(Role.STAFF)
+                    .contact(contact(id, "8599988776" + id))
+                    .specialties(EnumSet.of(ServiceType.HAIR, ServiceType.EYEBROW, ServiceType.LASH))
+                    .build());
+        }
+        List<SalonService> services = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            services.add(SalonService.builder()
+                    .id(id).name("Serviço " + id).serviceType(ServiceType.values()[(int) id]).durationInMinutes(30 + (int) id * 15)
+                    .price(new BigDecimal("50.00").multiply(BigDecimal.valueOf(id))).build());
+        }
+
+        appointments = new ArrayList<>();
+        payments = new ArrayList<>();
+        clients = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            Client client = Client.builder()
+                    .id((long) i).name("Cliente " + i).birthDate(LocalDate.of(1990, 1, 1).plusDays(i))
+                    .gender(Gender.FEMALE).contact(contact(100L + i, "8598877" + String.format("%04d", i)))
+                    .build();
+            SalonService service = services.get(i % services.size());
+            LocalDateTime start = LocalDateTime.of(2025, 8, 16, 8, 0).plusMinutes(i * 30L);
+            Appointment appointment = Appointment.builder()
+                    .id((long) i).client(client).professional(professionals.get(i % professionals.size())).service(service)
+                    .appointmentDate(start).endDate(start.plusMinutes(service.getDurationInMinutes()))
+                    .status(AppointmentStatus.DONE).price(service.getPrice()).observations("Cliente prefere água sem gás")
+                    .createdAt(start.minusDays(7))
+                    .build();
+            Payment payment = Payment.builder()
+                    .id((long) i).appointment(appointment).totalAmount(service.getPrice()).paymentMethod(PaymentMethod.PIX)
+                    .paymentDate(appointment.getEndDate()).status(PaymentStatus.PAID)
+                    .build();
+            clients.add(client);
+            appointments.add(appointment);
+            payments.add(payment);
+        }
+
+        appointmentPage = pageOf(mapAppointments());
+        paymentPage = pageOf(mapPayments());
+        paymentSummaryPage = pageOf(payments.stream().map(ResponseMappingBenchmark::summaryOf).toList());
+        clientPage = pageOf(mapClients());
+    }
+
+    @Benchmark
+    public List<AppointmentResponseDTO> mapAppointments() {
+        return appointments.stream().map(AppointmentResponseDTO::fromEntity).toList();
+    }
+
+    @Benchmark
+    public List<PaymentResponseDTO> mapPayments() {
+        return payments.stream().map(PaymentResponseDTO::fromEntity).toList();
+    }
+
+    @Benchmark
+    public List<ClientResponseDTO> mapClients() {
+        return clients.stream().map(ClientResponseDTO::fromEntity).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeAppointmentPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(appointmentPage);
+    }
+
+    @Benchmark
+    public byte[] serializePaymentPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(paymentPage);
+    }
+
+    @Benchmark
+    public byte[] serializePaymentSummaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(paymentSummaryPage);
+    }
+
+    @Benchmark
+    public byte[] serializeClientPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(clientPage);
+    }
+
+    private <T> PagedModel<T> pageOf(List<T> content) {
+        return new PagedModel<>(new PageImpl<>(content, PageRequest.of(0, pageSize), TOTAL_ELEMENTS));
+    }
+
+    // Mesmos campos que a consulta de projeção da view=summary preenche
+    private static PaymentSummaryDTO summaryOf(Payment payment) {
+        Appointment appointment = payment.getAppointment();
+        return new PaymentSummaryDTO(payment.getId(), payment.getTotalAmount(), payment.getPaymentMethod(),
+                payment.getPaymentDate(), payment.getStatus(), appointment.getId(), appointment.getAppointmentDate(),
+                appointment.getClient().getId(), appointment.getClient().getName(), appointment.getService().getName(),
+                appointment.getProfessional().getId(), appointment.getProfessional().getName());
+    }
+
+    private static Contact contact(Long id, String phone) {
+        return Contact.builder().id(id).phone(phone).phoneIsWhatsapp(true).build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResponseMappingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.rafaelmaia.mar_de_beleza_system.benchmark;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.AppointmentSeries;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.BatchSchedule;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Parte em memória do avanço do horizonte: gerar 52 semanas de ocorrências de cada série e checar
+// conflitos contra a agenda já gravada do ano (o que AppointmentBatchWriter faz entre a leitura e o INSERT).
+// Executar com: mvn -Pbenchmark verify -Dbenchmark.include=SeriesMaterializationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeriesMaterializationBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 8, 11);
+    private static final int PROFESSIONALS = 3;
+    private static final int SERVICE_MINUTES = 45;
+
+    @Param({"10", "100"})
+    private int seriesCount;
+
+    // Agendamentos avulsos já gravados por profissional e dia útil
+    @Param({"0", "6"})
+    private int existingPerDay;
+
+    private List<AppointmentSeries> series;
+    private List<ScheduleInterval> existing;
+
+    @Setup
+    public void setup() {
+        series = new ArrayList<>();
+        for (int i = 0; i < seriesCount; i++) {
+            int slot = i / PROFESSIONALS;
+            series.add(AppointmentSeries.builder()
+                    .id((long) i)
+                    .firstOccurrence(START.plusDays(slot % 7).atTime(8 + (slot / 7) % 11, 0))
+                    .intervalInDays(7)
+                    .materializedUntil(START.minusDays(1))
+                    .build());
+        }
+
+        Random random = new Random(42);
+        existing = new ArrayList<>();
+        long id = 0;
+        for (int professional = 0; professional < PROFESSIONALS; professional++) {
+            for (int day = 0; day < 364; day++) {
+                for (int i = 0; i < existingPerDay; i++) {
+                    LocalDateTime start = START.plusDays(day).atTime(8 + random.nextInt(11), random.nextInt(4) * 15);
+                    existing.add(new ScheduleInterval(id++, (long) professional, start, start.plusMinutes(15 + random.nextInt(6) * 15L)));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void yearOfOccurrences(Blackhole blackhole) {
+        BatchSchedule schedule = new BatchSchedule(existing);
+        LocalDate horizon = START.plusDays(363);
+
+        for (int i = 0; i < series.size(); i++) {
+            Long professionalId = (long) (i % PROFESSIONALS);
+            for (LocalDateTime start : series.get(i).occurrencesBetween(START, horizon)) {
+                LocalDateTime end = start.plusMinutes(SERVICE_MINUTES);
+                if (schedule.findConflict(professionalId, start, end).isEmpty()) {
+                    schedule.add(new ScheduleInterval(null, professionalId, start, end));
+                } else {
+                    blackhole.consume(start);
+                }
+            }
+        }
+        blackhole.consume(schedule);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SeriesMaterializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
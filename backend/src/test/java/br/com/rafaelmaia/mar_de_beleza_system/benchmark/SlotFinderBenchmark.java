@@ -0,0 +1,80 @@
+package br.com.rafaelmaia.mar_de_beleza_system.benchmark;
+
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.SlotFinder;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.TimeSlot;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Horários livres de uma semana inteira para toda a equipe, com a agenda já carregada em memória.
+// Executar com: mvn -Pbenchmark verify -Dbenchmark.include=SlotFinderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotFinderBenchmark {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 8, 11);
+    private static final Duration STEP = Duration.ofMinutes(15);
+
+    @Param({"5", "20"})
+    private int professionals;
+
+    @Param({"8", "20"})
+    private int appointmentsPerDay;
+
+    private List<TimeSlot> openingHours;
+    private List<List<ScheduleInterval>> schedules;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        openingHours = new ArrayList<>();
+        for (int day = 0; day < 6; day++) {
+            LocalDate date = MONDAY.plusDays(day);
+            openingHours.add(new TimeSlot(date.atTime(8, 0), date.atTime(19, 0)));
+        }
+
+        // Agendamentos encadeados no expediente, com pequenos intervalos entre eles
+        schedules = new ArrayList<>();
+        long id = 0;
+        for (int professional = 0; professional < professionals; professional++) {
+            List<ScheduleInterval> intervals = new ArrayList<>();
+            for (TimeSlot window : openingHours) {
+                LocalDateTime start = window.start();
+                for (int i = 0; i < appointmentsPerDay && start.isBefore(window.end()); i++) {
+                    LocalDateTime end = start.plusMinutes(15 + random.nextInt(6) * 15L);
+                    intervals.add(new ScheduleInterval(id++, (long) professional, start, end));
+                    start = end.plusMinutes(random.nextInt(4) * 15L);
+                }
+            }
+            schedules.add(intervals);
+        }
+    }
+
+    @Benchmark
+    public void weekForWholeStaff(Blackhole blackhole) {
+        for (List<ScheduleInterval> schedule : schedules) {
+            blackhole.consume(SlotFinder.freeSlots(openingHours, MONDAY.atStartOfDay(), Duration.ofMinutes(60), STEP, schedule));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SlotFinderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
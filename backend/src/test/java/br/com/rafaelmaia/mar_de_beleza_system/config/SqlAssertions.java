@@ -0,0 +1,26 @@
+package br.com.rafaelmaia.mar_de_beleza_system.config;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Orçamento de SQL nos testes de controller (MockMvc), lido dos atributos que o SqlBudgetFilter deixa na requisição:
+//   mockMvc.perform(get(...)).andExpect(assertMaxStatements(3));
+// Pega regressões de N+1 antes de chegarem à produção.
+public final class SqlAssertions {
+
+    private SqlAssertions() {
+    }
+
+    public static ResultMatcher assertMaxStatements(int maxStatements) {
+        return result -> {
+            Object statements = result.getRequest().getAttribute(SqlBudgetFilter.STATEMENTS_ATTRIBUTE);
+            assertThat(statements)
+                    .as("SqlBudgetFilter não registrou a requisição (app.sql.monitor.enabled=false?)")
+                    .isNotNull();
+            assertThat((Integer) statements)
+                    .as("Comandos SQL em %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(maxStatements);
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.rafaelmaia.mar_de_beleza_system.config;
+
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SpringBootTest
+@ActiveProfiles({"dev", "virtual-threads"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "jwt.secret=c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA=="
+})
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Test
+    void givenConcurrentBookingsAndListingsOnVirtualThreads_whenRecordingPinnedEvents_thenShouldFindNone() throws Exception {
+        // Aquecimento fora da gravação: carga de classes e inicialização estática também prendem a thread
+        runWorkload(0, 20);
+
+        List<RecordedEvent> pinned = recordPinnedEvents(Duration.ofMillis(1), () -> runWorkload(1, 200));
+
+        assertThat(pinned)
+                .as("Threads virtuais presas durante agendamento/listagem:%n%s", describe(pinned))
+                .isEmpty();
+    }
+
+    @Test
+    void givenSynchronizedBlockingCall_whenRecordingPinnedEvents_thenShouldDetectPinning() throws Exception {
+        // Controle da própria verificação. A partir do JDK 24 (JEP 491) synchronized não prende mais a thread
+        assumeTrue(Runtime.version().feature() < 24);
+        Object monitor = new Object();
+
+        List<RecordedEvent> pinned = recordPinnedEvents(Duration.ofMillis(1), () -> {
+            Thread thread = Thread.ofVirtual().start(() -> {
+                synchronized (monitor) {
+                    sleep(20);
+                }
+            });
+            thread.join();
+        });
+
+        assertThat(pinned).isNotEmpty();
+    }
+
+    // Cada rodada usa um ano diferente, bem à frente da agenda do data.sql, com um horário por dia
+    private void runWorkload(int round, int bookings) throws Exception {
+        LocalDate firstDay = LocalDate.now().plusYears(2).plusMonths(round * 12L);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < bookings; i++) {
+                LocalDate day = firstDay.plusDays(i);
+                futures.add(executor.submit(() -> appointmentService.create(
+                        new AppointmentRequestDTO(1L, day.atTime(10, 0), 1L, 2L, new BigDecimal("50.00"), "Carga", null))));
+                futures.add(executor.submit(() -> appointmentService.findAllAppointmentSummaries(
+                        day, day.plusDays(7), 2L, null, null, PageRequest.of(0, 20))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private static List<RecordedEvent> recordPinnedEvents(Duration threshold, Workload workload) throws Exception {
+        Path file = Files.createTempFile("pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.start();
+            workload.run();
+            recording.stop();
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String describe(List<RecordedEvent> events) {
+        StringBuilder description = new StringBuilder();
+        for (RecordedEvent event : events) {
+            description.append(event.getDuration().toMillis()).append(" ms\n");
+            if (event.getStackTrace() != null) {
+                event.getStackTrace().getFrames().stream().limit(12).forEach(frame -> description
+                        .append("\tat ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName()).append('\n'));
+            }
+        }
+        return description.toString();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        void run() throws Exception;
+    }
+}
@@ -22,6 +22,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import static br.com.rafaelmaia.mar_de_beleza_system.config.SqlAssertions.assertMaxStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -80,7 +81,22 @@ class AppointmentControllerTest {
                 .andExpect(jsonPath("$.content[0].id", is(1)))
                 .andExpect(jsonPath("$.content[0].client.name", is("Fernanda Lima")))
                 .andExpect(jsonPath("$.totalPages", is(1)))
-                .andExpect(jsonPath("$.totalElements", is(1)));
+                .andExpect(jsonPath("$.totalElements", is(1)))
+                // Página (sem COUNT, pois cabe inteira) + especialidades dos profissionais em uma consulta
+                .andExpect(assertMaxStatements(3));
+    }
+
+    @Test
+    @WithMockUser
+    void shouldRejectUnknownViewAndReturnStatus400() throws Exception {
+        // Erro de digitação não pode cair silenciosamente na resposta completa
+        mockMvc.perform(get("/api/v1/appointments").param("date", "2025-06-15").param("view", "sumary"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/payments").param("view", "sumary"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/appointments").param("date", "2025-06-15").param("view", "SUMMARY"))
+                .andExpect(status().isOk());
     }
 
     @Test
@@ -139,6 +155,7 @@ class AppointmentControllerTest {
 
         String baseAppointmentJson = mockMvc.perform(get("/api/v1/appointments/" + baseAppointmentId))
                 .andExpect(status().isOk())
+                .andExpect(assertMaxStatements(3))
                 .andReturn().getResponse().getContentAsString();
         AppointmentResponseDTO baseAppointment = objectMapper.readValue(baseAppointmentJson, AppointmentResponseDTO.class);
         LocalDateTime conflictTime = baseAppointment.appointmentDate();
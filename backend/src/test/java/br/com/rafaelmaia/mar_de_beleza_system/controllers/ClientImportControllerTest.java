@@ -0,0 +1,80 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers;
+
+import br.com.rafaelmaia.mar_de_beleza_system.repository.ClientRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "jwt.secret=c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA=="
+})
+class ClientImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void givenCsvWithDuplicatesAndInvalidLines_whenImporting_thenShouldImportValidLinesAndReportTheRest() throws Exception {
+        // Planilha exportada do Excel: BOM, ';' como separador, telefones formatados e datas em dd/MM/yyyy
+        String csv = "\uFEFFname;phone;phoneIsWhatsapp;birthDate;gender\r\n"
+                + "Juliana Alves;(85) 98111-0001;sim;10/04/1990;FEMALE\r\n"
+                + "\"Paula \"\"Pai\"\" Souza\";+55 85 98111-0002;não;1985-12-01;\r\n"
+                + "Juliana A.;85981110001;;;\r\n"
+                + "Cliente Antiga;85 99988-7766;sim;;\r\n"
+                + "Sem Telefone;123;sim;;\r\n"
+                + ";85981110003;sim;;\r\n";
+
+        long before = clientRepository.count();
+
+        mockMvc.perform(post("/api/v1/clients/import")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lines").value(6))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(4))
+                .andExpect(jsonPath("$.rejections[*].line").value(containsInAnyOrder(4, 5, 6, 7)));
+
+        assertThat(clientRepository.count()).isEqualTo(before + 2);
+        assertThat(clientRepository.findExistingPhones(List.of("85981110001", "85981110002"))).hasSize(2);
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void givenCsvWithoutPhoneColumn_whenImporting_thenShouldReturnConflict() throws Exception {
+        mockMvc.perform(post("/api/v1/clients/import")
+                        .contentType("text/csv")
+                        .content("name,birthDate\r\nFulana,1990-01-01\r\n"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser
+    void givenNonAdminUser_whenImporting_thenShouldReturnForbidden() throws Exception {
+        mockMvc.perform(post("/api/v1/clients/import")
+                        .contentType("text/csv")
+                        .content("name,phone\r\nFulana,85981110009\r\n"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Gender;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ClientRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ContactRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.SalonServiceRequestDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "jwt.secret=c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA=="
+})
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void givenUnchangedCatalog_whenSendingIfNoneMatch_thenShouldReturn304WithoutBodyUntilAServiceChanges() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/v1/salonServices"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank().startsWith("\"");
+
+        // Mesma versão do catálogo: 304 sem corpo
+        MvcResult notModified = mockMvc.perform(get("/api/v1/salonServices").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn();
+        assertThat(notModified.getResponse().getContentAsByteArray()).isEmpty();
+
+        // Alterar um serviço incrementa a versão e invalida o ETag da lista e do item
+        MvcResult item = mockMvc.perform(get("/api/v1/salonServices/{id}", 5L))
+                .andExpect(status().isOk())
+                .andReturn();
+        String itemEtag = item.getResponse().getHeader(HttpHeaders.ETAG);
+        int version = JsonPath.read(item.getResponse().getContentAsString(), "$.version");
+
+        SalonServiceRequestDTO update = new SalonServiceRequestDTO(
+                "Hidratação Capilar Profunda e Nutrição", ServiceType.HAIR, 75, new BigDecimal("130.00"));
+        mockMvc.perform(put("/api/v1/salonServices/{id}", 5L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk())
+                // A resposta do PUT já traz a versão nova (flush antes de montar o DTO)
+                .andExpect(jsonPath("$.version").value(version + 1));
+
+        MvcResult changed = mockMvc.perform(get("/api/v1/salonServices").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+
+        mockMvc.perform(get("/api/v1/salonServices/{id}", 5L).header(HttpHeaders.IF_NONE_MATCH, itemEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Hidratação Capilar Profunda e Nutrição"))
+                .andExpect(jsonPath("$.version").value(version + 1));
+    }
+
+    @Test
+    @WithMockUser
+    void givenClientContactChange_whenSendingPreviousEtag_thenShouldReturnNewRepresentation() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/clients/{id}", 3L))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/clients/{id}", 3L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Só o telefone muda: a versão do contato entra no ETag do cliente
+        ClientRequestDTO update = new ClientRequestDTO(
+                "Heloísa Borges", new ContactRequestDTO("85977001122", false), LocalDate.of(1989, 12, 1), Gender.OTHER);
+        mockMvc.perform(put("/api/v1/clients/{id}", 3L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/clients/{id}", 3L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contact.phone").value("85977001122"));
+    }
+}
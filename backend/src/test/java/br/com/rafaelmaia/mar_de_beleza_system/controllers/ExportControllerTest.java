@@ -0,0 +1,119 @@
+package br.com.rafaelmaia.mar_de_beleza_system.controllers;
+
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.security.jwt.JwtService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "jwt.secret=c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA=="
+})
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private SystemUserRepository systemUserRepository;
+
+    @Test
+    @WithMockUser
+    void givenDateFilter_whenExportingAppointmentsAsCsv_thenShouldStreamHeaderAndOneLinePerAppointment() throws Exception {
+        // 23/07/2025 tem dois agendamentos no data.sql
+        MvcResult started = mockMvc.perform(get("/api/v1/appointments/export")
+                        .param("startDate", "2025-07-23")
+                        .param("endDate", "2025-07-23"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, containsString("text/csv")))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("agendamentos.csv")))
+                .andReturn();
+
+        List<String> lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo("\uFEFFid,appointmentDate,endDate,status,price,clientId,clientName,serviceId,serviceName,professionalId,professionalName");
+        assertThat(lines.get(1)).startsWith("1,2025-07-23T10:00,");
+        assertThat(lines.get(2)).startsWith("2,2025-07-23T14:30,");
+    }
+
+    @Test
+    void givenBearerToken_whenExportingAppointments_thenAsyncDispatchShouldStreamTheBody() throws Exception {
+        // Sem @WithMockUser: o dispatch ASYNC não passa de novo pelo JwtFilter nem tem contexto salvo
+        String token = jwtService.generateToken(systemUserRepository.findById(1L).orElseThrow());
+
+        MvcResult started = mockMvc.perform(get("/api/v1/appointments/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .param("startDate", "2025-07-23")
+                        .param("endDate", "2025-07-23"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines()).hasSize(3);
+    }
+
+    @Test
+    @WithMockUser
+    void givenNdjsonFormat_whenExportingAppointments_thenShouldWriteOneJsonObjectPerLine() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/appointments/export")
+                        .param("professionalId", "2")
+                        .param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, containsString("application/x-ndjson")))
+                .andReturn();
+
+        List<String> lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).isNotEmpty();
+        for (String line : lines) {
+            JsonNode row = objectMapper.readTree(line);
+            assertThat(row.get("professionalId").asLong()).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    @WithMockUser
+    void givenUnknownFormat_whenExporting_thenShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/appointments/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/payments/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.rafaelmaia.mar_de_beleza_system.dto;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Gender;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentMethod;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Role;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Compara o tamanho de uma página de 50 pagamentos nas views full e summary.
+// O tempo de serialização das duas views é medido no ResponseMappingBenchmark (JMH)
+class ResponseViewPayloadTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void givenFinancePage_whenSerializingSummaryView_thenPayloadShouldBeMuchSmallerThanFullView() throws Exception {
+        List<PaymentResponseDTO> full = new ArrayList<>();
+        List<PaymentSummaryDTO> summary = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            full.add(fullPayment(i));
+            summary.add(summaryPayment(i));
+        }
+
+        int fullBytes = objectMapper.writeValueAsBytes(full).length;
+        int summaryBytes = objectMapper.writeValueAsBytes(summary).length;
+
+        assertThat(summaryBytes).isLessThan(fullBytes / 2);
+    }
+
+    private PaymentResponseDTO fullPayment(int i) {
+        AppointmentResponseDTO appointment = new AppointmentResponseDTO(
+                (long) i,
+                new ClientResponseDTO(1L, "Fernanda Lima", new ContactResponseDTO(4L, "85988776655", true, 0L),
+                        LocalDate.of(1995, 8, 20), Gender.FEMALE, 0L),
+                new SalonServiceResponseDTO(3L, "Corte Feminino e Escova", ServiceType.HAIR, 90, new BigDecimal("150.00"), 0L),
+                new UserResponseDTO(2L, "Ana Silva", "ana.silva@salao.com", Role.STAFF,
+                        new ContactResponseDTO(1L, "85999887766", true, 0L), Set.of(ServiceType.HAIR, ServiceType.EYEBROW), 0L),
+                LocalDateTime.of(2025, 8, 10, 10, 0),
+                AppointmentStatus.DONE,
+                "Cliente prefere água sem gás",
+                new BigDecimal("150.00"),
+                0L);
+
+        return new PaymentResponseDTO((long) i, appointment, new BigDecimal("150.00"), PaymentMethod.PIX,
+                LocalDateTime.of(2025, 8, 10, 11, 30), PaymentStatus.PAID, null);
+    }
+
+    private PaymentSummaryDTO summaryPayment(int i) {
+        return new PaymentSummaryDTO((long) i, new BigDecimal("150.00"), PaymentMethod.PIX,
+                LocalDateTime.of(2025, 8, 10, 11, 30), PaymentStatus.PAID, (long) i,
+                LocalDateTime.of(2025, 8, 10, 10, 0), 1L, "Fernanda Lima", "Corte Feminino e Escova", 2L, "Ana Silva");
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.rafaelmaia.mar_de_beleza_system.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Carga HTTP fechada contra uma instância já rodando: N clientes simultâneos repetem as requisições sem pausa
+// durante o tempo pedido. Serve para comparar a mesma máquina com e sem o perfil virtual-threads:
+//
+//   mvn spring-boot:run                      (ou: mvn spring-boot:run -Pvirtual-threads)
+//   mvn test-compile exec:java -Dexec.mainClass=br.com.rafaelmaia.mar_de_beleza_system.loadtest.HttpLoadTest \
+//       -Dexec.classpathScope=test -Dload.email=... -Dload.password=... -Dload.concurrency=400
+//
+// Com concorrência acima das 200 threads do Tomcat, o modo com threads de plataforma enfileira as conexões e
+// a latência de cauda (p99) sobe; com threads virtuais a fila passa a ser só a do pool de conexões.
+public class HttpLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("load.base-url", "http://localhost:8080");
+        int concurrency = Integer.getInteger("load.concurrency", 400);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+        List<String> paths = Arrays.asList(System.getProperty("load.paths",
+                "/api/v1/appointments?startDate=2025-07-01&endDate=2025-07-31&view=summary,"
+                        + "/api/v1/availability?serviceId=1&days=7,"
+                        + "/api/v1/clients?page=0&size=20").split(","));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String token = login(client, baseUrl, System.getProperty("load.email"), System.getProperty("load.password"));
+
+        System.out.printf("Aquecendo por %d s...%n", warmup.toSeconds());
+        run(client, baseUrl, token, paths, concurrency, warmup);
+
+        System.out.printf("Medindo %d clientes simultâneos por %d s...%n", concurrency, duration.toSeconds());
+        print(run(client, baseUrl, token, paths, concurrency, duration), duration);
+    }
+
+    private static String login(HttpClient client, String baseUrl, String email, String password) throws IOException, InterruptedException {
+        if (email == null || password == null) {
+            throw new IllegalArgumentException("Informe -Dload.email e -Dload.password de um usuário cadastrado.");
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("email", email, "password", password))))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login falhou com status " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private static LatencyStats run(HttpClient client, String baseUrl, String token, List<String> paths,
+                                  int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<LatencyStats>> workers = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                int offset = worker;
+                workers.add(executor.submit(() -> {
+                    LatencyStats partial = new LatencyStats();
+                    for (int i = offset; System.nanoTime() < deadline; i++) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + paths.get(i % paths.size())))
+                                .header("Authorization", "Bearer " + token)
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            partial.record(System.nanoTime() - start, status < 400);
+                        } catch (IOException e) {
+                            partial.record(System.nanoTime() - start, false);
+                        }
+                    }
+                    return partial;
+                }));
+            }
+
+            LatencyStats total = new LatencyStats();
+            for (Future<LatencyStats> worker : workers) {
+                total.merge(worker.get());
+            }
+            return total;
+        }
+    }
+
+    private static void print(LatencyStats stats, Duration duration) {
+        double[] latency = stats.percentiles(0.50, 0.95, 0.99, 1.0);
+        System.out.printf("requisições: %d (erros: %d)%n", stats.count(), stats.errors());
+        System.out.printf("vazão: %.1f req/s%n", stats.count() / (double) duration.toSeconds());
+        System.out.printf("latência p50: %.1f ms | p95: %.1f ms | p99: %.1f ms | máx: %.1f ms%n",
+                latency[0], latency[1], latency[2], latency[3]);
+    }
+}
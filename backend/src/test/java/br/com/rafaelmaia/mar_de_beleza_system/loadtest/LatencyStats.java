@@ -0,0 +1,63 @@
+package br.com.rafaelmaia.mar_de_beleza_system.loadtest;
+
+import java.util.Arrays;
+
+// Latências de um tipo de requisição. Cada usuário virtual tem a sua instância (sem sincronização);
+// no fim as parciais são somadas com merge.
+class LatencyStats {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+    private int rejected;
+
+    void record(long nanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    // Resposta esperada de regra de negócio (ex: 409 por horário ocupado): entra na latência, mas não é erro
+    void recordRejected(long nanos) {
+        record(nanos, true);
+        rejected++;
+    }
+
+    void merge(LatencyStats other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.latencies[i], true);
+        }
+        errors += other.errors;
+        rejected += other.rejected;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    int rejected() {
+        return rejected;
+    }
+
+    // Percentis em milissegundos (1.0 = máximo)
+    double[] percentiles(double... percentiles) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double[] values = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (sorted.length > 0) {
+                int index = (int) Math.ceil(percentiles[i] * sorted.length) - 1;
+                values[i] = sorted[Math.max(index, 0)] / 1_000_000.0;
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,223 @@
+package br.com.rafaelmaia.mar_de_beleza_system.loadtest;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Gender;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentMethod;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Massa de dados do teste de carga, bem maior que o data.sql: milhares de clientes, dezenas de profissionais
+// e anos de agenda com pagamentos. Gravada direto por JDBC em lotes (o ORM levaria minutos) e sempre igual
+// para a mesma semente e a mesma data de referência.
+class LoadTestDataGenerator {
+
+    static final String PASSWORD = "carga123";
+    static final String ADMIN_EMAIL = "admin@carga.salao.com";
+
+    private static final int BATCH_ROWS = 5000;
+    private static final LocalTime OPENING = LocalTime.of(8, 0);
+    private static final LocalTime CLOSING = LocalTime.of(19, 0);
+    private static final ServiceType[] SPECIALTIES = ServiceType.values();
+    private static final PaymentMethod[] METHODS = PaymentMethod.values();
+
+    private final JdbcTemplate jdbc;
+    private final PasswordEncoder passwordEncoder;
+    private final Random random;
+    private final LocalDate today;
+
+    LoadTestDataGenerator(JdbcTemplate jdbc, PasswordEncoder passwordEncoder, long seed, LocalDate today) {
+        this.jdbc = jdbc;
+        this.passwordEncoder = passwordEncoder;
+        this.random = new Random(seed);
+        this.today = today;
+    }
+
+    // professionalsByService: quem pode atender cada serviço (especialidade), para as marcações não caírem na regra
+    record Dataset(List<String> staffEmails, List<Long> clientIds, Map<Long, List<Long>> professionalsByService,
+                   long appointments, long payments) {}
+
+    record ServiceRow(long id, ServiceType serviceType, int durationInMinutes, BigDecimal price) {}
+
+    Dataset generate(int clients, int professionals, int years, int futureDays) {
+        List<ServiceRow> services = jdbc.query("SELECT id, service_type, duration_in_minutes, price FROM tb_salon_service ORDER BY id",
+                (rs, i) -> new ServiceRow(rs.getLong(1),
+                        rs.getString(2) != null ? ServiceType.valueOf(rs.getString(2)) : ServiceType.OTHER, rs.getInt(3), rs.getBigDecimal(4)));
+
+        long contactId = nextId("tb_contact");
+        List<Long> clientIds = insertClients(clients, contactId);
+        contactId += clients;
+
+        List<String> staffEmails = new ArrayList<>();
+        Map<Long, List<ServiceRow>> servicesByProfessional = insertUsers(professionals, contactId, services, staffEmails);
+
+        long[] totals = insertSchedule(clientIds, servicesByProfessional, today.minusYears(years), today.plusDays(futureDays));
+
+        resetSequences();
+
+        Map<Long, List<Long>> professionalsByService = new LinkedHashMap<>();
+        servicesByProfessional.forEach((professionalId, qualified) -> qualified.forEach(service ->
+                professionalsByService.computeIfAbsent(service.id(), id -> new ArrayList<>()).add(professionalId)));
+        return new Dataset(staffEmails, clientIds, professionalsByService, totals[0], totals[1]);
+    }
+
+    private List<Long> insertClients(int clients, long firstContactId) {
+        long firstClientId = nextId("tb_client");
+        List<Object[]> contacts = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        Gender[] genders = Gender.values();
+
+        for (int i = 0; i < clients; i++) {
+            long contactId = firstContactId + i;
+            long clientId = firstClientId + i;
+            contacts.add(new Object[]{contactId, String.format("8597%07d", i), random.nextInt(10) < 9});
+            rows.add(new Object[]{clientId, "Cliente Carga " + i,
+                    Date.valueOf(LocalDate.of(1960, 1, 1).plusDays(random.nextInt(365 * 45))),
+                    genders[random.nextInt(genders.length)].name(), contactId});
+            ids.add(clientId);
+        }
+        batch("INSERT INTO tb_contact (id, phone, phone_is_whatsapp, version) VALUES (?, ?, ?, 0)", contacts);
+        batch("INSERT INTO tb_client (id, name, birth_date, gender, contact_id, version) VALUES (?, ?, ?, ?, ?, 0)", rows);
+        return ids;
+    }
+
+    // Um admin e N profissionais agendáveis, todos com a mesma senha (o hash BCrypt é caro e é calculado uma vez)
+    private Map<Long, List<ServiceRow>> insertUsers(int professionals, long firstContactId, List<ServiceRow> services,
+                                                   List<String> staffEmails) {
+        String hash = passwordEncoder.encode(PASSWORD);
+        long firstUserId = nextId("tb_users");
+        List<Object[]> contacts = new ArrayList<>();
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> specialties = new ArrayList<>();
+        Map<Long, List<ServiceRow>> servicesByProfessional = new LinkedHashMap<>();
+
+        users.add(new Object[]{firstUserId, "Admin Carga", ADMIN_EMAIL, hash, "ADMIN", null, false});
+        for (int i = 0; i < professionals; i++) {
+            long userId = firstUserId + 1 + i;
+            long contactId = firstContactId + i;
+            String email = "profissional" + i + "@carga.salao.com";
+            contacts.add(new Object[]{contactId, String.format("8596%07d", i), true});
+            users.add(new Object[]{userId, "Profissional Carga " + i, email, hash, "STAFF", contactId, true});
+            List<ServiceType> owned = new ArrayList<>();
+            for (int s = 0; s < 3; s++) {
+                owned.add(SPECIALTIES[(i + s) % SPECIALTIES.length]);
+                specialties.add(new Object[]{userId, owned.get(s).name()});
+            }
+            staffEmails.add(email);
+            servicesByProfessional.put(userId, services.stream().filter(service -> owned.contains(service.serviceType())).toList());
+        }
+        batch("INSERT INTO tb_contact (id, phone, phone_is_whatsapp, version) VALUES (?, ?, ?, 0)", contacts);
+        batch("INSERT INTO tb_users (id, name, email, password, role, contact_id, can_be_scheduled, token_version, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0)", users);
+        batch("INSERT INTO tb_user_specialties (user_id, specialty) VALUES (?, ?)", specialties);
+        return servicesByProfessional;
+    }
+
+    // Agenda encadeada no expediente de segunda a sábado, com intervalos e horários vagos;
+    // passado realizado (com pagamento), cancelado ou falta, e futuro agendado ou confirmado
+    private long[] insertSchedule(List<Long> clientIds, Map<Long, List<ServiceRow>> servicesByProfessional,
+                                  LocalDate from, LocalDate to) {
+        long appointmentId = nextId("tb_appointment");
+        long paymentId = nextId("tb_payment");
+        List<Object[]> appointments = new ArrayList<>(BATCH_ROWS);
+        List<Object[]> payments = new ArrayList<>(BATCH_ROWS);
+        long appointmentCount = 0;
+        long paymentCount = 0;
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            for (Map.Entry<Long, List<ServiceRow>> entry : servicesByProfessional.entrySet()) {
+                Long professionalId = entry.getKey();
+                List<ServiceRow> services = entry.getValue();
+                if (services.isEmpty()) {
+                    continue;
+                }
+                LocalDateTime start = day.atTime(OPENING).plusMinutes(random.nextInt(4) * 15L);
+                while (true) {
+                    ServiceRow service = services.get(random.nextInt(services.size()));
+                    LocalDateTime end = start.plusMinutes(service.durationInMinutes());
+                    if (end.toLocalTime().isAfter(CLOSING) || end.toLocalDate().isAfter(day)) {
+                        break;
+                    }
+                    if (random.nextInt(4) > 0) {
+                        AppointmentStatus status = statusOf(day.isBefore(today));
+                        appointments.add(new Object[]{appointmentId, clientIds.get(random.nextInt(clientIds.size())), professionalId,
+                                service.id(), service.price(), Timestamp.valueOf(start), Timestamp.valueOf(end), status.name(),
+                                Timestamp.valueOf(start.minusDays(1 + random.nextInt(30)))});
+                        if (status == AppointmentStatus.DONE) {
+                            PaymentStatus paymentStatus = random.nextInt(100) < 97 ? PaymentStatus.PAID : PaymentStatus.CANCELED;
+                            payments.add(new Object[]{paymentId++, appointmentId, service.price(),
+                                    METHODS[random.nextInt(METHODS.length)].name(), Timestamp.valueOf(end), paymentStatus.name()});
+                        }
+                        appointmentId++;
+                    }
+                    start = end.plusMinutes(random.nextInt(3) * 15L);
+                }
+            }
+
+            if (appointments.size() >= BATCH_ROWS) {
+                appointmentCount += flushSchedule(appointments, payments);
+                paymentCount += payments.size();
+                appointments.clear();
+                payments.clear();
+            }
+        }
+        appointmentCount += flushSchedule(appointments, payments);
+        paymentCount += payments.size();
+        return new long[]{appointmentCount, paymentCount};
+    }
+
+    private int flushSchedule(List<Object[]> appointments, List<Object[]> payments) {
+        batch("INSERT INTO tb_appointment (id, client_id, professional_id, service_id, price, appointment_date, end_date, status, " +
+                "created_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", appointments);
+        batch("INSERT INTO tb_payment (id, appointment_id, total_amount, payment_method, payment_date, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", payments);
+        return appointments.size();
+    }
+
+    private AppointmentStatus statusOf(boolean past) {
+        int roll = random.nextInt(100);
+        if (past) {
+            return roll < 85 ? AppointmentStatus.DONE : roll < 93 ? AppointmentStatus.CANCELED : AppointmentStatus.NO_SHOW;
+        }
+        return roll < 70 ? AppointmentStatus.SCHEDULED : AppointmentStatus.CONFIRMED;
+    }
+
+    private long nextId(String table) {
+        Long max = jdbc.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate(sql, rows);
+        }
+    }
+
+    // IDs gravados explicitamente: sequences (blocos de 50) e colunas IDENTITY continuam depois deles
+    private void resetSequences() {
+        for (String sequence : List.of("tb_contact", "tb_client", "tb_appointment")) {
+            jdbc.execute("SELECT setval('" + sequence + "_seq', (SELECT MAX(id) FROM " + sequence + "))");
+        }
+        for (String table : List.of("tb_users", "tb_payment")) {
+            jdbc.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), (SELECT MAX(id) FROM " + table + "))");
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package br.com.rafaelmaia.mar_de_beleza_system.loadtest;
+
+import br.com.rafaelmaia.mar_de_beleza_system.MarDeBelezaSystemApplication;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.AppointmentScheduleIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Pico de sábado de manhã reproduzido localmente e sem rede externa: sobe a aplicação no próprio processo
+// (perfil dev, banco recriado), grava a massa do LoadTestDataGenerator e solta N usuários virtuais com a mistura
+// de recepção/financeiro: marcações nos próximos sábados, agenda do dia, filtros financeiros e logins.
+// Sementes e data de referência fixas (-Dload.today): o mesmo comando gera os mesmos dados e a mesma sequência
+// de requisições por usuário, em qualquer dia. A data fica no futuro porque as marcações não aceitam datas passadas.
+//
+//   createdb mar_de_beleza_loadtest
+//   mvn test-compile exec:java -Dexec.mainClass=br.com.rafaelmaia.mar_de_beleza_system.loadtest.SaturdayPeakLoadTest \
+//       -Dexec.classpathScope=test [-Dload.users=200 -Dload.requests-per-user=50 -Dload.today=2030-01-07]
+//
+// Usa um banco PostgreSQL separado (-Dload.db-url), recriado a cada execução, nunca o de desenvolvimento:
+// as consultas do projeto dependem de recursos do PostgreSQL.
+// O relatório traz, por endpoint: requisições, erros, 409 esperados, vazão, p50/p95/p99 e média de SQLs por requisição
+// (da métrica app.sql.statements do SqlBudgetFilter).
+public class SaturdayPeakLoadTest {
+
+    private static final String DB_URL = System.getProperty("load.db-url", "jdbc:postgresql://localhost:5432/mar_de_beleza_loadtest");
+    private static final String SECRET = "c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA==";
+
+    private static final String BOOK = "POST /api/v1/appointments";
+    private static final String LIST_BY_DATE = "GET /api/v1/appointments";
+    private static final String PAYMENTS = "GET /api/v1/payments";
+    private static final String REPORT = "GET /api/v1/payments/report";
+    private static final String LOGIN = "POST /api/v1/auth/login";
+
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final int USERS = Integer.getInteger("load.users", 200);
+    private static final int REQUESTS_PER_USER = Integer.getInteger("load.requests-per-user", 50);
+    private static final int WARMUP_REQUESTS_PER_USER = Integer.getInteger("load.warmup-requests-per-user", 10);
+    private static final LocalDate TODAY = LocalDate.parse(System.getProperty("load.today", "2030-01-07"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final String baseUrl;
+    private final LoadTestDataGenerator.Dataset dataset;
+    private final List<LocalDate> saturdays = new ArrayList<>();
+
+    private SaturdayPeakLoadTest(String baseUrl, LoadTestDataGenerator.Dataset dataset) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        LocalDate saturday = TODAY.with(TemporalAdjusters.next(DayOfWeek.SATURDAY));
+        for (int i = 0; i < 6; i++) {
+            saturdays.add(saturday.plusWeeks(i));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MarDeBelezaSystemApplication.class)
+                .run("--server.port=0",
+                        "--spring.profiles.active=dev",
+                        "--spring.datasource.url=" + DB_URL + "?reWriteBatchedInserts=true",
+                        "--spring.jpa.show-sql=false",
+                        "--app.sql.monitor.enabled=true",
+                        "--app.sql.monitor.slow-query-ms=1000",
+                        "--spring.flyway.enabled=false",
+                        "--app.series.advance-on-startup=false",
+                        "--jwt.secret=" + SECRET,
+                        "--logging.level.root=WARN")) {
+
+            long start = System.nanoTime();
+            LoadTestDataGenerator.Dataset dataset = new LoadTestDataGenerator(
+                    context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class), SEED, TODAY)
+                    .generate(Integer.getInteger("load.clients", 5000), Integer.getInteger("load.professionals", 40),
+                            Integer.getInteger("load.years", 3), 60);
+            // A massa entrou por fora do ORM: agregados, índice de agenda e caches são refeitos do zero
+            context.getBean(RollupService.class).rebuildAll();
+            context.getBean(AppointmentScheduleIndex.class).invalidateAll();
+            CacheManager cacheManager = context.getBean(CacheManager.class);
+            cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+            System.out.printf("Massa: %d clientes, %d profissionais, %d agendamentos, %d pagamentos (%.1f s)%n",
+                    dataset.clientIds().size(), dataset.staffEmails().size(), dataset.appointments(), dataset.payments(),
+                    (System.nanoTime() - start) / 1e9);
+
+            SaturdayPeakLoadTest loadTest = new SaturdayPeakLoadTest(
+                    "http://localhost:" + context.getEnvironment().getProperty("local.server.port"), dataset);
+
+            System.out.printf("Aquecendo (%d requisições por usuário)...%n", WARMUP_REQUESTS_PER_USER);
+            loadTest.run(SEED - 1, WARMUP_REQUESTS_PER_USER);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            Map<String, double[]> sqlBefore = sqlByEndpoint(meterRegistry);
+
+            System.out.printf("Medindo %d usuários x %d requisições...%n", USERS, REQUESTS_PER_USER);
+            start = System.nanoTime();
+            Map<String, LatencyStats> results = loadTest.run(SEED, REQUESTS_PER_USER);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            print(results, sqlBefore, sqlByEndpoint(meterRegistry), elapsed);
+        }
+    }
+
+    private Map<String, LatencyStats> run(long seed, int requestsPerUser) throws Exception {
+        List<Future<Map<String, LatencyStats>>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < USERS; user++) {
+                Random random = new Random(seed * 31 + user);
+                String email = dataset.staffEmails().get(user % dataset.staffEmails().size());
+                workers.add(executor.submit(() -> simulateUser(random, email, requestsPerUser)));
+            }
+
+            Map<String, LatencyStats> total = new TreeMap<>();
+            for (Future<Map<String, LatencyStats>> worker : workers) {
+                worker.get().forEach((endpoint, stats) -> total.computeIfAbsent(endpoint, key -> new LatencyStats()).merge(stats));
+            }
+            return total;
+        }
+    }
+
+    // Recepcionista: entra no sistema e alterna entre marcar, olhar a agenda, conferir o caixa e relogar
+    private Map<String, LatencyStats> simulateUser(Random random, String email, int requests) throws InterruptedException {
+        Map<String, LatencyStats> stats = new HashMap<>();
+        String token = login(email, stats);
+        for (int i = 0; i < requests && token != null; i++) {
+            int roll = random.nextInt(100);
+            if (roll < 30) {
+                book(random, token, stats);
+            } else if (roll < 65) {
+                get(LIST_BY_DATE, listByDatePath(random), token, stats);
+            } else if (roll < 85) {
+                if (random.nextBoolean()) {
+                    get(PAYMENTS, paymentsPath(random), token, stats);
+                } else {
+                    get(REPORT, reportPath(random), token, stats);
+                }
+            } else {
+                token = login(email, stats);
+            }
+        }
+        return stats;
+    }
+
+    private void book(Random random, String token, Map<String, LatencyStats> stats) throws InterruptedException {
+        List<Long> serviceIds = new ArrayList<>(dataset.professionalsByService().keySet());
+        Long serviceId = serviceIds.get(random.nextInt(serviceIds.size()));
+        List<Long> professionals = dataset.professionalsByService().get(serviceId);
+        LocalTime time = LocalTime.of(8, 0).plusMinutes(random.nextInt(40) * 15L);
+        Map<String, Object> body = Map.of(
+                "clientId", dataset.clientIds().get(random.nextInt(dataset.clientIds().size())),
+                "appointmentDate", saturdays.get(random.nextInt(saturdays.size())).atTime(time).toString(),
+                "salonServiceId", serviceId,
+                "professionalId", professionals.get(random.nextInt(professionals.size())));
+        try {
+            send(BOOK, HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/appointments"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body))), stats);
+        } catch (IOException e) {
+            stats.computeIfAbsent(BOOK, key -> new LatencyStats()).record(0, false);
+        }
+    }
+
+    // Agenda de um sábado que está sendo marcado ou de um dia qualquer do último ano, às vezes por profissional
+    private String listByDatePath(Random random) {
+        LocalDate date = random.nextBoolean()
+                ? saturdays.get(random.nextInt(saturdays.size()))
+                : TODAY.minusDays(random.nextInt(365));
+        String path = "/api/v1/appointments?date=" + date + "&view=summary";
+        if (random.nextInt(3) == 0) {
+            path += "&professionalId=" + randomProfessional(random);
+        }
+        return path;
+    }
+
+    private String paymentsPath(Random random) {
+        LocalDate start = TODAY.minusMonths(1 + random.nextInt(12)).withDayOfMonth(1);
+        String path = "/api/v1/payments?startDate=" + start + "&endDate=" + start.plusMonths(1).minusDays(1) + "&status=PAID";
+        if (random.nextBoolean()) {
+            path += "&professionalId=" + randomProfessional(random);
+        }
+        return path;
+    }
+
+    private String reportPath(Random random) {
+        LocalDate start = TODAY.minusMonths(1 + random.nextInt(12)).withDayOfMonth(1);
+        return "/api/v1/payments/report?startDate=" + start + "&endDate=" + start.plusMonths(random.nextBoolean() ? 1 : 6)
+                + "&groupBy=" + (random.nextBoolean() ? "WEEK" : "MONTH");
+    }
+
+    private Long randomProfessional(Random random) {
+        List<List<Long>> byService = new ArrayList<>(dataset.professionalsByService().values());
+        List<Long> professionals = byService.get(random.nextInt(byService.size()));
+        return professionals.get(random.nextInt(professionals.size()));
+    }
+
+    private void get(String endpoint, String path, String token, Map<String, LatencyStats> stats) throws InterruptedException {
+        try {
+            send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Authorization", "Bearer " + token).GET(), stats);
+        } catch (IOException e) {
+            stats.computeIfAbsent(endpoint, key -> new LatencyStats()).record(0, false);
+        }
+    }
+
+    private String login(String email, Map<String, LatencyStats> stats) throws InterruptedException {
+        LatencyStats loginStats = stats.computeIfAbsent(LOGIN, key -> new LatencyStats());
+        long start = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                            Map.of("email", email, "password", LoadTestDataGenerator.PASSWORD))))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            loginStats.record(System.nanoTime() - start, response.statusCode() == 200);
+            return response.statusCode() == 200 ? objectMapper.readTree(response.body()).get("token").asText() : null;
+        } catch (IOException e) {
+            loginStats.record(System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    // 409 em marcação é o esperado num pico (horário já tomado por outra recepcionista): conta à parte, não como erro
+    private void send(String endpoint, HttpRequest.Builder request, Map<String, LatencyStats> stats)
+            throws IOException, InterruptedException {
+        LatencyStats endpointStats = stats.computeIfAbsent(endpoint, key -> new LatencyStats());
+        long start = System.nanoTime();
+        int status = client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        long elapsed = System.nanoTime() - start;
+        if (status == 409 && endpoint.equals(BOOK)) {
+            endpointStats.recordRejected(elapsed);
+        } else {
+            endpointStats.record(elapsed, status < 400);
+        }
+    }
+
+    // Endpoint (método + padrão da URI) -> {requisições, comandos SQL} acumulados no SqlBudgetFilter
+    private static Map<String, double[]> sqlByEndpoint(MeterRegistry meterRegistry) {
+        Map<String, double[]> totals = new HashMap<>();
+        meterRegistry.find("app.sql.statements").summaries().forEach(summary -> totals.put(
+                summary.getId().getTag("method") + " " + summary.getId().getTag("uri"),
+                new double[]{summary.count(), summary.totalAmount()}));
+        return totals;
+    }
+
+    private static void print(Map<String, LatencyStats> results, Map<String, double[]> sqlBefore,
+                              Map<String, double[]> sqlAfter, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        System.out.printf("%n%-28s %8s %6s %6s %9s %8s %8s %8s %8s%n",
+                "endpoint", "req", "erros", "409", "req/s", "p50 ms", "p95 ms", "p99 ms", "SQL/req");
+        results.forEach((endpoint, stats) -> {
+            double[] latency = stats.percentiles(0.50, 0.95, 0.99);
+            double[] before = sqlBefore.getOrDefault(endpoint, new double[]{0, 0});
+            double[] after = sqlAfter.getOrDefault(endpoint, new double[]{0, 0});
+            double requests = after[0] - before[0];
+            System.out.printf("%-28s %8d %6d %6d %9.1f %8.1f %8.1f %8.1f %8.1f%n",
+                    endpoint, stats.count(), stats.errors(), stats.rejected(), stats.count() / seconds,
+                    latency[0], latency[1], latency[2], requests == 0 ? 0 : (after[1] - before[1]) / requests);
+        });
+        System.out.printf("Tempo total: %.1f s%n", seconds);
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.rafaelmaia.mar_de_beleza_system.security;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Role;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.ContactRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.UserRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.UserResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.security.jwt.JwtService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "jwt.secret=c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA==",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class JwtPrincipalTest {
+
+    // Ana Silva (STAFF) no data.sql
+    private static final Long STAFF_ID = 2L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private SystemUserRepository systemUserRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void givenStaffToken_whenAccessingUsers_thenPrincipalFromClaimsShouldKeepOwnershipRulesWithoutLoadingTheUser() throws Exception {
+        String token = tokenFor(STAFF_ID);
+
+        // Primeira requisição aquece o cache de versão dos tokens
+        mockMvc.perform(get("/api/v1/users/{id}", STAFF_ID).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(STAFF_ID));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // "#id == authentication.principal.id": outro usuário é negado antes de chegar ao serviço
+        mockMvc.perform(get("/api/v1/users/{id}", 3L).header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+
+        // Nenhuma consulta ao banco para autenticar (findByEmail + especialidades não são mais executados)
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void givenRoleChange_whenUsingTokenIssuedBefore_thenTokenShouldBeRevoked() throws Exception {
+        Long userId = 4L;
+        String oldToken = tokenFor(userId);
+
+        mockMvc.perform(get("/api/v1/users/{id}", userId).header("Authorization", "Bearer " + oldToken))
+                .andExpect(status().isOk());
+
+        UserResponseDTO user = userService.findUserById(userId);
+        userService.updateUser(userId, new UserRequestDTO(
+                user.name(),
+                user.email(),
+                null,
+                Role.ADMIN,
+                new ContactRequestDTO(user.contact().phone(), user.contact().phoneIsWhatsapp()),
+                user.specialties()
+        ));
+
+        mockMvc.perform(get("/api/v1/users/{id}", userId).header("Authorization", "Bearer " + oldToken))
+                .andExpect(status().isForbidden());
+
+        // Um novo login recebe a versão atual e o novo perfil
+        mockMvc.perform(get("/api/v1/users/{id}", 3L).header("Authorization", "Bearer " + tokenFor(userId)))
+                .andExpect(status().isOk());
+    }
+
+    private String tokenFor(Long userId) {
+        SystemUser user = systemUserRepository.findById(userId).orElseThrow();
+        return jwtService.generateToken(user);
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.rafaelmaia.mar_de_beleza_system.security.jwt;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.Role;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.io.Decoders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA==";
+
+    private JwtService jwtService;
+    private SystemUser user;
+
+    @BeforeEach
+    void setup() {
+        jwtService = new JwtService(SECRET, 100);
+
+        user = new SystemUser();
+        user.setId(7L);
+        user.setName("Profissional Teste");
+        user.setEmail("profissional@teste.com");
+        user.setRole(Role.ADMIN);
+    }
+
+    @Test
+    void givenGeneratedToken_whenParsing_thenShouldReturnAllClaimsAndReuseThemOnNextCall() {
+        String token = jwtService.generateToken(user);
+
+        JwtClaims claims = jwtService.parseToken(token);
+
+        assertThat(claims.subject()).isEqualTo("profissional@teste.com");
+        assertThat(claims.role()).isEqualTo("ADMIN");
+        assertThat(claims.userId()).isEqualTo(7L);
+        assertThat(claims.fullName()).isEqualTo("Profissional Teste");
+        assertThat(claims.expiresAt()).isAfter(Instant.now());
+
+        // Segunda leitura do mesmo token vem do cache, sem nova verificação de assinatura
+        assertThat(jwtService.parseToken(token)).isSameAs(claims);
+    }
+
+    @Test
+    void givenTamperedToken_whenParsing_thenShouldRejectEvenAfterOriginalWasCached() {
+        String token = jwtService.generateToken(user);
+        jwtService.parseToken(token);
+
+        String[] parts = token.split("\\.");
+        String otherUserToken = jwtService.generateToken(anotherUser());
+        String tampered = parts[0] + "." + otherUserToken.split("\\.")[1] + "." + parts[2];
+
+        assertThatThrownBy(() -> jwtService.parseToken(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void givenExpiredToken_whenParsing_thenShouldThrowExpiredJwtException() {
+        String expired = Jwts.builder()
+                .setSubject(user.getEmail())
+                .setIssuedAt(Date.from(Instant.now().minusSeconds(7200)))
+                .setExpiration(Date.from(Instant.now().minusSeconds(3600)))
+                .signWith(new SecretKeySpec(Decoders.BASE64.decode(SECRET), SignatureAlgorithm.HS256.getJcaName()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThatThrownBy(() -> jwtService.parseToken(expired)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void givenFullCache_whenAddingToken_thenShouldStayWithinTheLimitAndDropExpiredEntriesFirst() {
+        JwtClaimsCache cache = new JwtClaimsCache(2);
+        Instant now = Instant.now();
+
+        cache.put("expirado", claimsExpiringAt(now.minusSeconds(1)), now.minusSeconds(10));
+        cache.put("valido", claimsExpiringAt(now.plusSeconds(60)), now);
+        cache.put("novo", claimsExpiringAt(now.plusSeconds(60)), now);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("expirado", now)).isNull();
+        assertThat(cache.get("valido", now)).isNotNull();
+        assertThat(cache.get("novo", now)).isNotNull();
+
+        // Entrada válida quando gravada deixa de ser servida depois da expiração do token
+        assertThat(cache.get("valido", now.plusSeconds(61))).isNull();
+    }
+
+    private JwtClaims claimsExpiringAt(Instant expiresAt) {
+        return new JwtClaims("profissional@teste.com", "ADMIN", 7L, "Profissional Teste", 0L, expiresAt.minusSeconds(60), expiresAt);
+    }
+
+    private SystemUser anotherUser() {
+        SystemUser other = new SystemUser();
+        other.setId(8L);
+        other.setName("Outro Usuário");
+        other.setEmail("outro@teste.com");
+        other.setRole(Role.ADMIN);
+        return other;
+    }
+}
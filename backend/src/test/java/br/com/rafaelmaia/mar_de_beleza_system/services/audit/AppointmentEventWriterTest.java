@@ -0,0 +1,127 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.audit;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.AppointmentEvent;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentEventWriterTest {
+
+    @Mock
+    private AppointmentEventRepository eventRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AppointmentEventWriter writer;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    void givenFullBatch_whenEnqueuing_thenShouldWriteOneBatch() {
+        // Intervalo longo: só o tamanho do lote pode disparar a gravação
+        writer = newWriter(100, 3, 60_000);
+
+        for (long id = 1; id <= 3; id++) {
+            assertThat(writer.enqueue(statusChanged(id))).isTrue();
+        }
+
+        verify(eventRepository, timeout(2_000)).saveAll(argThat(batchOfSize(3)));
+        writer.shutdown();
+        assertThat(meterRegistry.counter("app.audit.events", "result", "written").count()).isEqualTo(3);
+    }
+
+    @Test
+    void givenPartialBatch_whenFlushIntervalElapses_thenShouldWriteIt() {
+        writer = newWriter(100, 100, 50);
+
+        writer.enqueue(statusChanged(1L));
+
+        verify(eventRepository, timeout(2_000)).saveAll(argThat(batchOfSize(1)));
+    }
+
+    @Test
+    void givenFullQueue_whenEnqueuing_thenShouldDropAndCount() throws InterruptedException {
+        // A primeira gravação fica presa até o teste liberar, então a fila (capacidade 1) enche
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(eventRepository.saveAll(anyList())).willAnswer(invocation -> {
+            saving.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        writer = newWriter(1, 1, 10);
+
+        writer.enqueue(statusChanged(1L));
+        assertThat(saving.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(writer.enqueue(statusChanged(2L))).isTrue();
+
+        assertThat(writer.enqueue(statusChanged(3L))).isFalse();
+        assertThat(meterRegistry.counter("app.audit.events", "result", "dropped").count()).isEqualTo(1);
+
+        release.countDown();
+        verify(eventRepository, timeout(2_000).times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void givenQueuedEvents_whenShuttingDown_thenShouldWriteThem() {
+        writer = newWriter(100, 100, 60_000);
+        writer.enqueue(statusChanged(1L));
+        writer.enqueue(statusChanged(2L));
+
+        writer.shutdown();
+
+        verify(eventRepository).saveAll(argThat(batchOfSize(2)));
+        assertThat(writer.enqueue(statusChanged(3L))).isFalse();
+    }
+
+    @Test
+    void givenFailingRepository_whenFlushing_thenShouldCountFailureWithoutThrowing() {
+        given(eventRepository.saveAll(anyList())).willThrow(new IllegalStateException("banco fora do ar"));
+        writer = newWriter(100, 1, 10);
+
+        writer.enqueue(statusChanged(1L));
+
+        verify(eventRepository, timeout(2_000)).saveAll(anyList());
+        writer.shutdown();
+        assertThat(meterRegistry.counter("app.audit.events", "result", "failed").count()).isEqualTo(1);
+    }
+
+    private AppointmentEventWriter newWriter(int queueCapacity, int batchSize, long flushIntervalMillis) {
+        return new AppointmentEventWriter(eventRepository, transactionManager, meterRegistry,
+                queueCapacity, batchSize, flushIntervalMillis, 20, 2_000);
+    }
+
+    private static ArgumentMatcher<Iterable<AppointmentEvent>> batchOfSize(int size) {
+        return events -> events instanceof Collection<?> batch && batch.size() == size;
+    }
+
+    private static AppointmentAuditEvent statusChanged(Long appointmentId) {
+        return AppointmentAuditEvent.statusChanged(appointmentId, AppointmentStatus.SCHEDULED, AppointmentStatus.CONFIRMED);
+    }
+}
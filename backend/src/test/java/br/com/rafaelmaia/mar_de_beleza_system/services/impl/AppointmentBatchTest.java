@@ -0,0 +1,111 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
+
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentBatchItemDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentBatchResultDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "jwt.secret=c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA==",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AppointmentBatchTest {
+
+    // Ana Silva (STAFF) e "Design de Sobrancelha com Henna" (45 min) no data.sql
+    private static final Long PROFESSIONAL_ID = 2L;
+    private static final Long SERVICE_ID = 1L;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void givenBatchWithInvalidAndOverlappingItems_whenCreating_thenShouldReportEachItemAndCreateTheRest() {
+        LocalDate day = LocalDate.now().plusYears(6);
+        List<AppointmentRequestDTO> requests = new ArrayList<>(sequentialRequests(day, 4));
+        requests.add(new AppointmentRequestDTO(999L, day.atTime(18, 0), SERVICE_ID, PROFESSIONAL_ID, null, null, null));
+        // Mesmo horário do primeiro item do lote
+        requests.add(new AppointmentRequestDTO(2L, day.atTime(8, 15), SERVICE_ID, PROFESSIONAL_ID, null, null, null));
+
+        AppointmentBatchResultDTO result = appointmentService.createBatch(requests);
+
+        assertThat(result.requested()).isEqualTo(6);
+        assertThat(result.created()).isEqualTo(4);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.results()).extracting(AppointmentBatchItemDTO::index).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(result.results().get(4).error()).contains("Cliente não encontrado");
+        assertThat(result.results().get(5).error()).contains("deste lote");
+        assertThat(result.results().subList(0, 4)).allSatisfy(item -> {
+            assertThat(item.created()).isTrue();
+            assertThat(item.appointment().id()).isNotNull();
+            // Sem preço no pedido: usa o preço do serviço
+            assertThat(item.appointment().price()).isEqualByComparingTo("50.00");
+        });
+
+        // Um segundo lote no mesmo dia esbarra nos agendamentos já gravados
+        AppointmentBatchResultDTO again = appointmentService.createBatch(sequentialRequests(day, 1));
+        assertThat(again.created()).isZero();
+        assertThat(again.results().get(0).error()).contains("já tem um agendamento");
+
+        List<ScheduleInterval> stored = appointmentRepository.findScheduleIntervals(
+                PROFESSIONAL_ID, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        assertThat(stored).hasSize(4);
+    }
+
+    @Test
+    void givenGrowingBatches_whenCreating_thenStatementCountShouldNotGrowWithTheBatch() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        appointmentService.createBatch(sequentialRequests(LocalDate.now().plusYears(6).plusDays(1), 5));
+        long smallBatch = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        AppointmentBatchResultDTO result = appointmentService.createBatch(sequentialRequests(LocalDate.now().plusYears(6).plusDays(2), 20));
+        long largeBatch = statistics.getPrepareStatementCount();
+
+        assertThat(result.created()).isEqualTo(20);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        // Mesmas consultas para 5 ou 20 itens; no máximo um "nextval" a mais quando o bloco da sequence vira
+        assertThat(largeBatch).isLessThanOrEqualTo(smallBatch + 1);
+    }
+
+    // Horários encadeados de 45 minutos a partir das 08:00, para clientes alternados
+    private List<AppointmentRequestDTO> sequentialRequests(LocalDate day, int size) {
+        List<AppointmentRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            requests.add(new AppointmentRequestDTO(
+                    1L + i % 3,
+                    day.atTime(8, 0).plusMinutes(45L * i),
+                    SERVICE_ID,
+                    PROFESSIONAL_ID,
+                    null,
+                    "Lote " + i,
+                    null));
+        }
+        return requests;
+    }
+}
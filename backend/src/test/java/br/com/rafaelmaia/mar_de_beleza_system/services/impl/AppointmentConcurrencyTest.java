@@ -0,0 +1,109 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
+
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.BusinessRuleException;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "jwt.secret=c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA=="
+})
+class AppointmentConcurrencyTest {
+
+    private static final int BOOKING_ATTEMPTS = 2000;
+    private static final int THREADS = 32;
+    private static final List<Long> PROFESSIONAL_IDS = List.of(2L, 3L, 4L);
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Test
+    void givenThousandsOfConcurrentBookings_whenCreating_thenNoProfessionalShouldBeDoubleBooked() throws Exception {
+        LocalDate day = LocalDate.now().plusYears(2);
+        Random random = new Random(7);
+
+        // Poucos horários possíveis para forçar muitas disputas pelo mesmo profissional e minuto
+        List<AppointmentRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i < BOOKING_ATTEMPTS; i++) {
+            requests.add(new AppointmentRequestDTO(
+                    1L + random.nextInt(3),
+                    day.atTime(8 + random.nextInt(10), random.nextInt(4) * 15),
+                    1L + random.nextInt(5),
+                    PROFESSIONAL_IDS.get(random.nextInt(PROFESSIONAL_IDS.size())),
+                    new BigDecimal("100.00"),
+                    "Teste de concorrência",
+                    null
+            ));
+        }
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (AppointmentRequestDTO request : requests) {
+            futures.add(executor.submit((Callable<Void>) () -> {
+                start.await();
+                try {
+                    appointmentService.create(request);
+                    created.incrementAndGet();
+                } catch (BusinessRuleException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            // Qualquer exceção diferente de BusinessRuleException falha o teste aqui
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(created.get() + rejected.get()).isEqualTo(BOOKING_ATTEMPTS);
+        assertThat(created.get()).isPositive();
+
+        for (Long professionalId : PROFESSIONAL_IDS) {
+            List<ScheduleInterval> intervals = new ArrayList<>(appointmentRepository.findScheduleIntervals(
+                    professionalId, day.atStartOfDay(), day.plusDays(1).atStartOfDay()));
+            intervals.sort(Comparator.comparing(ScheduleInterval::start));
+
+            for (int i = 1; i < intervals.size(); i++) {
+                LocalDateTime previousEnd = intervals.get(i - 1).end();
+                assertThat(intervals.get(i).start())
+                        .as("Agendamentos %s e %s se sobrepõem", intervals.get(i - 1).appointmentId(), intervals.get(i).appointmentId())
+                        .isAfterOrEqualTo(previousEnd);
+            }
+        }
+    }
+}
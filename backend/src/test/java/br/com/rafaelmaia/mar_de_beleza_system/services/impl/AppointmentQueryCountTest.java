@@ -0,0 +1,146 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.CursorPageDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.ClientRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SalonServiceRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "jwt.secret=c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA==",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AppointmentQueryCountTest {
+
+    private static final int APPOINTMENTS = 60;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private SystemUserRepository systemUserRepository;
+
+    @Autowired
+    private SalonServiceRepository salonServiceRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private LocalDate day;
+
+    @BeforeEach
+    void setup() {
+        day = LocalDate.now().plusYears(3);
+
+        // Agendamentos gravados direto no repositório: aqui só interessa a leitura
+        for (int i = 0; i < APPOINTMENTS; i++) {
+            LocalDateTime start = day.atTime(8, 0).plusMinutes(i * 10L);
+            appointmentRepository.save(Appointment.builder()
+                    .client(clientRepository.getReferenceById(1L + i % 3))
+                    .professional(systemUserRepository.getReferenceById(2L + i % 3))
+                    .service(salonServiceRepository.getReferenceById(1L + i % 5))
+                    .appointmentDate(start)
+                    .endDate(start.plusMinutes(10))
+                    .status(AppointmentStatus.SCHEDULED)
+                    .price(new BigDecimal("100.00"))
+                    .build());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void givenGrowingPageSizes_whenListingAppointmentsThroughProjection_thenStatementCountShouldStayConstant() {
+        long smallPage = statementsToList(5);
+        long mediumPage = statementsToList(20);
+        long largePage = statementsToList(50);
+
+        // Única via de listagem, a projeção (findRows): página + COUNT + especialidades em lote,
+        // independente do tamanho da página
+        assertThat(smallPage).isLessThanOrEqualTo(3);
+        assertThat(mediumPage).isEqualTo(smallPage);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void givenCursorPagination_whenWalkingAllPages_thenShouldReturnSameOrderAsOffsetWithoutCount() {
+        List<Long> offsetIds = appointmentService.findAllAppointments(
+                        day, day, null, null, null, PageRequest.of(0, APPOINTMENTS, Sort.by("appointmentDate", "id")))
+                .map(AppointmentResponseDTO::id)
+                .getContent();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Long> keysetIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            entityManager.clear();
+            statistics.clear();
+            CursorPageDTO<AppointmentResponseDTO> page = appointmentService.findAppointmentsByCursor(
+                    day, day, null, null, null, cursor, 7, Sort.Direction.ASC);
+
+            page.content().forEach(appointment -> keysetIds.add(appointment.id()));
+            cursor = page.nextCursor();
+
+            // Página + especialidades: nenhuma query de COUNT
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        } while (cursor != null);
+
+        assertThat(keysetIds).containsExactlyElementsOf(offsetIds);
+    }
+
+    private long statementsToList(int pageSize) {
+        // Contexto de persistência limpo para que nenhuma entidade venha do cache de primeiro nível
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<AppointmentResponseDTO> page = appointmentService.findAllAppointments(
+                day, day, null, null, null, PageRequest.of(0, pageSize, Sort.by("appointmentDate")));
+
+        assertThat(page.getContent()).hasSize(pageSize);
+        assertThat(page.getContent()).allSatisfy(appointment -> {
+            assertThat(appointment.client().contact()).isNotNull();
+            assertThat(appointment.professional().specialties()).isNotEmpty();
+        });
+        // Listagem por projeção: nenhuma entidade é hidratada no contexto de persistência
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        return statistics.getPrepareStatementCount();
+    }
+}
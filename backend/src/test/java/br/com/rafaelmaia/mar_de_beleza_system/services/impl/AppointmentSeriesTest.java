@@ -0,0 +1,140 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.AppointmentSeries;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSeriesRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentSeriesResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentSeriesRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.ClientRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SalonServiceRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentSeriesService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "jwt.secret=c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA==",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // Um ano de agenda, avançado só quando o teste pede
+        "app.series.horizon-days=364",
+        "app.series.advance-on-startup=false"
+})
+class AppointmentSeriesTest {
+
+    // "Design de Sobrancelha com Henna" (45 min) no data.sql
+    private static final Long SERVICE_ID = 1L;
+
+    @Autowired
+    private AppointmentSeriesService seriesService;
+
+    @Autowired
+    private AppointmentSeriesRepository seriesRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private SystemUserRepository systemUserRepository;
+
+    @Autowired
+    private SalonServiceRepository salonServiceRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void givenWeeklySeries_whenEditingThisAndFutureOccurrences_thenShouldSplitTheSeriesAndKeepPastOccurrences() {
+        LocalDate today = LocalDate.now();
+        LocalDate tomorrow = today.plusDays(1);
+
+        AppointmentSeriesResponseDTO weekly = seriesService.createSeries(
+                new AppointmentSeriesRequestDTO(1L, tomorrow.atTime(20, 0), SERVICE_ID, 2L, 7, null, null, "Semanal"));
+
+        // Amanhã + 7k até hoje + 364: 52 ocorrências
+        assertThat(weekly.skipped()).isEmpty();
+        assertThat(weekly.materializedUntil()).isEqualTo(today.plusDays(364));
+        assertThat(occurrencesOf(2L, tomorrow)).hasSize(52);
+
+        // A partir da quinta semana, passa a ser quinzenal e uma hora mais tarde
+        LocalDate from = tomorrow.plusDays(28);
+        AppointmentSeriesResponseDTO biweekly = seriesService.updateFrom(weekly.id(), from,
+                new AppointmentSeriesRequestDTO(1L, from.atTime(21, 0), SERVICE_ID, 2L, 14, null, null, "Quinzenal"));
+
+        assertThat(biweekly.id()).isNotEqualTo(weekly.id());
+        assertThat(seriesService.findSeriesById(weekly.id()).untilDate()).isEqualTo(from.minusDays(1));
+
+        // 4 ocorrências semanais antes da divisão + (hoje + 29) + 14k até hoje + 364: 24 quinzenais
+        List<LocalDateTime> starts = occurrencesOf(2L, tomorrow);
+        assertThat(starts).hasSize(28);
+        assertThat(starts).filteredOn(start -> start.getHour() == 20).allMatch(start -> start.toLocalDate().isBefore(from));
+        assertThat(starts).filteredOn(start -> start.getHour() == 21).hasSize(24);
+
+        seriesService.cancelFrom(biweekly.id(), from.plusDays(14));
+        assertThat(occurrencesOf(2L, tomorrow)).hasSize(5);
+    }
+
+    @Test
+    void givenHundredWeeklySeries_whenAdvancingTheHorizon_thenShouldMaterializeAYearInOneBatchedOperation() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        List<Client> clients = clientRepository.findAllById(List.of(1L, 2L, 3L));
+        List<SystemUser> professionals = systemUserRepository.findAllById(List.of(2L, 3L, 4L));
+        SalonService service = salonServiceRepository.findById(SERVICE_ID).orElseThrow();
+
+        // 34 séries por profissional, espalhadas pelos dias da semana e horários da manhã, sem sobreposição
+        List<AppointmentSeries> seriesList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int slot = i / 3;
+            LocalDateTime first = tomorrow.plusDays(slot % 7).atTime(8 + slot / 7, 0);
+            seriesList.add(AppointmentSeries.builder()
+                    .client(clients.get(i % 3))
+                    .professional(professionals.get(i % 3))
+                    .service(service)
+                    .firstOccurrence(first)
+                    .intervalInDays(7)
+                    .materializedUntil(first.toLocalDate().minusDays(1))
+                    .build());
+        }
+        seriesRepository.saveAll(seriesList);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        int advanced = seriesService.materializeDue();
+
+        assertThat(advanced).isEqualTo(100);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(100 * 52);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(100);
+        // Séries, cadastros, trava e agenda do período: número fixo de consultas para 5.200 ocorrências
+        assertThat(statistics.getQueryExecutionCount()).isLessThanOrEqualTo(10);
+    }
+
+    private List<LocalDateTime> occurrencesOf(Long professionalId, LocalDate from) {
+        return appointmentRepository.findScheduleIntervals(professionalId, from.atStartOfDay(), from.plusYears(1).atStartOfDay()).stream()
+                .filter(interval -> interval.start().getHour() >= 20)
+                .map(ScheduleInterval::start)
+                .sorted()
+                .toList();
+    }
+}
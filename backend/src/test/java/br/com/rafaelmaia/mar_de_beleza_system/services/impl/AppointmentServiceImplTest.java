@@ -3,19 +3,37 @@ package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Client;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentEventType;
 import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.SalonServiceResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.StatusUpdateRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.UserResponseDTO;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.ClientRepository;
 import br.com.rafaelmaia.mar_de_beleza_system.repository.SalonServiceRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.SalonServiceService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.UserService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.audit.AppointmentAuditEvent;
 import br.com.rafaelmaia.mar_de_beleza_system.services.exceptions.BusinessRuleException;
+import br.com.rafaelmaia.mar_de_beleza_system.services.export.RecordExportWriter;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.AppointmentBatchWriter;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.AppointmentScheduleIndex;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ProfessionalScheduleLock;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.ScheduleInterval;
+import br.com.rafaelmaia.mar_de_beleza_system.services.scheduling.SchedulingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -36,27 +54,59 @@ class AppointmentServiceImplTest {
     @Mock
     private ClientRepository clientRepository;
     @Mock
-    private ProfessionalRepository professionalRepository;
+    private SystemUserRepository professionalRepository;
     @Mock
     private SalonServiceRepository salonServiceRepository;
+    @Mock
+    private ProfessionalScheduleLock scheduleLock;
+    @Mock
+    private RollupService rollupService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private SalonServiceService salonServiceService;
+    @Mock
+    private AppointmentBatchWriter batchWriter;
+    @Mock
+    private RecordExportWriter exportWriter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
-    @InjectMocks
     private AppointmentServiceImpl appointmentService;
+    private SimpleMeterRegistry meterRegistry;
 
     // --- OBJETOS DE TESTE ---
     private Client client;
-    private Professional professional;
+    private SystemUser professional;
     private SalonService salonService;
     private AppointmentRequestDTO requestDTO;
 
     @BeforeEach
     void setup() {
+        // O índice de agenda é real e usa o repositório mockado quando o cache está frio
+        meterRegistry = new SimpleMeterRegistry();
+        appointmentService = new AppointmentServiceImpl(
+                appointmentRepository,
+                clientRepository,
+                professionalRepository,
+                salonServiceRepository,
+                new AppointmentScheduleIndex(appointmentRepository, 100),
+                scheduleLock,
+                rollupService,
+                userService,
+                salonServiceService,
+                batchWriter,
+                exportWriter,
+                new SchedulingMetrics(meterRegistry),
+                eventPublisher
+        );
+
         // Arrange: cria os dados de teste com base no padrão AAA (Arrange-Act-Assert)
         client = new Client();
         client.setId(1L);
         client.setName("Cliente Teste");
 
-        professional = new Professional();
+        professional = new SystemUser();
         professional.setId(1L);
         professional.setName("Profissional Teste");
 
@@ -79,11 +129,12 @@ class AppointmentServiceImplTest {
 
     @Test
     void givenNoConflicts_whenCreateAppointment_thenAppointmentShouldBeCreatedSuccessfully() {
-        given(appointmentRepository.findPotentialConflicts(any(), any(), any())).willReturn(Collections.emptyList());
+        given(appointmentRepository.findScheduleIntervals(any(), any(), any())).willReturn(Collections.emptyList());
 
         given(clientRepository.findById(client.getId())).willReturn(Optional.of(client));
-        given(professionalRepository.findById(professional.getId())).willReturn(Optional.of(professional));
-        given(salonServiceRepository.findById(salonService.getId())).willReturn(Optional.of(salonService));
+        // Profissional e serviço vêm dos serviços de cadastro (cacheados), não dos repositórios
+        given(userService.findUserById(professional.getId())).willReturn(UserResponseDTO.fromEntity(professional));
+        given(salonServiceService.findServiceById(salonService.getId())).willReturn(SalonServiceResponseDTO.fromEntity(salonService));
 
         given(appointmentRepository.save(any(Appointment.class))).willAnswer(invocation -> {
             Appointment appointmentToSave = invocation.getArgument(0);
@@ -109,9 +160,11 @@ class AppointmentServiceImplTest {
         existingAppointment.setService(existingService);
 
         given(clientRepository.findById(anyLong())).willReturn(Optional.of(client));
-        given(professionalRepository.findById(anyLong())).willReturn(Optional.of(professional));
-        given(salonServiceRepository.findById(anyLong())).willReturn(Optional.of(salonService));
-        given(appointmentRepository.findPotentialConflicts(any(), any(), any())).willReturn(List.of(existingAppointment));
+        given(userService.findUserById(anyLong())).willReturn(UserResponseDTO.fromEntity(professional));
+        given(salonServiceService.findServiceById(anyLong())).willReturn(SalonServiceResponseDTO.fromEntity(salonService));
+        given(appointmentRepository.findScheduleIntervals(any(), any(), any()))
+                .willReturn(List.of(ScheduleInterval.of(existingAppointment, professional.getId())));
+        given(appointmentRepository.existsOverlapping(any(), any(), any(), any())).willReturn(true);
 
         // Ao tentar executar o appointmentService.create uma BusinessRuleException é lançada
         assertThatThrownBy(() -> appointmentService.create(requestDTO))
@@ -120,6 +173,36 @@ class AppointmentServiceImplTest {
 
         // Garante que o fluxo foi interrompido e nenhum agendamento foi salvo
         verify(appointmentRepository, never()).save(any(Appointment.class));
+
+        // O índice apontou o conflito, o banco confirmou e ele foi contado como conflito do índice
+        assertThat(meterRegistry.counter("app.booking.conflicts", "cause", SchedulingMetrics.CONFLICT_INDEX).count()).isEqualTo(1);
+        assertThat(meterRegistry.summary("app.booking.conflict.check.rows", "path", "single").count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenAppointmentRemovedBehindTheIndex_whenCreateAppointment_thenShouldTrustTheDatabaseAndReloadTheDay() {
+        // O índice carregou um agendamento que outra instância cancelou depois: o banco não tem mais o conflito
+        Appointment removedElsewhere = new Appointment();
+        removedElsewhere.setId(5L);
+        removedElsewhere.setAppointmentDate(LocalDateTime.of(2025, 8, 10, 9, 30));
+        SalonService existingService = new SalonService();
+        existingService.setDurationInMinutes(60);
+        removedElsewhere.setService(existingService);
+
+        given(clientRepository.findById(anyLong())).willReturn(Optional.of(client));
+        given(userService.findUserById(anyLong())).willReturn(UserResponseDTO.fromEntity(professional));
+        given(salonServiceService.findServiceById(anyLong())).willReturn(SalonServiceResponseDTO.fromEntity(salonService));
+        given(appointmentRepository.findScheduleIntervals(any(), any(), any()))
+                .willReturn(List.of(ScheduleInterval.of(removedElsewhere, professional.getId())), Collections.emptyList());
+        given(appointmentRepository.existsOverlapping(any(), any(), any(), any())).willReturn(false);
+        given(appointmentRepository.save(any(Appointment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(appointmentService.create(requestDTO)).isNotNull();
+        assertThat(meterRegistry.counter("app.booking.conflicts", "cause", SchedulingMetrics.CONFLICT_INDEX).count()).isZero();
+
+        // O dia desatualizado foi descartado: a próxima checagem lê a agenda do banco de novo
+        appointmentService.create(requestDTO);
+        verify(appointmentRepository, times(2)).findScheduleIntervals(any(), any(), any());
     }
 
     @Test
@@ -137,8 +220,8 @@ class AppointmentServiceImplTest {
         given(clientRepository.findById(anyLong())).willReturn(Optional.of(client));
         given(professionalRepository.findById(anyLong())).willReturn(Optional.of(professional));
         given(salonServiceRepository.findById(anyLong())).willReturn(Optional.of(salonService));
-        given(appointmentRepository.findPotentialConflicts(any(), any(), any())).willReturn(Collections.emptyList());
-        given(appointmentRepository.save(any(Appointment.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(appointmentRepository.findScheduleIntervals(any(), any(), any())).willReturn(Collections.emptyList());
+        given(appointmentRepository.saveAndFlush(any(Appointment.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         AppointmentResponseDTO updatedAppointment = appointmentService.update(10L, updateRequest);
 
@@ -175,12 +258,34 @@ class AppointmentServiceImplTest {
         given(clientRepository.findById(anyLong())).willReturn(Optional.of(client));
         given(professionalRepository.findById(anyLong())).willReturn(Optional.of(professional));
         given(salonServiceRepository.findById(anyLong())).willReturn(Optional.of(salonService));
-        given(appointmentRepository.findPotentialConflicts(any(), any(), any())).willReturn(List.of(conflictingAppointment));
+        given(appointmentRepository.findScheduleIntervals(any(), any(), any()))
+                .willReturn(List.of(ScheduleInterval.of(conflictingAppointment)));
+        given(appointmentRepository.existsOverlapping(any(), any(), any(), any())).willReturn(true);
 
         assertThatThrownBy(() -> appointmentService.update(10L, updateRequestWithConflict))
                 .isInstanceOf(BusinessRuleException.class)
                 .hasMessageContaining("Conflito de horário");
 
-        verify(appointmentRepository, never()).save(any(Appointment.class));
+        verify(appointmentRepository, never()).saveAndFlush(any(Appointment.class));
+    }
+
+    @Test
+    void givenScheduledAppointment_whenUpdateStatus_thenShouldPublishStatusChangedEvent() {
+        Appointment appointment = new Appointment();
+        appointment.setId(10L);
+        appointment.setStatus(AppointmentStatus.SCHEDULED);
+
+        given(appointmentRepository.findById(10L)).willReturn(Optional.of(appointment));
+        given(appointmentRepository.saveAndFlush(any(Appointment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        appointmentService.updateStatus(10L, new StatusUpdateRequestDTO(AppointmentStatus.CONFIRMED));
+
+        // O evento leva o status anterior e o novo para a trilha de auditoria
+        ArgumentCaptor<AppointmentAuditEvent> event = ArgumentCaptor.forClass(AppointmentAuditEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().eventType()).isEqualTo(AppointmentEventType.STATUS_CHANGED);
+        assertThat(event.getValue().appointmentId()).isEqualTo(10L);
+        assertThat(event.getValue().previousStatus()).isEqualTo(AppointmentStatus.SCHEDULED);
+        assertThat(event.getValue().newStatus()).isEqualTo(AppointmentStatus.CONFIRMED);
     }
-}
\ No newline at end of file
+}
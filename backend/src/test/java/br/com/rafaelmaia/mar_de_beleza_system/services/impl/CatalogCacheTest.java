@@ -0,0 +1,124 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
+
+import br.com.rafaelmaia.mar_de_beleza_system.config.CacheConfig;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.ServiceType;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.PasswordChangeRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.SalonServiceRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.SalonServiceResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.UserResponseDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.SalonServiceService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.UserService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "jwt.secret=c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA==",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CatalogCacheTest {
+
+    @Autowired
+    private SalonServiceService salonServiceService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private SystemUserRepository systemUserRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void givenCatalogAlreadyRead_whenReadingAgain_thenShouldNotQueryTheDatabaseUntilItChanges() {
+        Statistics statistics = statistics();
+
+        salonServiceService.findAllServices();
+        userService.findAllUsers(true);
+
+        statistics.clear();
+        List<SalonServiceResponseDTO> cachedServices = salonServiceService.findAllServices();
+        userService.findAllUsers(true);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // Cadastro de serviço remove a lista do cache: a próxima leitura vê o novo serviço
+        SalonServiceResponseDTO created = salonServiceService.createService(
+                new SalonServiceRequestDTO("Escova Teste", ServiceType.HAIR, 30, new BigDecimal("40.00")));
+        List<SalonServiceResponseDTO> refreshed = salonServiceService.findAllServices();
+        assertThat(refreshed).hasSize(cachedServices.size() + 1).contains(created);
+
+        assertThat(cacheGets(CacheConfig.SALON_SERVICES, "hit")).isGreaterThanOrEqualTo(1);
+        assertThat(cacheGets(CacheConfig.SALON_SERVICES, "miss")).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void givenWarmCatalog_whenCreatingAppointment_thenProfessionalAndServiceShouldNotBeSelected() {
+        salonServiceService.findServiceById(1L);
+        userService.findUserById(2L);
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        appointmentService.create(new AppointmentRequestDTO(
+                1L, LocalDate.now().plusYears(5).atTime(10, 0), 1L, 2L, new BigDecimal("80.00"), null, null));
+
+        // Só o cliente é carregado como entidade; profissional e serviço entram como referências
+        assertThat(statistics.getEntityStatistics(SystemUser.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(SalonService.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    void givenCachedUser_whenChangingPassword_thenNextReadShouldCarryTheNewVersion() {
+        // Beatriz Costa no data.sql, com uma senha conhecida pelo teste
+        SystemUser user = systemUserRepository.findById(3L).orElseThrow();
+        user.setPassword(passwordEncoder.encode("senha-antiga"));
+        systemUserRepository.save(user);
+
+        UserResponseDTO cached = userService.findUserById(3L);
+        userService.changePassword(3L, new PasswordChangeRequestDTO("senha-antiga", "senha-nova", "senha-nova"));
+
+        // Sem a remoção do cache, a versão (e o ETag) ficaria a de antes da troca
+        assertThat(userService.findUserById(3L).version()).isGreaterThan(cached.version());
+    }
+
+    private double cacheGets(String cache, String result) {
+        FunctionCounter counter = meterRegistry.find("cache.gets").tag("cache", cache).tag("result", result).functionCounter();
+        assertThat(counter).as("Métrica cache.gets de %s (%s)", cache, result).isNotNull();
+        return counter.count();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
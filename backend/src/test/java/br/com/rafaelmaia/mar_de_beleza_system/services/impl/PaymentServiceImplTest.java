@@ -0,0 +1,155 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.impl;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Payment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentEventType;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentMethod;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenuePeriod;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenuePeriodDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.RevenueReportDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.PaymentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.SystemUserRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.audit.AppointmentAuditEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceImplTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private SystemUserRepository systemUserRepository;
+
+    @Mock
+    private RollupService rollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PaymentServiceImpl paymentService;
+
+    // Só os testes de relatório usam os totais diários (stubs estritos falham se sobrarem)
+    private void givenDailyRevenue() {
+        // Quinta 31/07, segunda 04/08, terça 05/08, domingo 10/08 e segunda 11/08
+        given(paymentRepository.sumRevenueByDay(any())).willReturn(List.of(
+                day(LocalDate.of(2025, 7, 31), "100.00", 1),
+                day(LocalDate.of(2025, 8, 4), "50.00", 2),
+                day(LocalDate.of(2025, 8, 5), "75.50", 1),
+                day(LocalDate.of(2025, 8, 10), "20.00", 1),
+                day(LocalDate.of(2025, 8, 11), "30.00", 3)
+        ));
+        given(paymentRepository.sumRevenueByPaymentMethod(any())).willReturn(List.of());
+        given(paymentRepository.sumRevenueByProfessional(any())).willReturn(List.of());
+    }
+
+    @Test
+    void givenDailyTotals_whenGroupingByWeek_thenShouldSumDaysFromMondayToSunday() {
+        givenDailyRevenue();
+
+        RevenueReportDTO report = paymentService.generateRevenueReport(null, null, null, null, RevenuePeriod.WEEK);
+
+        assertThat(report.status()).isEqualTo(PaymentStatus.PAID);
+        assertThat(report.totalRevenue()).isEqualByComparingTo("275.50");
+        assertThat(report.paymentCount()).isEqualTo(8);
+        assertThat(report.periods()).containsExactly(
+                day(LocalDate.of(2025, 7, 28), "100.00", 1),
+                day(LocalDate.of(2025, 8, 4), "145.50", 4),
+                day(LocalDate.of(2025, 8, 11), "30.00", 3)
+        );
+    }
+
+    @Test
+    void givenDailyTotals_whenGroupingByMonth_thenShouldSumDaysOfEachMonth() {
+        givenDailyRevenue();
+
+        RevenueReportDTO report = paymentService.generateRevenueReport(null, null, null, PaymentStatus.PAID, RevenuePeriod.MONTH);
+
+        assertThat(report.periods()).containsExactly(
+                day(LocalDate.of(2025, 7, 1), "100.00", 1),
+                day(LocalDate.of(2025, 8, 1), "175.50", 7)
+        );
+    }
+
+    @Test
+    void givenScheduledAppointment_whenCreatingPayment_thenShouldPublishPaymentRegisteredEvent() {
+        Appointment appointment = new Appointment();
+        appointment.setId(10L);
+        appointment.setStatus(AppointmentStatus.SCHEDULED);
+
+        given(appointmentRepository.findById(10L)).willReturn(Optional.of(appointment));
+        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> {
+            Payment payment = invocation.getArgument(0);
+            payment.setId(20L);
+            return payment;
+        });
+
+        paymentService.create(new PaymentRequestDTO(10L, new BigDecimal("80.00"), PaymentMethod.PIX, null));
+
+        // O agendamento passa de SCHEDULED para DONE junto com o registro do pagamento
+        ArgumentCaptor<AppointmentAuditEvent> event = ArgumentCaptor.forClass(AppointmentAuditEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().eventType()).isEqualTo(AppointmentEventType.PAYMENT_REGISTERED);
+        assertThat(event.getValue().appointmentId()).isEqualTo(10L);
+        assertThat(event.getValue().paymentId()).isEqualTo(20L);
+        assertThat(event.getValue().previousStatus()).isEqualTo(AppointmentStatus.SCHEDULED);
+        assertThat(event.getValue().newStatus()).isEqualTo(AppointmentStatus.DONE);
+        assertThat(event.getValue().amount()).isEqualByComparingTo("80.00");
+    }
+
+    @Test
+    void givenPaidPayment_whenCanceling_thenShouldPublishPaymentCanceledEvent() {
+        Appointment appointment = new Appointment();
+        appointment.setId(10L);
+        appointment.setStatus(AppointmentStatus.DONE);
+        Payment payment = Payment.builder()
+                .id(20L)
+                .appointment(appointment)
+                .totalAmount(new BigDecimal("80.00"))
+                .status(PaymentStatus.PAID)
+                .build();
+
+        given(paymentRepository.findById(20L)).willReturn(Optional.of(payment));
+
+        paymentService.cancelPayment(20L);
+
+        // O cancelamento não altera o status do agendamento, então o evento não leva status
+        ArgumentCaptor<AppointmentAuditEvent> event = ArgumentCaptor.forClass(AppointmentAuditEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().eventType()).isEqualTo(AppointmentEventType.PAYMENT_CANCELED);
+        assertThat(event.getValue().appointmentId()).isEqualTo(10L);
+        assertThat(event.getValue().paymentId()).isEqualTo(20L);
+        assertThat(event.getValue().previousStatus()).isNull();
+        assertThat(event.getValue().newStatus()).isNull();
+        assertThat(event.getValue().amount()).isEqualByComparingTo("80.00");
+    }
+
+    private RevenuePeriodDTO day(LocalDate date, String total, long count) {
+        return new RevenuePeriodDTO(date, new BigDecimal(total), count);
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.rollup;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.DailyRollup;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.DailyRollupId;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Payment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentMethod;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.PaymentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.AppointmentRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.PaymentRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.dto.StatusUpdateRequestDTO;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.DailyRollupRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.PaymentRepository;
+import br.com.rafaelmaia.mar_de_beleza_system.services.AppointmentService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.PaymentService;
+import br.com.rafaelmaia.mar_de_beleza_system.services.RollupService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "jwt.secret=c2V1LXNlZ3JlZG8tZm9ydGUtZS1sb25nby1wYXJhLXRlc3Rlcy1jb20tcGVsb21lbm9zLTY0LWJ5dGVzLWVtLWJhc2U2NA=="
+})
+class RollupConsistencyTest {
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void givenBookingsAndPaymentsLifecycle_whenComparingRollups_thenShouldMatchFullRecomputation() {
+        LocalDateTime day = LocalDate.now().plusYears(4).atTime(9, 0);
+
+        // Criação, remarcação, mudanças de status, exclusão, pagamento, edição e cancelamento de pagamento
+        Long haircut = appointmentService.create(request(1L, day, 3L, 2L)).id();
+        Long eyebrow = appointmentService.create(request(2L, day.plusHours(2), 1L, 2L)).id();
+        Long hydration = appointmentService.create(request(3L, day.plusHours(4), 5L, 2L)).id();
+        Long manicure = appointmentService.create(request(1L, day, 4L, 4L)).id();
+        Long removed = appointmentService.create(request(2L, day.plusHours(6), 2L, 3L)).id();
+
+        appointmentService.update(eyebrow, request(2L, day.plusDays(1).withHour(10), 5L, 2L));
+        appointmentService.updateStatus(hydration, new StatusUpdateRequestDTO(AppointmentStatus.CANCELED));
+        appointmentService.updateStatus(manicure, new StatusUpdateRequestDTO(AppointmentStatus.NO_SHOW));
+        appointmentService.delete(removed);
+
+        paymentService.create(new PaymentRequestDTO(haircut, new BigDecimal("150.00"), PaymentMethod.PIX, null));
+        Long eyebrowPayment = paymentService.create(new PaymentRequestDTO(eyebrow, new BigDecimal("130.00"), PaymentMethod.CASH, null)).id();
+        paymentService.update(eyebrowPayment, new PaymentRequestDTO(eyebrow, new BigDecimal("125.50"), PaymentMethod.CREDIT_CARD, null));
+        paymentService.cancelPayment(eyebrowPayment);
+        paymentService.create(new PaymentRequestDTO(appointmentService.create(request(3L, day.plusHours(8), 1L, 2L)).id(),
+                new BigDecimal("50.00"), PaymentMethod.PIX, null));
+
+        Map<DailyRollupId, Totals> expected = recomputeFromEntities();
+
+        assertThat(storedRollups()).isEqualTo(expected);
+
+        // A reconstrução pelo banco deve chegar exatamente ao mesmo resultado
+        rollupService.rebuildAll();
+        assertThat(storedRollups()).isEqualTo(expected);
+    }
+
+    // Recalcula os totais em Java, direto das entidades, sem passar por RollupDelta nem pelo SQL de reconstrução
+    private Map<DailyRollupId, Totals> recomputeFromEntities() {
+        return transactionTemplate.execute(status -> {
+            Map<DailyRollupId, Totals> totals = new HashMap<>();
+
+            for (Appointment appointment : appointmentRepository.findAll()) {
+                DailyRollupId key = new DailyRollupId(appointment.getAppointmentDate().toLocalDate(),
+                        appointment.getProfessional().getId(), appointment.getService().getServiceType());
+                AppointmentStatus appointmentStatus = appointment.getStatus();
+                boolean canceled = appointmentStatus == AppointmentStatus.CANCELED;
+
+                totals.merge(key, new Totals(
+                        BigDecimal.ZERO.setScale(2),
+                        0,
+                        canceled ? 0 : 1,
+                        appointmentStatus == AppointmentStatus.DONE ? 1 : 0,
+                        canceled ? 1 : 0,
+                        appointmentStatus == AppointmentStatus.NO_SHOW ? 1 : 0,
+                        canceled ? 0 : Duration.between(appointment.getAppointmentDate(), appointment.getEndDate()).toMinutes()
+                ), Totals::plus);
+            }
+
+            for (Payment payment : paymentRepository.findAll()) {
+                if (payment.getStatus() != PaymentStatus.PAID) {
+                    continue;
+                }
+                Appointment appointment = payment.getAppointment();
+                DailyRollupId key = new DailyRollupId(payment.getPaymentDate().toLocalDate(),
+                        appointment.getProfessional().getId(), appointment.getService().getServiceType());
+
+                totals.merge(key, new Totals(payment.getTotalAmount().setScale(2, RoundingMode.UNNECESSARY), 1, 0, 0, 0, 0, 0), Totals::plus);
+            }
+            return totals;
+        });
+    }
+
+    // Linhas zeradas podem sobrar das atualizações incrementais e não contam como diferença
+    private Map<DailyRollupId, Totals> storedRollups() {
+        Map<DailyRollupId, Totals> stored = new HashMap<>();
+        for (DailyRollup rollup : rollupRepository.findAll()) {
+            Totals totals = new Totals(rollup.getRevenue().setScale(2, RoundingMode.UNNECESSARY), rollup.getPaymentCount(),
+                    rollup.getAppointmentCount(), rollup.getDoneCount(), rollup.getCanceledCount(),
+                    rollup.getNoShowCount(), rollup.getBookedMinutes());
+            if (!totals.isZero()) {
+                stored.put(rollup.getId(), totals);
+            }
+        }
+        return stored;
+    }
+
+    private AppointmentRequestDTO request(Long clientId, LocalDateTime date, Long serviceId, Long professionalId) {
+        return new AppointmentRequestDTO(clientId, date, serviceId, professionalId, new BigDecimal("100.00"), null, null);
+    }
+
+    private record Totals(BigDecimal revenue, long paymentCount, long appointmentCount, long doneCount,
+                          long canceledCount, long noShowCount, long bookedMinutes) {
+
+        Totals plus(Totals other) {
+            return new Totals(revenue.add(other.revenue), paymentCount + other.paymentCount,
+                    appointmentCount + other.appointmentCount, doneCount + other.doneCount,
+                    canceledCount + other.canceledCount, noShowCount + other.noShowCount,
+                    bookedMinutes + other.bookedMinutes);
+        }
+
+        boolean isZero() {
+            return revenue.signum() == 0 && paymentCount == 0 && appointmentCount == 0 && doneCount == 0
+                    && canceledCount == 0 && noShowCount == 0 && bookedMinutes == 0;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.Appointment;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SalonService;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.entity.SystemUser;
+import br.com.rafaelmaia.mar_de_beleza_system.domain.enums.AppointmentStatus;
+import br.com.rafaelmaia.mar_de_beleza_system.repository.AppointmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentScheduleIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 8, 10);
+    private static final Long PROFESSIONAL_ID = 1L;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    private AppointmentScheduleIndex scheduleIndex;
+    private SystemUser professional;
+
+    @BeforeEach
+    void setup() {
+        scheduleIndex = new AppointmentScheduleIndex(appointmentRepository, 100);
+        professional = new SystemUser();
+        professional.setId(PROFESSIONAL_ID);
+    }
+
+    @Test
+    void givenRandomDays_whenCheckingConflicts_thenIndexShouldAnswerExactlyLikeTheRepositoryLoop() {
+        Random random = new Random(42);
+
+        for (int round = 0; round < 200; round++) {
+            // Agendas aleatórias, inclusive com sobreposições já existentes no banco
+            List<Appointment> dayAppointments = randomDay(random, random.nextInt(30));
+            AppointmentScheduleIndex index = new AppointmentScheduleIndex(appointmentRepository, 100);
+            given(appointmentRepository.findScheduleIntervals(eq(PROFESSIONAL_ID), any(), any())).willReturn(intervalsOf(dayAppointments));
+
+            for (int query = 0; query < 200; query++) {
+                LocalDateTime start = DAY.atTime(random.nextInt(24), random.nextInt(60), random.nextInt(60));
+                LocalDateTime end = start.plusMinutes(15 + random.nextInt(180));
+                Long idToIgnore = dayAppointments.isEmpty() || random.nextBoolean()
+                        ? null
+                        : dayAppointments.get(random.nextInt(dayAppointments.size())).getId();
+
+                boolean expected = legacyLoopHasConflict(dayAppointments, start, end, idToIgnore);
+                Optional<ScheduleInterval> conflict = index.findConflict(PROFESSIONAL_ID, start, end, idToIgnore);
+
+                assertThat(conflict.isPresent()).isEqualTo(expected);
+                conflict.ifPresent(interval -> {
+                    assertThat(interval.overlaps(start, end)).isTrue();
+                    assertThat(interval.appointmentId()).isNotEqualTo(idToIgnore);
+                });
+            }
+        }
+    }
+
+    @Test
+    void givenWarmDay_whenAppointmentsChange_thenIndexShouldFollowWithoutReloading() {
+        Appointment existing = appointment(1L, DAY.atTime(10, 0), 60, AppointmentStatus.SCHEDULED);
+        given(appointmentRepository.findScheduleIntervals(eq(PROFESSIONAL_ID), any(), any()))
+                .willReturn(intervalsOf(List.of(existing)));
+
+        assertThat(scheduleIndex.findConflict(PROFESSIONAL_ID, DAY.atTime(10, 30), DAY.atTime(11, 0), null)).isPresent();
+
+        // Novo agendamento das 14h às 15h
+        Appointment created = appointment(2L, DAY.atTime(14, 0), 60, AppointmentStatus.SCHEDULED);
+        scheduleIndex.replace(null, ScheduleInterval.of(created));
+        assertThat(scheduleIndex.findConflict(PROFESSIONAL_ID, DAY.atTime(14, 30), DAY.atTime(15, 30), null))
+                .map(ScheduleInterval::appointmentId)
+                .contains(2L);
+
+        // Cancelamento libera o horário
+        ScheduleInterval beforeCancel = ScheduleInterval.of(existing);
+        existing.setStatus(AppointmentStatus.CANCELED);
+        scheduleIndex.replace(beforeCancel, ScheduleInterval.of(existing));
+        assertThat(scheduleIndex.findConflict(PROFESSIONAL_ID, DAY.atTime(10, 30), DAY.atTime(11, 0), null)).isEmpty();
+
+        // Encostar no fim de outro agendamento não é conflito: [15:00, 16:00) depois de [14:00, 15:00)
+        assertThat(scheduleIndex.findConflict(PROFESSIONAL_ID, DAY.atTime(15, 0), DAY.atTime(16, 0), null)).isEmpty();
+
+        verify(appointmentRepository, times(1)).findScheduleIntervals(eq(PROFESSIONAL_ID), any(), any());
+    }
+
+    // Cópia da verificação original de AppointmentServiceImpl, usada como referência
+    private boolean legacyLoopHasConflict(List<Appointment> existingAppointments, LocalDateTime startTime, LocalDateTime endTime, Long id) {
+        for (Appointment existing : existingAppointments) {
+            if (existing.getId().equals(id)) {
+                continue;
+            }
+            LocalDateTime existingStartTime = existing.getAppointmentDate();
+            LocalDateTime existingEndTime = existingStartTime.plusMinutes(existing.getService().getDurationInMinutes());
+
+            if (startTime.isBefore(existingEndTime) && endTime.isAfter(existingStartTime)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<ScheduleInterval> intervalsOf(List<Appointment> appointments) {
+        return appointments.stream().map(ScheduleInterval::of).toList();
+    }
+
+    private List<Appointment> randomDay(Random random, int size) {
+        List<Appointment> appointments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            LocalDateTime start = DAY.atTime(random.nextInt(24), random.nextInt(4) * 15);
+            appointments.add(appointment((long) i + 1, start, 15 + random.nextInt(12) * 15, AppointmentStatus.SCHEDULED));
+        }
+        return appointments;
+    }
+
+    private Appointment appointment(Long id, LocalDateTime start, int durationInMinutes, AppointmentStatus status) {
+        SalonService service = new SalonService();
+        service.setDurationInMinutes(durationInMinutes);
+
+        Appointment appointment = new Appointment();
+        appointment.setId(id);
+        appointment.setProfessional(professional);
+        appointment.setService(service);
+        appointment.setAppointmentDate(start);
+        appointment.setStatus(status);
+        return appointment;
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.rafaelmaia.mar_de_beleza_system.services.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotFinderTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 8, 11);
+    private static final Duration STEP = Duration.ofMinutes(15);
+
+    @Test
+    void givenRandomWeeks_whenFindingFreeSlots_thenShouldMatchBruteForceCheckOfEverySlot() {
+        Random random = new Random(42);
+
+        for (int round = 0; round < 300; round++) {
+            List<TimeSlot> openingHours = week(8, 19);
+            // Agendas com sobreposições, agendamentos fora do expediente e atravessando a meia-noite
+            List<ScheduleInterval> intervals = randomIntervals(random, random.nextInt(60));
+            Duration duration = Duration.ofMinutes(15 + random.nextInt(12) * 15L);
+            LocalDateTime earliestStart = MONDAY.atStartOfDay().plusMinutes(random.nextInt(3 * 24 * 60));
+
+            List<TimeSlot> expected = bruteForce(openingHours, earliestStart, duration, intervals);
+
+            assertThat(SlotFinder.freeSlots(openingHours, earliestStart, duration, STEP, intervals))
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void givenBusyMorning_whenFindingFreeSlots_thenShouldStartRightAfterTheLastAppointmentOnTheGrid() {
+        List<TimeSlot> openingHours = List.of(new TimeSlot(MONDAY.atTime(8, 0), MONDAY.atTime(12, 0)));
+        List<ScheduleInterval> intervals = List.of(
+                new ScheduleInterval(1L, 1L, MONDAY.atTime(8, 0), MONDAY.atTime(9, 40)),
+                new ScheduleInterval(2L, 1L, MONDAY.atTime(9, 0), MONDAY.atTime(10, 0)),
+                new ScheduleInterval(3L, 1L, MONDAY.atTime(11, 0), MONDAY.atTime(11, 30))
+        );
+
+        List<TimeSlot> slots = SlotFinder.freeSlots(openingHours, MONDAY.atStartOfDay(), Duration.ofMinutes(60), STEP, intervals);
+
+        // Das 10h às 11h cabe só um horário de 1h; depois das 11h30 o expediente termina antes de outro caber
+        assertThat(slots).containsExactly(new TimeSlot(MONDAY.atTime(10, 0), MONDAY.atTime(11, 0)));
+    }
+
+    private List<TimeSlot> bruteForce(List<TimeSlot> openingHours, LocalDateTime earliestStart, Duration duration,
+                                      List<ScheduleInterval> intervals) {
+        List<TimeSlot> slots = new ArrayList<>();
+        for (TimeSlot window : openingHours) {
+            for (LocalDateTime start = window.start(); !start.plus(duration).isAfter(window.end()); start = start.plus(STEP)) {
+                LocalDateTime end = start.plus(duration);
+                if (start.isBefore(earliestStart)) {
+                    continue;
+                }
+                LocalDateTime slotStart = start;
+                boolean busy = intervals.stream().anyMatch(interval -> interval.overlaps(slotStart, end));
+                if (!busy) {
+                    slots.add(new TimeSlot(start, end));
+                }
+            }
+        }
+        return slots;
+    }
+
+    private List<TimeSlot> week(int openingHour, int closingHour) {
+        List<TimeSlot> openingHours = new ArrayList<>();
+        for (int day = 0; day < 6; day++) {
+            LocalDate date = MONDAY.plusDays(day);
+            openingHours.add(new TimeSlot(date.atTime(openingHour, 0), date.atTime(closingHour, 0)));
+        }
+        return openingHours;
+    }
+
+    private List<ScheduleInterval> randomIntervals(Random random, int size) {
+        List<ScheduleInterval> intervals = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            LocalDateTime start = MONDAY.atStartOfDay().plusMinutes(random.nextInt(6 * 24 * 60));
+            LocalDateTime end = start.plusMinutes(10 + random.nextInt(random.nextInt(10) == 0 ? 24 * 60 : 180));
+            intervals.add(new ScheduleInterval((long) i, 1L, start, end));
+        }
+        intervals.sort(Comparator.comparing(ScheduleInterval::start));
+        return intervals;
+    }
+}